@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.6"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.loopone"
@@ -52,6 +53,7 @@ dependencies {
 
     // redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("com.github.ben-manes.caffeine:caffeine") // 로컬(L1) 캐시
 
     // aws s3
     implementation(platform("software.amazon.awssdk:bom:2.24.0"))
@@ -99,9 +101,20 @@ dependencies {
 
     // Resilience4j
     implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
+
+    // JMH (DB 벤치마크용 Postgres 컨테이너)
+    jmh("org.testcontainers:postgresql")
+    jmh("org.postgresql:postgresql")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
     systemProperty("spring.profiles.active", "test")
 }
+
+// 마이크로 벤치마크 (src/jmh/java) - 실행: ./gradlew jmh
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
@@ -0,0 +1,168 @@
+package com.loopone.loopinbe.domain.loop.loop.repository;
+
+import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
+import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.domain.loop.loopChecklist.entity.LoopChecklist;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 5년 WEEKLY(월/수/금) 루프 + 체크리스트 3개 저장 - 단건 INSERT(jdbcBatchSize=1, before) vs JDBC 배치(50, after)
+// - 배치 여부만 비교하도록 스키마/시퀀스(pooled-lo)/reWriteBatchedInserts 설정은 application.yml 과 동일하게 맞추고 세션 배치 크기만 바꿈
+// - rows 카운터가 초당 INSERT 행 수(rows/s)
+// 실행: ./gradlew jmh (Docker 로 Postgres 컨테이너 기동, -Dbench.jdbc.url/-Dbench.jdbc.username/-Dbench.jdbc.password 로 기존 DB 사용 가능)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoopBatchInsertBenchmark {
+    private static final int YEARS = 5;
+    private static final EnumSet<DayOfWeek> DAYS = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+    private static final List<String> CHECKLISTS = List.of("체크1", "체크2", "체크3");
+    private static final int CONFIGURED_BATCH_SIZE = 50;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private EntityManagerFactory emf;
+    private Long memberId;
+    private Long ruleId;
+
+    // 초당 INSERT 행 수 보조 지표
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.jdbc.url");
+        dataSource = new HikariDataSource();
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+            postgres.start();
+            dataSource.setJdbcUrl(postgres.getJdbcUrl());
+            dataSource.setUsername(postgres.getUsername());
+            dataSource.setPassword(postgres.getPassword());
+        } else {
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(System.getProperty("bench.jdbc.username", "postgres"));
+            dataSource.setPassword(System.getProperty("bench.jdbc.password", "postgres"));
+        }
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+        emf = entityManagerFactory();
+
+        EntityManager em = emf.createEntityManager();
+        em.getTransaction().begin();
+        Member member = Member.builder().email("bench@loop.in").nickname("bench").build();
+        em.persist(member);
+        LocalDate start = LocalDate.now();
+        LoopRule rule = LoopRule.builder()
+                .member(member)
+                .scheduleType(RepeatType.WEEKLY)
+                .daysOfWeek(EnumSet.copyOf(DAYS))
+                .startDate(start)
+                .endDate(start.plusYears(YEARS))
+                .build();
+        em.persist(rule);
+        em.getTransaction().commit();
+        em.close();
+        memberId = member.getId();
+        ruleId = rule.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+        dataSource.close();
+        if (postgres != null) postgres.stop();
+    }
+
+    // 테이블 크기가 측정 간 누적되지 않도록 비움
+    @TearDown(Level.Iteration)
+    public void clearLoops() {
+        EntityManager em = emf.createEntityManager();
+        em.getTransaction().begin();
+        em.createQuery("delete from LoopChecklist").executeUpdate();
+        em.createQuery("delete from Loop").executeUpdate();
+        em.getTransaction().commit();
+        em.close();
+    }
+
+    @Benchmark
+    public int weeklyRuleFiveYears(RowCounter counter) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            em.getTransaction().begin();
+            List<Loop> loops = expand(em.getReference(Member.class, memberId), em.find(LoopRule.class, ruleId));
+            loops.forEach(em::persist);
+            em.getTransaction().commit();
+            counter.rows += (long) loops.size() * (1 + CHECKLISTS.size());
+            return loops.size();
+        } finally {
+            em.close();
+        }
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private List<Loop> expand(Member member, LoopRule rule) {
+        List<Loop> loops = new ArrayList<>();
+        for (LocalDate d = rule.getStartDate(); !d.isAfter(rule.getEndDate()); d = d.plusDays(1)) {
+            if (!DAYS.contains(d.getDayOfWeek())) continue;
+            Loop loop = Loop.builder().member(member).title("배치").loopDate(d).loopRule(rule).build();
+            CHECKLISTS.forEach(c -> loop.addChecklist(LoopChecklist.builder().content(c).build()));
+            loops.add(loop);
+        }
+        return loops;
+    }
+
+    private EntityManagerFactory entityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.loopone.loopinbe");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.jdbc.batch_size", CONFIGURED_BATCH_SIZE,
+                "hibernate.order_inserts", true,
+                "hibernate.id.optimizer.pooled.preferred", "pooled-lo"));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+}
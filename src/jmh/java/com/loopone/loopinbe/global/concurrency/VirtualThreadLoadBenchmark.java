@@ -0,0 +1,72 @@
+package com.loopone.loopinbe.global.concurrency;
+
+import com.loopone.loopinbe.global.config.properties.ConcurrencyProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 블로킹 I/O 요청 처리량 - 플랫폼 스레드 풀(Tomcat 기본 200, before) vs 가상 스레드 + 하류별 세마포어(after)
+// 요청 1건 = DB/Redis 대기(세마포어 없음) + S3 호출 1회 + FCM 호출 1회를 sleep 으로 흉내
+// 1 op = 요청 2000건 처리 완료까지 걸린 ms (req/s = 2000 / (ms/op / 1000))
+// 실행: ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long OTHER_IO_MILLIS = 50;
+    private static final long S3_MILLIS = 30;
+    private static final long FCM_MILLIS = 20;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private DownstreamLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new DownstreamLimiter(new ConcurrencyProperties(10, 256, 256, Duration.ofSeconds(60)));
+    }
+
+    @Benchmark
+    public int blockingRequests() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        try (ExecutorService executor = newExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    handleRequest();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        }
+        return futures.size();
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private ExecutorService newExecutor() {
+        return "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    private void handleRequest() throws InterruptedException {
+        Thread.sleep(OTHER_IO_MILLIS);
+        limiter.run(Downstream.S3, () -> Thread.sleep(S3_MILLIS));
+        limiter.run(Downstream.FCM, () -> Thread.sleep(FCM_MILLIS));
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopone.loopinbe.global.redis.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopCalendarResponse;
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.MonthReportDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.ProgressLoopDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.WeekReportDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.res.LoopReportResponse;
+import com.loopone.loopinbe.domain.loop.loopReport.enums.DetailReportState;
+import com.loopone.loopinbe.domain.loop.loopReport.enums.ReportState;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopCalendarCodec;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopReportCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// 캘린더/리포트 캐시 값 - Jackson(before) vs 바이너리(after) 직렬화+역직렬화 ns/op
+// 실행: ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompactRedisSerializerBenchmark {
+    private LoopCalendarResponse calendar;
+    private LoopReportResponse report;
+
+    private RedisSerializer<LoopCalendarResponse> calendarJson;
+    private RedisSerializer<LoopCalendarResponse> calendarBinary;
+    private RedisSerializer<LoopReportResponse> reportJson;
+    private RedisSerializer<LoopReportResponse> reportBinary;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper om = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        calendar = calendar();
+        report = report();
+        calendarJson = new Jackson2JsonRedisSerializer<>(om, LoopCalendarResponse.class);
+        calendarBinary = new CompactRedisSerializer<>(new LoopCalendarCodec(), 1024);
+        reportJson = new Jackson2JsonRedisSerializer<>(om, LoopReportResponse.class);
+        reportBinary = new CompactRedisSerializer<>(new LoopReportCodec(), 1024);
+    }
+
+    @Benchmark
+    public LoopCalendarResponse calendarJson() {
+        return calendarJson.deserialize(calendarJson.serialize(calendar));
+    }
+
+    @Benchmark
+    public LoopCalendarResponse calendarBinary() {
+        return calendarBinary.deserialize(calendarBinary.serialize(calendar));
+    }
+
+    @Benchmark
+    public LoopReportResponse reportJson() {
+        return reportJson.deserialize(reportJson.serialize(report));
+    }
+
+    @Benchmark
+    public LoopReportResponse reportBinary() {
+        return reportBinary.deserialize(reportBinary.serialize(report));
+    }
+
+    // ========== 벤치마크 데이터 ==========
+    // 6주(42일) 캘린더
+    private static LoopCalendarResponse calendar() {
+        LocalDate start = LocalDate.of(2025, 9, 28);
+        List<LoopCalendarResponse.CalendarDay> days = new ArrayList<>();
+        for (int i = 0; i < 42; i++) {
+            days.add(new LoopCalendarResponse.CalendarDay(start.plusDays(i), i % 3 != 0));
+        }
+        return new LoopCalendarResponse(days);
+    }
+
+    private static LoopReportResponse report() {
+        LocalDate today = LocalDate.of(2025, 10, 18);
+        TreeMap<LocalDate, Long> weekCard = new TreeMap<>();
+        for (int i = 6; i >= 0; i--) weekCard.put(today.minusDays(i), (long) (i * 13 % 101));
+        TreeMap<LocalDate, Long> monthCard = new TreeMap<>();
+        for (int i = 29; i >= 0; i--) monthCard.put(today.minusDays(i), (long) (i * 7 % 101));
+
+        LoopDetailResponse.LoopRuleDTO rule = new LoopDetailResponse.LoopRuleDTO(
+                1L, RepeatType.WEEKLY, List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+                today.minusMonths(1), today.plusMonths(2));
+        ProgressLoopDto good = new ProgressLoopDto("아침 운동", rule, 92L, "잘하고 있어요!");
+        ProgressLoopDto bad = new ProgressLoopDto("독서", null, 12L, "조금 더 힘내봐요");
+
+        return new LoopReportResponse(
+                ReportState.GOOD, "이번 주도 순항 중이에요", 5L, 7L, 78L,
+                new WeekReportDto(DetailReportState.BOTH_EXIST, 80L, weekCard, good, bad),
+                new MonthReportDto(DetailReportState.ONLY_GOOD, monthCard, good, null)
+        );
+    }
+}
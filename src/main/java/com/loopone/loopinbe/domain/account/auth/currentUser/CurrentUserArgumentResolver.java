@@ -1,14 +1,8 @@
 package com.loopone.loopinbe.domain.account.auth.currentUser;
 
-import com.loopone.loopinbe.domain.account.member.converter.MemberConverter;
-import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
-import com.loopone.loopinbe.global.exception.ReturnCode;
-import com.loopone.loopinbe.global.exception.ServiceException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -16,11 +10,7 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 @Component
-@RequiredArgsConstructor
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
-    private final MemberRepository memberRepository;
-    private final MemberConverter memberConverter;
-
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.getParameterAnnotation(CurrentUser.class) != null &&
@@ -30,13 +20,10 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        // JwtAuthenticationFilter 가 토큰 클레임으로 만든 principal 을 그대로 사용 (추가 조회 없음)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof UserDetails securityUser) {
-            String email = securityUser.getUsername(); // UserDetails의 getUsername()은 이메일을 반환
-
-            return memberRepository.findByEmail(email)
-                    .map(memberConverter::toCurrentUserDto)
-                    .orElseThrow(() -> new ServiceException(ReturnCode.USER_NOT_FOUND));
+        if (authentication != null && authentication.getPrincipal() instanceof CurrentUserDto currentUser) {
+            return currentUser;
         }
         return null;
     }
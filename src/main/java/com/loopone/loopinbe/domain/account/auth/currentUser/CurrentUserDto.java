@@ -6,6 +6,7 @@ import com.loopone.loopinbe.domain.account.member.entity.MemberFollowReq;
 import lombok.Builder;
 import lombok.Data;
 
+import java.security.Principal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,4 +24,10 @@ public record CurrentUserDto(
         Member.MemberRole role,
         Member.OAuthProvider provider,
         String providerId
-) {}
+) implements Principal {
+    // SecurityContext principal 로 사용 (Authentication.getName() = 이메일)
+    @Override
+    public String getName() {
+        return email;
+    }
+}
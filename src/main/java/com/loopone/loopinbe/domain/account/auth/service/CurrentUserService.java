@@ -0,0 +1,9 @@
+package com.loopone.loopinbe.domain.account.auth.service;
+
+import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
+import com.loopone.loopinbe.global.security.AccessTokenClaims;
+
+public interface CurrentUserService {
+    // 파싱된 Access Token 클레임으로 현재 사용자 구성 (회원이 없으면 null)
+    CurrentUserDto resolve(AccessTokenClaims claims);
+}
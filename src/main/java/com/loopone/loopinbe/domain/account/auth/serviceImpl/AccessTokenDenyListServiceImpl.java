@@ -1,32 +1,119 @@
 package com.loopone.loopinbe.domain.account.auth.serviceImpl;
 
 import com.loopone.loopinbe.domain.account.auth.service.AccessTokenDenyListService;
-import lombok.RequiredArgsConstructor;
+import com.loopone.loopinbe.global.config.properties.DenyListProperties;
+import com.loopone.loopinbe.global.security.BloomFilter;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+// Access Token deny-list (로그아웃 즉시 차단)
+// - 원본: Redis jwt:deny:{jti} (TTL = 토큰 남은 수명) + 재구성용 인덱스 ZSET (score = 만료 시각)
+// - 노드 로컬 Bloom filter 로 "차단 안 됨"(대부분의 요청)을 네트워크 없이 판정, 있을 수 있을 때만 Redis 확인
+// - 새 차단은 pub/sub 으로 즉시 반영, 유실 대비 60초마다 인덱스로 재구성 (최대 전파 지연 = 재구성 주기)
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class AccessTokenDenyListServiceImpl implements AccessTokenDenyListService {
+public class AccessTokenDenyListServiceImpl implements AccessTokenDenyListService, MessageListener {
     private static final String KEY_PREFIX = "jwt:deny:";
+    private static final String INDEX_KEY = "jwt:deny:index";
+    private static final String CHANNEL = "jwt:deny-added";
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final DenyListProperties properties;
+    // 재구성 중 수신한 jti (스냅샷 이후 추가분이 새 필터에서 빠지지 않도록), jti -> 수신 시각
+    private final Map<String, Long> recentlyDenied = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter; // null 이면 아직 구성 전 → 항상 Redis 확인
+
+    public AccessTokenDenyListServiceImpl(StringRedisTemplate stringRedisTemplate,
+                                          RedisMessageListenerContainer redisMessageListenerContainer,
+                                          DenyListProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
 
     @Override
     public void deny(String jti, Duration ttl) {
         if (jti == null || jti.isBlank()) return;
         if (ttl == null || ttl.isZero() || ttl.isNegative()) return;
         stringRedisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", ttl);
+        // 인덱스 기록 후 발행 (수신 전에 재구성이 시작돼도 스냅샷에 포함되도록)
+        stringRedisTemplate.opsForZSet().add(INDEX_KEY, jti, System.currentTimeMillis() + ttl.toMillis());
+        addLocal(jti);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, jti);
+        } catch (Exception e) {
+            log.warn("Failed to publish deny-list update. jti={}", jti, e);
+        }
     }
 
     @Override
     public boolean isDenied(String jti) {
         if (jti == null || jti.isBlank()) return false;
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) return false;
         Boolean exists = stringRedisTemplate.hasKey(KEY_PREFIX + jti);
         return Boolean.TRUE.equals(exists);
     }
+
+    // 다른 노드(자기 자신 포함)의 차단 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 만료된 인덱스 정리 후 활성 jti 로 새 필터를 만들어 교체 (기동 직후 1회 포함)
+    @Scheduled(fixedDelayString = "60000")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, startedAt);
+            Set<String> active = stringRedisTemplate.opsForZSet().range(INDEX_KEY, 0, -1);
+            int activeCount = (active != null) ? active.size() : 0;
+
+            // 활성 수가 기준 크기를 넘으면 오탐률 유지를 위해 확장
+            BloomFilter next = new BloomFilter(Math.max(properties.expectedInsertions(), activeCount * 2L),
+                    properties.falsePositiveRate());
+            if (active != null) active.forEach(next::put);
+            recentlyDenied.keySet().forEach(next::put);
+            filter = next;
+            // 위 복사 이후 ~ 교체 전에 받은 jti 는 이전 필터에만 들어갔을 수 있으므로 교체 후 다시 반영
+            // (addLocal 은 맵에 먼저 기록한 뒤 필터를 읽으므로, 교체 이후 순회하면 빠짐없이 포함됨)
+            recentlyDenied.forEach((jti, receivedAt) -> {
+                if (receivedAt >= startedAt) next.put(jti);
+            });
+
+            // 스냅샷 시작 전에 받은 jti 는 인덱스에 이미 포함
+            recentlyDenied.values().removeIf(receivedAt -> receivedAt < startedAt);
+            log.debug("Deny-list filter rebuilt. active={}", activeCount);
+        } catch (Exception e) {
+            // 기존 필터 유지 (pub/sub 반영분은 계속 누적됨)
+            log.warn("Failed to rebuild deny-list filter", e);
+        }
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private void addLocal(String jti) {
+        recentlyDenied.put(jti, System.currentTimeMillis());
+        BloomFilter current = filter;
+        if (current != null) current.put(jti);
+    }
 }
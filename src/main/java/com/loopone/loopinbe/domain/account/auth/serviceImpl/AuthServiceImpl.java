@@ -68,7 +68,7 @@ public class AuthServiceImpl implements AuthService {
     public LoginResponse login(LoginRequest loginRequest) {
         Member member = memberRepository.findByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new ServiceException(ReturnCode.USER_NOT_FOUND));
-        String accessToken = jwtTokenProvider.generateToken(member.getEmail(), "ACCESS",accessTokenExpiration);
+        String accessToken = jwtTokenProvider.generateAccessToken(member, accessTokenExpiration);
         String refreshToken = jwtTokenProvider.generateToken(member.getEmail(), "REFRESH",refreshTokenExpiration);
         // Refresh Token을 Redis에 저장
         refreshTokenService.saveRefreshToken(member.getEmail(), refreshToken, refreshTokenExpiration);
@@ -114,7 +114,10 @@ public class AuthServiceImpl implements AuthService {
         if (!jwtTokenProvider.validateRefreshToken(storedRefreshToken)) {
             throw new RuntimeException("리프레시 토큰이 만료되었습니다.");
         }
-        String newAccessToken = jwtTokenProvider.generateToken(email, "ACCESS", accessTokenExpiration);
+        // 재발급 시점의 회원 정보로 클레임 갱신
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new ServiceException(ReturnCode.USER_NOT_FOUND));
+        String newAccessToken = jwtTokenProvider.generateAccessToken(member, accessTokenExpiration);
         return new LoginResponse(newAccessToken, storedRefreshToken);
     }
 }
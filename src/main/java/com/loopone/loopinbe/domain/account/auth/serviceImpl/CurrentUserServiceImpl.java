@@ -0,0 +1,147 @@
+package com.loopone.loopinbe.domain.account.auth.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
+import com.loopone.loopinbe.domain.account.auth.service.CurrentUserService;
+import com.loopone.loopinbe.domain.account.member.converter.MemberConverter;
+import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.account.member.service.MemberCardService;
+import com.loopone.loopinbe.global.config.properties.LayeredCacheProperties;
+import com.loopone.loopinbe.global.security.AccessTokenClaims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+// 요청마다 DB 조회 없이 Access Token 클레임으로 현재 사용자 구성
+// - 클레임 버전이 다르거나(과거 토큰) 토큰 발급 이후 회원 정보가 바뀐 경우에만 회원 조회 (로컬 캐시)
+// - 회원 변경은 member:card-invalidate 브로드캐스트로 수신 (MemberCardService.evictAfterCommit)
+// - 로컬에 변경 기록이 없으면 member:changed:{id} 를 확인 (재시작/구독 끊김으로 브로드캐스트를 놓친 경우)
+//   변경 없음도 UNCHANGED_TTL 동안 로컬에 캐시 -> Redis 조회는 회원당 TTL 마다 최대 1회, 변경 수신 시 덮어씀
+@Slf4j
+@Service
+public class CurrentUserServiceImpl implements CurrentUserService, MessageListener {
+    private static final String CACHE_NAME = "currentUser";
+    private static final Instant UNCHANGED = Instant.EPOCH;                 // 변경 기록 없음 (음성 캐시)
+    private static final Duration UNCHANGED_TTL = Duration.ofSeconds(30);   // 브로드캐스트 유실 시 최대 반영 지연
+
+    private final MemberRepository memberRepository;
+    private final MemberConverter memberConverter;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<String, Optional<CurrentUserDto>> membersByEmail; // 폴백 조회 캐시 (없는 회원도 짧게 캐시)
+    private final Cache<Long, Instant> changedAt;                         // memberId -> 마지막 변경 시각 (없으면 UNCHANGED)
+
+    public CurrentUserServiceImpl(MemberRepository memberRepository,
+                                  MemberConverter memberConverter,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer redisMessageListenerContainer,
+                                  LayeredCacheProperties layeredCacheProperties,
+                                  @Value("${custom.accessToken.expiration}") Duration accessTokenExpiration) {
+        this.memberRepository = memberRepository;
+        this.memberConverter = memberConverter;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        LayeredCacheProperties.Spec spec = layeredCacheProperties.specOf(CACHE_NAME);
+        this.membersByEmail = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .build();
+        // 변경 이전에 발급된 토큰은 최대 Access Token 수명 동안만 유효하므로 그만큼만 기억, 변경 없음은 짧게
+        this.changedAt = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfter(new Expiry<Long, Instant>() {
+                    @Override
+                    public long expireAfterCreate(Long memberId, Instant changed, long currentTime) {
+                        return (UNCHANGED.equals(changed) ? UNCHANGED_TTL : accessTokenExpiration).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long memberId, Instant changed, long currentTime, long currentDuration) {
+                        return expireAfterCreate(memberId, changed, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long memberId, Instant changed, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(MemberCardService.INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public CurrentUserDto resolve(AccessTokenClaims claims) {
+        if (claims.hasPrincipalClaims() && !changedSinceIssued(claims)) {
+            return fromClaims(claims);
+        }
+        return membersByEmail.get(claims.email(), email ->
+                memberRepository.findByEmail(email).map(memberConverter::toCurrentUserDto)).orElse(null);
+    }
+
+    // 다른 노드(자기 자신 포함)에서 보낸 회원 변경 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long memberId = Long.parseLong(body);
+            changedAt.put(memberId, Instant.now());
+            membersByEmail.asMap().values().removeIf(cached -> cached.isPresent() && memberId.equals(cached.get().id()));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid member change message: {}", body);
+        }
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private boolean changedSinceIssued(AccessTokenClaims claims) {
+        Instant changed = changedAt.get(claims.memberId(), this::loadChangedAt);
+        if (UNCHANGED.equals(changed)) return false;
+        // iat 는 초 단위이므로 같은 초에 발급된 토큰도 변경 이전으로 간주
+        return claims.issuedAt() == null || !claims.issuedAt().isAfter(changed);
+    }
+
+    // Redis 장애 시에도 변경 없음으로 짧게 캐시 (요청마다 Redis/DB 로 몰리지 않도록, 변경은 pub/sub 으로도 수신)
+    private Instant loadChangedAt(Long memberId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(MemberCardService.CHANGED_KEY_PREFIX + memberId);
+            return value != null ? Instant.ofEpochMilli(Long.parseLong(value)) : UNCHANGED;
+        } catch (Exception e) {
+            log.warn("Failed to read member change time. memberId={}", memberId, e);
+            return UNCHANGED;
+        }
+    }
+
+    // 클레임에 없는 필드(전화번호, 프로필 이미지 등)는 null → 필요한 곳은 회원을 직접 조회
+    private CurrentUserDto fromClaims(AccessTokenClaims claims) {
+        return new CurrentUserDto(
+                claims.memberId(),
+                claims.email(),
+                null,
+                claims.nickname(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                claims.role(),
+                null,
+                null
+        );
+    }
+}
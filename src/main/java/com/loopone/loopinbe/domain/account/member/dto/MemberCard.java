@@ -0,0 +1,8 @@
+package com.loopone.loopinbe.domain.account.member.dto;
+
+// 채팅 렌더링 등에 필요한 최소 회원 정보 (엔티티/연관관계 로딩 없이 projection 으로 조회)
+public record MemberCard(
+        Long id,
+        String nickname,
+        String profileImageUrl
+) {}
@@ -1,5 +1,6 @@
 package com.loopone.loopinbe.domain.account.member.repository;
 
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
 import com.loopone.loopinbe.domain.account.member.dto.res.MemberResponse;
 import com.loopone.loopinbe.domain.account.member.entity.Member;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 @Repository
@@ -24,6 +26,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("select m.id from Member m where m.email = :email")
     Optional<Long> findIdByEmail(@Param("email") String email);
 
+    // 회원 카드 일괄 조회 (연관관계 로딩 없이 필요한 컬럼만)
+    @Query("""
+            select new com.loopone.loopinbe.domain.account.member.dto.MemberCard(m.id, m.nickname, m.profileImageUrl)
+            from Member m
+            where m.id in :memberIds
+            """)
+    List<MemberCard> findMemberCardsByIdIn(@Param("memberIds") Collection<? extends Long> memberIds);
+
     // 이메일로 회원 조회
     @EntityGraph(value = "Member.withAllRelations", type = EntityGraph.EntityGraphType.LOAD)
     Optional<Member> findByEmail(String email);
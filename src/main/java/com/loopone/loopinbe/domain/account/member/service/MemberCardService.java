@@ -0,0 +1,19 @@
+package com.loopone.loopinbe.domain.account.member.service;
+
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface MemberCardService {
+    // 회원 정보 변경 브로드캐스트 채널 (payload: memberId)
+    String INVALIDATION_CHANNEL = "member:card-invalidate";
+    // 회원 마지막 변경 시각 (epoch millis, Access Token 수명만큼 보관) - 브로드캐스트를 놓친 노드의 폴백
+    String CHANGED_KEY_PREFIX = "member:changed:";
+
+    // 회원 카드 일괄 조회 (로컬 캐시 우선, 미스만 DB 1회 조회)
+    Map<Long, MemberCard> getMemberCards(Collection<Long> memberIds);
+
+    // 회원 정보 변경 시 커밋 이후 모든 노드의 캐시 무효화
+    void evictAfterCommit(Long memberId);
+}
@@ -0,0 +1,112 @@
+package com.loopone.loopinbe.domain.account.member.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
+import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.account.member.service.MemberCardService;
+import com.loopone.loopinbe.global.config.properties.LayeredCacheProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.loopone.loopinbe.global.jpa.util.TransactionUtils.afterCommit;
+
+// 회원 카드(id, 닉네임, 프로필) 로컬 read-through 캐시
+// - 크기/TTL은 app.cache.l1.memberCard
+// - 무효화는 Redis pub/sub 으로 모든 노드에 전파, TTL은 브로드캐스트 유실 대비
+@Slf4j
+@Service
+public class MemberCardServiceImpl implements MemberCardService, MessageListener {
+    private static final String CACHE_NAME = "memberCard";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<Long, MemberCard> cache;
+    private final Duration accessTokenExpiration;
+
+    public MemberCardServiceImpl(MemberRepository memberRepository,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 LayeredCacheProperties layeredCacheProperties,
+                                 @Value("${custom.accessToken.expiration}") Duration accessTokenExpiration) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.accessTokenExpiration = accessTokenExpiration;
+        LayeredCacheProperties.Spec spec = layeredCacheProperties.specOf(CACHE_NAME);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 회원 카드 일괄 조회
+    @Override
+    public Map<Long, MemberCard> getMemberCards(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) return Map.of();
+        Set<Long> ids = memberIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) return Map.of();
+        // 미스만 모아서 한 번에 조회 (탈퇴 등으로 없는 회원은 결과에서 빠짐)
+        return cache.getAll(ids, this::loadMemberCards);
+    }
+
+    // 회원 정보 변경 시 커밋 이후 모든 노드의 캐시 무효화
+    @Override
+    public void evictAfterCommit(Long memberId) {
+        afterCommit(() -> evict(memberId));
+    }
+
+    // 다른 노드(자기 자신 포함)에서 보낸 무효화 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid member card invalidation message: {}", body);
+        }
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private Map<Long, MemberCard> loadMemberCards(Set<? extends Long> memberIds) {
+        Map<Long, MemberCard> loaded = new HashMap<>();
+        for (MemberCard card : memberRepository.findMemberCardsByIdIn(memberIds)) {
+            loaded.put(card.id(), card);
+        }
+        return loaded;
+    }
+
+    private void evict(Long memberId) {
+        // 로컬은 즉시, 다른 노드는 pub/sub 으로 (변경 시각은 브로드캐스트 유실 대비로 Redis 에도 기록)
+        cache.invalidate(memberId);
+        try {
+            stringRedisTemplate.opsForValue().set(CHANGED_KEY_PREFIX + memberId,
+                    String.valueOf(System.currentTimeMillis()), accessTokenExpiration);
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(memberId));
+        } catch (Exception e) {
+            log.warn("Failed to publish member card invalidation. memberId={}", memberId, e);
+        }
+    }
+}
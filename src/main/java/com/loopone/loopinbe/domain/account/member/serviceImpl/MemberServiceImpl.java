@@ -15,6 +15,7 @@ import com.loopone.loopinbe.domain.account.member.enums.ProfileImageState;
 import com.loopone.loopinbe.domain.account.member.repository.MemberFollowRepository;
 import com.loopone.loopinbe.domain.account.member.repository.MemberFollowReqRepository;
 import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.account.member.service.MemberCardService;
 import com.loopone.loopinbe.domain.account.member.service.MemberService;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomService;
@@ -60,6 +61,7 @@ public class MemberServiceImpl implements MemberService {
     private final TeamService teamService;
     private final LoopService loopService;
     private final CacheManager cacheManager;
+    private final MemberCardService memberCardService;
     private final NotificationEventPublisher notificationEventPublisher;
     private final AuthEventPublisher authEventPublisher;
 
@@ -144,7 +146,7 @@ public class MemberServiceImpl implements MemberService {
         }
         ProfileImageState state = (memberUpdateRequest.profileImageState() != null)
                 ? memberUpdateRequest.profileImageState() : ProfileImageState.MAINTAIN;
-        String currentImageUrl = currentUser.profileImageUrl(); // 기본적으로 기존 이미지 URL을 사용
+        String currentImageUrl = member.getProfileImageUrl(); // 기본적으로 기존 이미지 URL을 사용 (principal 에는 프로필 이미지 없음)
         String finalImageUrl = currentImageUrl;
         switch (state) {
             case MAINTAIN -> {
@@ -188,6 +190,7 @@ public class MemberServiceImpl implements MemberService {
         member.update(memberUpdateRequest, finalImageUrl, null);
         // 커밋 이후 캐시 무효화
         evictMyInfoCacheAfterCommit(currentUser.id());
+        memberCardService.evictAfterCommit(currentUser.id());
     }
 
     // 회원탈퇴
@@ -205,6 +208,7 @@ public class MemberServiceImpl implements MemberService {
         memberRepository.delete(member);
         // 커밋 이후 캐시 무효화
         evictMyInfoCacheAfterCommit(currentUser.id());
+        memberCardService.evictAfterCommit(currentUser.id());
         // 로그아웃
         AuthPayload payload = new AuthPayload(
                 java.util.UUID.randomUUID().toString(),
@@ -36,6 +36,16 @@ public class ChatMessageController {
         return ApiResponse.success(chatMessageService.findByChatRoomId(chatRoomId, pageable, currentUser));
     }
 
+    // 채팅방 과거 메시지 커서 조회 [참여자 권한]
+    @GetMapping("/{chatRoomId}/cursor")
+    @Operation(summary = "채팅방 과거 메시지 커서 조회", description = "before 커서 이전 메시지를 최신순으로 조회합니다. 첫 요청은 before 없이, 이후에는 응답의 nextCursor를 전달합니다.(기본설정: limit=20)")
+    public ApiResponse<List<ChatMessageResponse>> findByChatRoomIdBefore(@PathVariable("chatRoomId") Long chatRoomId,
+                                                                         @RequestParam(value = "before", required = false) String before,
+                                                                         @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                                                         @CurrentUser CurrentUserDto currentUser) {
+        return ApiResponse.success(chatMessageService.findByChatRoomIdBefore(chatRoomId, before, limit, currentUser));
+    }
+
     // 채팅방 메시지 검색(내용) [참여자 권한]
     @GetMapping("/{chatRoomId}/search")
     @Operation(summary = "채팅방 메시지 검색(내용)", description = "채팅방에서 채팅방 메시지를 검색합니다.")
@@ -1,7 +1,7 @@
 package com.loopone.loopinbe.domain.chat.chatMessage.converter;
 
-import com.loopone.loopinbe.domain.account.member.entity.Member;
-import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
+import com.loopone.loopinbe.domain.account.member.service.MemberCardService;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.res.ChatAttachmentResponse;
@@ -15,12 +15,11 @@ import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public abstract class ChatMessageConverter {
-    @Autowired protected MemberRepository memberRepository;
+    @Autowired protected MemberCardService memberCardService;
     @Autowired protected S3Service s3Service;
     private static final String BOT_NICKNAME = "loopin";
     private static final String BOT_PROFILE = null;
@@ -39,7 +38,7 @@ public abstract class ChatMessageConverter {
     @Mapping(target = "createdAt", source = "createdAt")
     public abstract ChatMessageResponse toChatMessageResponse(
             ChatMessage chatMessage,
-            @Context Map<Long, Member> memberMap
+            @Context Map<Long, MemberCard> memberMap
     );
 
     // ---------------- ChatMessagePayload -> ChatMessageResponse ----------------
@@ -56,46 +55,44 @@ public abstract class ChatMessageConverter {
     @Mapping(target = "createdAt", source = "createdAt")
     public abstract ChatMessageResponse toChatMessageResponse(
             ChatMessagePayload payload,
-            @Context Map<Long, Member> memberMap
+            @Context Map<Long, MemberCard> memberMap
     );
 
     // ---------------- bulk load (ChatMessage) ----------------
-    public Map<Long, Member> loadMembers(List<ChatMessage> messages) {
+    public Map<Long, MemberCard> loadMembers(List<ChatMessage> messages) {
         if (messages == null || messages.isEmpty()) return Collections.emptyMap();
         Set<Long> memberIds = messages.stream()
                 .map(ChatMessage::getMemberId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         if (memberIds.isEmpty()) return Collections.emptyMap();
-        return memberRepository.findAllById(memberIds).stream()
-                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return memberCardService.getMemberCards(memberIds);
     }
 
     // ---------------- bulk load (Payload) ----------------
-    public Map<Long, Member> loadMembersFromPayload(List<ChatMessagePayload> payloads) {
+    public Map<Long, MemberCard> loadMembersFromPayload(List<ChatMessagePayload> payloads) {
         if (payloads == null || payloads.isEmpty()) return Collections.emptyMap();
         Set<Long> memberIds = payloads.stream()
                 .map(ChatMessagePayload::memberId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         if (memberIds.isEmpty()) return Collections.emptyMap();
-        return memberRepository.findAllById(memberIds).stream()
-                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return memberCardService.getMemberCards(memberIds);
     }
 
     // ---------- helpers ----------
-    protected String resolveNickname(ChatMessage chatMessage, @Context Map<Long, Member> memberMap) {
+    protected String resolveNickname(ChatMessage chatMessage, @Context Map<Long, MemberCard> memberMap) {
         if (isBot(chatMessage)) return BOT_NICKNAME;
         Long memberId = chatMessage.getMemberId();
-        Member m = (memberId == null) ? null : memberMap.get(memberId);
-        return (m != null && m.getNickname() != null) ? m.getNickname() : "unknown";
+        MemberCard m = (memberId == null) ? null : memberMap.get(memberId);
+        return (m != null && m.nickname() != null) ? m.nickname() : "unknown";
     }
 
-    protected String resolveProfile(ChatMessage chatMessage, @Context Map<Long, Member> memberMap) {
+    protected String resolveProfile(ChatMessage chatMessage, @Context Map<Long, MemberCard> memberMap) {
         if (isBot(chatMessage)) return BOT_PROFILE;
         Long memberId = chatMessage.getMemberId();
-        Member m = (memberId == null) ? null : memberMap.get(memberId);
-        return (m != null) ? m.getProfileImageUrl() : null;
+        MemberCard m = (memberId == null) ? null : memberMap.get(memberId);
+        return (m != null) ? m.profileImageUrl() : null;
     }
 
     protected boolean isBot(ChatMessage chatMessage) {
@@ -121,18 +118,18 @@ public abstract class ChatMessageConverter {
     }
 
     // ---------------- helpers (Payload) ----------------
-    protected String resolveNickname(ChatMessagePayload payload, @Context Map<Long, Member> memberMap) {
+    protected String resolveNickname(ChatMessagePayload payload, @Context Map<Long, MemberCard> memberMap) {
         if (isBot(payload)) return BOT_NICKNAME;
         Long memberId = payload.memberId();
-        Member m = (memberId == null) ? null : memberMap.get(memberId);
-        return (m != null && m.getNickname() != null) ? m.getNickname() : "unknown";
+        MemberCard m = (memberId == null) ? null : memberMap.get(memberId);
+        return (m != null && m.nickname() != null) ? m.nickname() : "unknown";
     }
 
-    protected String resolveProfile(ChatMessagePayload payload, @Context Map<Long, Member> memberMap) {
+    protected String resolveProfile(ChatMessagePayload payload, @Context Map<Long, MemberCard> memberMap) {
         if (isBot(payload)) return BOT_PROFILE;
         Long memberId = payload.memberId();
-        Member m = (memberId == null) ? null : memberMap.get(memberId);
-        return (m != null) ? m.getProfileImageUrl() : null;
+        MemberCard m = (memberId == null) ? null : memberMap.get(memberId);
+        return (m != null) ? m.profileImageUrl() : null;
     }
 
     protected boolean isBot(ChatMessagePayload payload) {
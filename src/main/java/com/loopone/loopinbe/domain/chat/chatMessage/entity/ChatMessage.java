@@ -24,6 +24,8 @@ import java.util.UUID;
 @CompoundIndexes({
         // 채팅방별 페이징 조회 최적화 (createdAt desc 정렬을 많이 함)
         @CompoundIndex(name = "chatRoom_createdAt_idx", def = "{'chatRoomId': 1, 'createdAt': -1}"),
+        // 커서(키셋) 조회: createdAt 동률 시 _id로 순서 고정 (정렬까지 인덱스로 처리, 메모리 정렬 없음)
+        @CompoundIndex(name = "chatRoom_createdAt_id_idx", def = "{'chatRoomId': 1, 'createdAt': -1, '_id': -1}"),
         // 채팅방 + 멤버 조회가 잦다면
         @CompoundIndex(name = "chatRoom_member_createdAt_idx", def = "{'chatRoomId': 1, 'memberId': 1, 'createdAt': -1}"),
         // 채팅방 내 메시지 검색
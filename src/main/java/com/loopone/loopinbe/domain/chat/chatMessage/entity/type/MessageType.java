@@ -10,5 +10,8 @@ public enum MessageType {
     BEFORE_UDATE_LOOP,
     GET_LOOP,
     READ_UP_TO,
-    DELETE
+    DELETE,
+    AI_STREAM_START,  // AI 스트리밍 첫 토큰 도착
+    AI_STREAM_CHUNK,  // AI 스트리밍 중 완성된 부분 추천
+    AI_STREAM_ERROR   // AI 스트리밍 시작 후 실패 (최종 MESSAGE 없이 종료)
 }
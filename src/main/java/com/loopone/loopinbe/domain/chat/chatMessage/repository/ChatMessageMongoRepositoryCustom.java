@@ -1,6 +1,7 @@
 package com.loopone.loopinbe.domain.chat.chatMessage.repository;
 
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
+import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
 import com.loopone.loopinbe.domain.chat.chatMessage.entity.ChatMessage;
 import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
 import org.springframework.data.domain.Page;
@@ -26,6 +27,12 @@ public interface ChatMessageMongoRepositoryCustom {
             Instant modifiedAt
     );
 
+    // 채팅 내용 일괄 저장 (unordered bulk upsert 1회 + 저장본 조회 1회)
+    List<ChatMessage> bulkUpsertInbound(List<ChatMessagePayload> payloads);
+
+    // 채팅방 과거 메시지 커서 조회 ((createdAt, _id) 가 before 보다 이전인 메시지 최신순, before 가 null 이면 최신부터)
+    List<ChatMessage> findByChatRoomIdBefore(Long chatRoomId, Instant beforeCreatedAt, String beforeId, int limit);
+
     // 채팅방 내 내용 검색 (Mongo 텍스트 인덱스 사용)
     Page<ChatMessage> searchByKeyword(Long chatRoomId, String keyword, Pageable pageable);
 }
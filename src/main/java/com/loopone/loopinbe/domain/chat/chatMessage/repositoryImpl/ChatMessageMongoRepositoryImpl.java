@@ -1,6 +1,7 @@
 package com.loopone.loopinbe.domain.chat.chatMessage.repositoryImpl;
 
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
+import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
 import com.loopone.loopinbe.domain.chat.chatMessage.entity.ChatMessage;
 import com.loopone.loopinbe.domain.chat.chatMessage.repository.ChatMessageMongoRepositoryCustom;
 import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
@@ -9,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.*;
@@ -39,26 +41,49 @@ public class ChatMessageMongoRepositoryImpl implements ChatMessageMongoRepositor
             Instant modifiedAt
     ) {
         Query q = new Query(Criteria.where("_id").is(id));
-        Update u = new Update()
-                // 멱등: 최초 삽입시에만 고정되는 필드
-                .setOnInsert("_id", id)
-                .setOnInsert("clientMessageId", clientMessageId)
-                .setOnInsert("chatRoomId", chatRoomId)
-                .setOnInsert("memberId", memberId)
-                .setOnInsert("content", content)
-                .setOnInsert("attachments", attachments)
-                .setOnInsert("recommendations", recommendations)
-                .setOnInsert("loopRuleId", loopRuleId)
-                .setOnInsert("deleteMessageId", deleteMessageId)
-                .setOnInsert("authorType", authorType)
-                .setOnInsert("createdAt", createdAt)
-                .setOnInsert("modifiedAt", modifiedAt);
+        Update u = insertOnlyUpdate(id, clientMessageId, chatRoomId, memberId, content, attachments,
+                recommendations, loopRuleId, deleteMessageId, authorType, createdAt, modifiedAt);
         FindAndModifyOptions opt = FindAndModifyOptions.options()
                 .upsert(true)
                 .returnNew(true);
         return mongoTemplate.findAndModify(q, u, opt, ChatMessage.class);
     }
 
+    // 채팅 내용 일괄 저장
+    // - 재전송(같은 _id)은 setOnInsert 라 기존 문서 유지, 반환값은 실제 저장본 기준
+    @Override
+    public List<ChatMessage> bulkUpsertInbound(List<ChatMessagePayload> payloads) {
+        if (payloads == null || payloads.isEmpty()) return List.of();
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class);
+        for (ChatMessagePayload p : payloads) {
+            ops.upsert(
+                    new Query(Criteria.where("_id").is(p.id())),
+                    insertOnlyUpdate(p.id(), p.clientMessageId().toString(), p.chatRoomId(), p.memberId(), p.content(),
+                            p.attachments(), p.recommendations(), p.loopRuleId(), p.deleteMessageId(), p.authorType(),
+                            p.createdAt(), p.modifiedAt())
+            );
+        }
+        ops.execute();
+        List<String> ids = payloads.stream().map(ChatMessagePayload::id).distinct().toList();
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), ChatMessage.class);
+    }
+
+    // 채팅방 과거 메시지 커서 조회 (skip/count 없이 chatRoom_createdAt_id_idx 범위 스캔)
+    @Override
+    public List<ChatMessage> findByChatRoomIdBefore(Long chatRoomId, Instant beforeCreatedAt, String beforeId, int limit) {
+        Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId);
+        if (beforeCreatedAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(beforeCreatedAt),
+                    Criteria.where("createdAt").is(beforeCreatedAt).and("_id").lt(beforeId)
+            );
+        }
+        Query q = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id")))
+                .limit(limit);
+        return mongoTemplate.find(q, ChatMessage.class);
+    }
+
     // 채팅방 내 내용 검색 (Mongo 텍스트 인덱스 사용)
     @Override
     public Page<ChatMessage> searchByKeyword(Long chatRoomId, String keyword, Pageable pageable) {
@@ -80,4 +105,35 @@ public class ChatMessageMongoRepositoryImpl implements ChatMessageMongoRepositor
         long total = mongoTemplate.count(countQuery, ChatMessage.class);
         return new PageImpl<>(results, pageable, total);
     }
+
+    // ========== 헬퍼 메서드 ==========
+    // 멱등: 최초 삽입시에만 고정되는 필드
+    private Update insertOnlyUpdate(
+            String id,
+            String clientMessageId,
+            Long chatRoomId,
+            Long memberId,
+            String content,
+            List<ChatAttachment> attachments,
+            List<LoopCreateRequest> recommendations,
+            Long loopRuleId,
+            String deleteMessageId,
+            ChatMessage.AuthorType authorType,
+            Instant createdAt,
+            Instant modifiedAt
+    ) {
+        return new Update()
+                .setOnInsert("_id", id)
+                .setOnInsert("clientMessageId", clientMessageId)
+                .setOnInsert("chatRoomId", chatRoomId)
+                .setOnInsert("memberId", memberId)
+                .setOnInsert("content", content)
+                .setOnInsert("attachments", attachments)
+                .setOnInsert("recommendations", recommendations)
+                .setOnInsert("loopRuleId", loopRuleId)
+                .setOnInsert("deleteMessageId", deleteMessageId)
+                .setOnInsert("authorType", authorType)
+                .setOnInsert("createdAt", createdAt)
+                .setOnInsert("modifiedAt", modifiedAt);
+    }
 }
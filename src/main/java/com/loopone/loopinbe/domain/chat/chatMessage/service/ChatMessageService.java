@@ -4,6 +4,7 @@ import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.res.ChatMessageResponse;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.req.ChatMessageRequest;
+import com.loopone.loopinbe.global.common.response.CursorResponse;
 import com.loopone.loopinbe.global.common.response.PageResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,12 +16,18 @@ public interface ChatMessageService {
     // 채팅방 과거 메시지 조회 [참여자 권한]
     PageResponse<ChatMessageResponse> findByChatRoomId(Long chatRoomId, Pageable pageable, CurrentUserDto currentUser);
 
+    // 채팅방 과거 메시지 커서 조회 [참여자 권한]
+    CursorResponse<ChatMessageResponse> findByChatRoomIdBefore(Long chatRoomId, String before, int limit, CurrentUserDto currentUser);
+
     // 채팅방 메시지 검색(내용) [참여자 권한]
     PageResponse<ChatMessageResponse> searchByKeyword(Long chatRoomId, String keyword, Pageable pageable, CurrentUserDto currentUser);
 
     // Kafka 인바운드 메시지 처리(권한검증 + 멱등 저장 + Mongo 업서트)
     ChatMessagePayload processInbound(ChatMessagePayload in);
 
+    // Kafka 인바운드 메시지 일괄 처리(bulk upsert + 채팅방별 lastMessageAt 1회 갱신), 존재하지 않는 채팅방 메시지는 제외
+    List<ChatMessagePayload> processInboundBatch(List<ChatMessagePayload> in);
+
     // 채팅 메시지 단일 삭제
     void deleteChatMessage(String messageId, Long memberId);
 
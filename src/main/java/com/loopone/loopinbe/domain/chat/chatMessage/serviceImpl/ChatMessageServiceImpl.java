@@ -1,7 +1,7 @@
 package com.loopone.loopinbe.domain.chat.chatMessage.serviceImpl;
 
 import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
-import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
 import com.loopone.loopinbe.domain.chat.chatMessage.converter.ChatMessageConverter;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
@@ -22,7 +22,9 @@ import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
 import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
 import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
 import com.loopone.loopinbe.domain.loop.loop.mapper.LoopMapper;
-import com.loopone.loopinbe.domain.sse.service.SseEmitterService;
+import com.loopone.loopinbe.domain.sse.service.SseStreamService;
+import com.loopone.loopinbe.global.common.response.CursorResponse;
+import com.loopone.loopinbe.global.common.response.KeysetCursor;
 import com.loopone.loopinbe.global.common.response.PageResponse;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
@@ -42,6 +44,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.*;
 
 import static com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType.*;
@@ -58,7 +61,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final ChatMessageConverter chatMessageConverter;
     private final AiEventPublisher aiEventPublisher;
     private final LoopMapper loopMapper;
-    private final SseEmitterService sseEmitterService;
+    private final SseStreamService sseStreamService;
     private final S3Service s3Service;
     private final ChatMessageEventPublisher chatMessageEventPublisher;
     private final ChatRoomStateService chatRoomStateService;
@@ -81,7 +84,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             );
             Page<ChatMessage> page = chatMessageMongoRepository.findByChatRoomId(chatRoomId, sortedPageable);
 
-            Map<Long, Member> memberMap = chatMessageConverter.loadMembers(page.getContent());
+            Map<Long, MemberCard> memberMap = chatMessageConverter.loadMembers(page.getContent());
             return PageResponse.of(
                     page.map(cm -> chatMessageConverter.toChatMessageResponse(cm, memberMap))
             );
@@ -94,6 +97,30 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         }
     }
 
+    // 채팅방 과거 메시지 커서 조회 [참여자 권한]
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ChatMessageResponse> findByChatRoomIdBefore(
+            Long chatRoomId, String before, int limit, CurrentUserDto currentUser
+    ) {
+        checkCursorLimit(limit);
+        // 참여자 검증
+        boolean memberExists = chatRoomRepository.existsMember(chatRoomId, currentUser.id());
+        if (!memberExists) throw new ServiceException(ReturnCode.NOT_AUTHORIZED);
+        KeysetCursor cursor = KeysetCursor.decode(before);
+        // 다음 페이지 여부 확인을 위해 limit + 1 건 조회
+        List<ChatMessage> rows = chatMessageMongoRepository.findByChatRoomIdBefore(
+                chatRoomId,
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.id() : null,
+                limit + 1
+        );
+        Map<Long, MemberCard> memberMap = chatMessageConverter.loadMembers(rows);
+        return CursorResponse.of(rows, limit,
+                cm -> KeysetCursor.of(cm.getCreatedAt(), cm.getId()).encode(),
+                cm -> chatMessageConverter.toChatMessageResponse(cm, memberMap));
+    }
+
     // 채팅방 메시지 검색(내용) [참여자 권한]
     @Override
     @Transactional(readOnly = true)
@@ -111,7 +138,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         );
         Page<ChatMessage> page = chatMessageMongoRepository.searchByKeyword(chatRoomId, keyword, sortedPageable);
 
-        Map<Long, Member> memberMap = chatMessageConverter.loadMembers(page.getContent());
+        Map<Long, MemberCard> memberMap = chatMessageConverter.loadMembers(page.getContent());
         return PageResponse.of(
                 page.map(cm -> chatMessageConverter.toChatMessageResponse(cm, memberMap))
         );
@@ -160,6 +187,60 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         );
     }
 
+    // Kafka 인바운드 메시지 일괄 처리
+    @Override
+    @Transactional
+    public List<ChatMessagePayload> processInboundBatch(List<ChatMessagePayload> in) {
+        if (in == null || in.isEmpty()) return List.of();
+        // 1) 채팅방 존재/AI 채팅방 여부 일괄 조회
+        Set<Long> chatRoomIds = new HashSet<>();
+        for (ChatMessagePayload p : in) chatRoomIds.add(p.chatRoomId());
+        Map<Long, Boolean> isBotRoomMap = new HashMap<>();
+        for (Object[] row : chatRoomRepository.findIsBotRoomByIds(chatRoomIds)) {
+            isBotRoomMap.put((Long) row[0], (Boolean) row[1]);
+        }
+        List<ChatMessagePayload> valid = new ArrayList<>(in.size());
+        for (ChatMessagePayload p : in) {
+            if (isBotRoomMap.containsKey(p.chatRoomId())) {
+                valid.add(p);
+            } else {
+                log.warn("Skip inbound message for missing chat room. roomId={}, id={}", p.chatRoomId(), p.id());
+            }
+        }
+        if (valid.isEmpty()) return List.of();
+        // 2) Mongo bulk upsert (멱등)
+        Map<String, ChatMessage> savedMap = new HashMap<>();
+        for (ChatMessage saved : chatMessageMongoRepository.bulkUpsertInbound(valid)) {
+            savedMap.put(saved.getId(), saved);
+        }
+        log.info("Mongo 일괄 저장 완료: count={}, rooms={}", savedMap.size(), isBotRoomMap.size());
+        // 3) 채팅방별 최신 메시지 시각으로 lastMessageAt 1회 갱신
+        Map<Long, Instant> lastMessageAtMap = new HashMap<>();
+        List<ChatMessagePayload> result = new ArrayList<>(valid.size());
+        for (ChatMessagePayload p : valid) {
+            ChatMessage saved = savedMap.get(p.id());
+            if (saved == null) continue;
+            lastMessageAtMap.merge(saved.getChatRoomId(), saved.getCreatedAt(), (a, b) -> a.isAfter(b) ? a : b);
+            result.add(new ChatMessagePayload(
+                    saved.getId(),
+                    saved.getClientMessageId(),
+                    saved.getChatRoomId(),
+                    p.memberId(),
+                    saved.getContent(),
+                    saved.getAttachments(),
+                    saved.getRecommendations(),
+                    saved.getLoopRuleId(),
+                    saved.getDeleteMessageId(),
+                    saved.getAuthorType(),
+                    Boolean.TRUE.equals(isBotRoomMap.get(saved.getChatRoomId())),
+                    saved.getCreatedAt(),
+                    saved.getModifiedAt()
+            ));
+        }
+        lastMessageAtMap.forEach(chatRoomRepository::updateLastMessageAtIfNewer);
+        return result;
+    }
+
     @Override
     @Transactional
     public void deleteChatMessage(String messageId, Long memberId) {
@@ -223,9 +304,9 @@ public class ChatMessageServiceImpl implements ChatMessageService {
 
         ChatMessagePayload saved = processInbound(payload);
 
-        Map<Long, Member> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(saved));
+        Map<Long, MemberCard> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(saved));
         ChatMessageResponse response = chatMessageConverter.toChatMessageResponse(saved, memberMap);
-        sseEmitterService.sendToClient(chatRoomId, MESSAGE, response);
+        sseStreamService.sendToClient(chatRoomId, MESSAGE, response);
 
         publishAiIfNeeded(chatRoom.getId(), request.messageType(), saved, loopDetailResponse);
     }
@@ -275,7 +356,7 @@ public class ChatMessageServiceImpl implements ChatMessageService {
             );
             ChatMessagePayload saved = processInbound(payload);
             // 5) Response 변환
-            Map<Long, Member> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(saved));
+            Map<Long, MemberCard> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(saved));
             ChatMessageResponse response = chatMessageConverter.toChatMessageResponse(saved, memberMap);
             // 6) 이벤트 발행
             publishAttachmentMessage(chatRoomId, saved.clientMessageId(), response);
@@ -341,6 +422,11 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         }
     }
 
+    private void checkCursorLimit(int limit) {
+        if (limit < 1) throw new ServiceException(ReturnCode.PAGE_REQUEST_FAIL);
+        checkPageSize(limit);
+    }
+
     private ChatMessagePayload toChatMessagePayload(UUID clientMessageId, Long chatRoomId, Long userId, String content, List<ChatAttachment> attachments, List<LoopCreateRequest> recommendations, String deleteMessageId, ChatMessage.AuthorType authorType, Long loopRuleId) {
         String id;
         if (authorType.equals(ChatMessage.AuthorType.BOT)) {
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +54,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("select cr.isBotRoom from ChatRoom cr where cr.id = :chatRoomId")
     Boolean findIsBotRoom(@Param("chatRoomId") Long chatRoomId);
 
+    // AI 채팅방 여부 일괄 조회 (배치 저장용) - [chatRoomId, isBotRoom]
+    @Query("select cr.id, cr.isBotRoom from ChatRoom cr where cr.id in :chatRoomIds")
+    List<Object[]> findIsBotRoomByIds(@Param("chatRoomIds") Collection<Long> chatRoomIds);
+
     // lastMessageAt을 더 최신인 경우에만 갱신 (역순 도착 방지)
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
@@ -11,6 +11,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class FcmMessageResponse {
     private String eventId;
+    private Long memberId;      // 토큰 소유 멤버 (무효 토큰 정리용)
     private String targetToken;
     private String title;
     private String body;
@@ -0,0 +1,20 @@
+package com.loopone.loopinbe.domain.fcm.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FcmSendStatus {
+    SENT("전송 성공"),
+    RETRYABLE("일시 오류, 재시도 대상"),
+    INVALID_TOKEN("만료/해지된 토큰"),
+    FAILED("재시도 무의미한 실패");
+
+    private final String description;
+
+    // 재시도 없이 처리 완료로 기록할 결과인지
+    public boolean isDone() {
+        return this != RETRYABLE;
+    }
+}
@@ -1,12 +1,24 @@
 package com.loopone.loopinbe.domain.fcm.service;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface FcmIdempotencyService {
     // 처음 처리하는 eventId면 true, 이미 처리(또는 처리중)이면 false
     boolean tryAcquire(String eventId);
 
+    // 배치 선점: 파이프라인 SET NX 한 번으로 처리, 입력 순서대로 선점 여부 반환
+    List<Boolean> tryAcquireAll(List<String> eventIds);
+
     // 처리 성공 표시: TTL 연장하거나 상태 바꿀 때 사용
     void markSuccess(String eventId);
 
+    // 배치 처리 성공 표시 (파이프라인)
+    void markSuccessAll(Collection<String> eventIds);
+
     // 처리 실패 시: 재시도를 위해 락 해제
     void release(String eventId);
+
+    // 배치 처리 실패 시: 재시도를 위해 락 일괄 해제
+    void releaseAll(Collection<String> eventIds);
 }
@@ -3,16 +3,25 @@ package com.loopone.loopinbe.domain.fcm.serviceImpl;
 import com.loopone.loopinbe.domain.fcm.service.FcmIdempotencyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmIdempotencyServiceImpl implements FcmIdempotencyService {
     private static final String KEY_PREFIX = "fcm:dedup:";
+    private static final String PROCESSING = "PROCESSING";
+    private static final String SENT = "SENT";
     private static final Duration PROCESSING_TTL = Duration.ofMinutes(3);
     private static final Duration SENT_TTL = Duration.ofDays(2);
     private final StringRedisTemplate redisTemplate;
@@ -20,14 +29,46 @@ public class FcmIdempotencyServiceImpl implements FcmIdempotencyService {
     // 처음 처리하는 eventId면 true, 이미 처리(또는 처리중)이면 false
     public boolean tryAcquire(String eventId) {
         String key = KEY_PREFIX + eventId;
-        Boolean ok = redisTemplate.opsForValue().setIfAbsent(key, "PROCESSING", PROCESSING_TTL);
+        Boolean ok = redisTemplate.opsForValue().setIfAbsent(key, PROCESSING, PROCESSING_TTL);
         return Boolean.TRUE.equals(ok);
     }
 
+    // 배치 선점: 파이프라인 SET NX 한 번으로 처리, 입력 순서대로 선점 여부 반환
+    // - 같은 배치 안의 중복 eventId 는 앞의 것만 true
+    public List<Boolean> tryAcquireAll(List<String> eventIds) {
+        if (eventIds.isEmpty()) return List.of();
+        byte[] value = PROCESSING.getBytes(StandardCharsets.UTF_8);
+        Expiration ttl = Expiration.from(PROCESSING_TTL);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : eventIds) {
+                connection.stringCommands().set(rawKey(eventId), value, ttl, SetOption.ifAbsent());
+            }
+            return null;
+        });
+        List<Boolean> acquired = new ArrayList<>(eventIds.size());
+        for (int i = 0; i < eventIds.size(); i++) {
+            acquired.add(Boolean.TRUE.equals(results.get(i)));
+        }
+        return acquired;
+    }
+
     // 처리 성공 표시: TTL 연장하거나 상태 바꿀 때 사용
     public void markSuccess(String eventId) {
         String key = KEY_PREFIX + eventId;
-        redisTemplate.opsForValue().set(key, "SENT", SENT_TTL);
+        redisTemplate.opsForValue().set(key, SENT, SENT_TTL);
+    }
+
+    // 배치 처리 성공 표시 (파이프라인)
+    public void markSuccessAll(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return;
+        byte[] value = SENT.getBytes(StandardCharsets.UTF_8);
+        Expiration ttl = Expiration.from(SENT_TTL);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String eventId : eventIds) {
+                connection.stringCommands().set(rawKey(eventId), value, ttl, SetOption.upsert());
+            }
+            return null;
+        });
     }
 
     // 처리 실패 시: 재시도를 위해 락 해제
@@ -35,4 +76,15 @@ public class FcmIdempotencyServiceImpl implements FcmIdempotencyService {
         String key = KEY_PREFIX + eventId;
         redisTemplate.delete(key);
     }
+
+    // 배치 처리 실패 시: 재시도를 위해 락 일괄 해제 (DEL 1회)
+    public void releaseAll(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) return;
+        redisTemplate.delete(eventIds.stream().map(eventId -> KEY_PREFIX + eventId).toList());
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private byte[] rawKey(String eventId) {
+        return (KEY_PREFIX + eventId).getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -1,31 +1,111 @@
 package com.loopone.loopinbe.domain.fcm.serviceImpl;
 
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
 import com.loopone.loopinbe.domain.fcm.dto.res.FcmMessageResponse;
+import com.loopone.loopinbe.domain.fcm.enums.FcmSendStatus;
 import com.loopone.loopinbe.domain.fcm.service.FcmService;
+import com.loopone.loopinbe.global.concurrency.Downstream;
+import com.loopone.loopinbe.global.concurrency.DownstreamLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmServiceImpl implements FcmService {
+    // sendEach 1회 최대 메시지 수 (FCM 제한)
+    static final int MAX_BATCH_SIZE = 500;
+    private final DownstreamLimiter downstreamLimiter;
 
     @Override
     public void sendMessageTo(FcmMessageResponse message) {
         try {
-            Message firebaseMessage = Message.builder()
-                    .setToken(message.getTargetToken())
-                    .putData("title", message.getTitle())
-                    .putData("body", message.getBody())
-                    .build();
-            String response = FirebaseMessaging.getInstance().send(firebaseMessage);
+            Message firebaseMessage = toFirebaseMessage(message);
+            String response = downstreamLimiter.call(Downstream.FCM, () -> FirebaseMessaging.getInstance().send(firebaseMessage));
             log.info("FCM Admin SDK response: {}", response);
         } catch (FirebaseMessagingException e) {
             log.error("FCM push failed", e);
         }
     }
+
+    // 배치 전송 (sendEach, 최대 500건씩), 입력 순서대로 메시지별 결과 반환
+    @Override
+    public List<FcmSendStatus> sendAll(List<FcmMessageResponse> messages) {
+        List<FcmSendStatus> statuses = new ArrayList<>(messages.size());
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            statuses.addAll(sendChunk(messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()))));
+        }
+        return statuses;
+    }
+
+    // ========== 비즈니스 로직 메서드 ==========
+    // sendEach 1회 (하류 슬롯 1개), 호출 자체가 실패하면 전부 재시도 대상
+    private List<FcmSendStatus> sendChunk(List<FcmMessageResponse> chunk) {
+        List<Message> firebaseMessages = chunk.stream().map(this::toFirebaseMessage).toList();
+        try {
+            BatchResponse response = downstreamLimiter.call(Downstream.FCM,
+                    () -> FirebaseMessaging.getInstance().sendEach(firebaseMessages));
+            log.info("FCM batch sent. size={}, success={}, failure={}",
+                    chunk.size(), response.getSuccessCount(), response.getFailureCount());
+            List<FcmSendStatus> statuses = new ArrayList<>(chunk.size());
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                statuses.add(toStatus(chunk.get(i), responses.get(i)));
+            }
+            return statuses;
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM batch push failed. size={}", chunk.size(), e);
+            return Collections.nCopies(chunk.size(), FcmSendStatus.RETRYABLE);
+        }
+    }
+
+    // 메시지별 실패 사유 → 재시도/토큰 정리/포기
+    private FcmSendStatus toStatus(FcmMessageResponse message, SendResponse response) {
+        if (response.isSuccessful()) return FcmSendStatus.SENT;
+        FirebaseMessagingException e = response.getException();
+        FcmSendStatus status = classify(e);
+        if (status == FcmSendStatus.RETRYABLE) {
+            log.warn("FCM push temporarily failed. eventId={}, code={}", message.getEventId(), e.getMessagingErrorCode());
+        } else {
+            log.error("FCM push failed. eventId={}, status={}, code={}", message.getEventId(), status, e.getMessagingErrorCode(), e);
+        }
+        return status;
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private Message toFirebaseMessage(FcmMessageResponse message) {
+        return Message.builder()
+                .setToken(message.getTargetToken())
+                .putData("title", message.getTitle())
+                .putData("body", message.getBody())
+                .build();
+    }
+
+    static FcmSendStatus classify(FirebaseMessagingException e) {
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        if (code != null) {
+            return switch (code) {
+                case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> FcmSendStatus.RETRYABLE;
+                // 페이로드 형식은 고정이므로 INVALID_ARGUMENT 는 잘못된 토큰으로 간주
+                case UNREGISTERED, SENDER_ID_MISMATCH, INVALID_ARGUMENT -> FcmSendStatus.INVALID_TOKEN;
+                default -> FcmSendStatus.FAILED;
+            };
+        }
+        ErrorCode errorCode = e.getErrorCode();
+        return (errorCode == ErrorCode.UNAVAILABLE || errorCode == ErrorCode.INTERNAL
+                || errorCode == ErrorCode.DEADLINE_EXCEEDED || errorCode == ErrorCode.RESOURCE_EXHAUSTED)
+                ? FcmSendStatus.RETRYABLE
+                : FcmSendStatus.FAILED;
+    }
 }
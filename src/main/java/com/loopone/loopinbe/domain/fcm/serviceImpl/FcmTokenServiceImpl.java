@@ -4,54 +4,199 @@ import com.loopone.loopinbe.domain.fcm.service.FcmTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
+// 멤버별 다중 기기 FCM 토큰 레지스트리
+// - fcm:tokens:{memberId} 해시 (field: 토큰, value: lastSeen epoch millis)
+// - lastSeen 이 refreshToken 만료보다 오래된 토큰, 기기 수 초과분, FCM 이 무효 판정한 토큰은 자동 정리
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmTokenServiceImpl implements FcmTokenService {
-    private final RedisTemplate<String, Object> redisTemplate;
-    private static final String FCM_TOKEN_PREFIX = "fcm:"; // Redis key prefix
+    private static final String FCM_TOKEN_PREFIX = "fcm:tokens:"; // Redis key prefix
+    private static final String LEGACY_FCM_TOKEN_PREFIX = "fcm:"; // 단일 토큰 시절 key (조회 시 이전, 저장 시 정리)
+    static final int MAX_DEVICES = 10;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Value("${custom.refreshToken.expiration}")
     private Duration refreshTokenExpiration; // FCM 토큰 만료 시간
 
-    // FCM Token 조회
+    // 멤버의 유효한 FCM Token 목록 조회 (기기별)
     @Override
-    @Transactional(readOnly = true)
-    public String getFcmToken(Long memberId) {
-        ValueOperations<String, Object> ops = redisTemplate.opsForValue();
-        String key = getFcmTokenKey(memberId);
-        Object value = ops.get(key);
-        return value != null ? value.toString() : null;
+    public List<String> getTokens(Long memberId) {
+        return getTokens(List.of(memberId)).getOrDefault(memberId, List.of());
     }
 
-    // FCM Token 저장
+    // 여러 멤버의 유효한 FCM Token 일괄 조회 (파이프라인 HGETALL + 단일 토큰 시절 key GET 1회), 토큰 없는 멤버는 결과에서 제외
+    // - 해시가 비어 있고 예전 fcm:{memberId} 토큰만 있으면 그 토큰을 쓰고 해시로 옮김
+    @Override
+    public Map<Long, List<String>> getTokens(Collection<Long> memberIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        if (ids.isEmpty()) return Map.of();
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : ids) {
+                connection.hashCommands().hGetAll(rawKey(memberId));
+                connection.stringCommands().get(raw(LEGACY_FCM_TOKEN_PREFIX + memberId));
+            }
+            return null;
+        });
+        long now = System.currentTimeMillis();
+        Map<Long, List<String>> tokens = new HashMap<>();
+        Map<Long, List<String>> stale = new HashMap<>();
+        Map<Long, String> legacy = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long memberId = ids.get(i);
+            if (!(results.get(2 * i) instanceof Map<?, ?> entries) || entries.isEmpty()) {
+                String legacyToken = parseLegacyToken(results.get(2 * i + 1));
+                if (legacyToken != null) {
+                    tokens.put(memberId, new ArrayList<>(List.of(legacyToken)));
+                    legacy.put(memberId, legacyToken);
+                }
+                continue;
+            }
+            List<String> expired = staleTokens(entries, now);
+            for (Object token : entries.keySet()) {
+                if (!expired.contains(token.toString())) {
+                    tokens.computeIfAbsent(memberId, k -> new ArrayList<>()).add(token.toString());
+                }
+            }
+            if (!expired.isEmpty()) stale.put(memberId, expired);
+        }
+        if (!stale.isEmpty()) removeTokens(stale);
+        if (!legacy.isEmpty()) migrateLegacyTokens(legacy, now);
+        return tokens;
+    }
+
+    // FCM Token 저장 (새 기기 등록 또는 lastSeen 갱신) 후 오래된/초과 기기 정리
     @Override
-    @Transactional
     public void saveFcmToken(Long memberId, String fcmToken) {
-        ValueOperations<String, Object> ops = redisTemplate.opsForValue();
-        String key = getFcmTokenKey(memberId);
-        ops.set(key, fcmToken, refreshTokenExpiration.toMillis(), TimeUnit.MILLISECONDS);
+        byte[] key = rawKey(memberId);
+        long now = System.currentTimeMillis();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hSet(key, raw(fcmToken), raw(String.valueOf(now)));
+            connection.keyCommands().expire(key, refreshTokenExpiration.toSeconds());
+            connection.hashCommands().hGetAll(key);
+            connection.keyCommands().del(raw(LEGACY_FCM_TOKEN_PREFIX + memberId));
+            return null;
+        });
+        if (results.get(2) instanceof Map<?, ?> entries) {
+            List<String> stale = staleTokens(entries, now);
+            if (!stale.isEmpty()) removeTokens(Map.of(memberId, stale));
+        }
     }
 
-    // FCM Token 삭제
+    // FCM Token 삭제 (멤버의 모든 기기 + 단일 토큰 시절 key)
     @Override
-    @Transactional
     public void deleteFcmToken(Long memberId) {
-        String key = getFcmTokenKey(memberId);
-        redisTemplate.delete(key);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(rawKey(memberId));
+            connection.keyCommands().del(raw(LEGACY_FCM_TOKEN_PREFIX + memberId));
+            return null;
+        });
     }
 
-    // ----------------- 헬퍼 메서드 -----------------
+    // FCM Token 삭제 (단일 기기)
+    // - 예전 fcm:{memberId} 에 같은 토큰이 남아 있으면 함께 삭제 (안 지우면 다음 조회 때 다시 이전됨)
+    @Override
+    public void deleteFcmToken(Long memberId, String fcmToken) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hDel(rawKey(memberId), raw(fcmToken));
+            connection.stringCommands().get(raw(LEGACY_FCM_TOKEN_PREFIX + memberId));
+            return null;
+        });
+        if (fcmToken.equals(parseLegacyToken(results.get(1)))) {
+            stringRedisTemplate.delete(LEGACY_FCM_TOKEN_PREFIX + memberId);
+        }
+    }
+
+    // FCM 이 무효 판정(UNREGISTERED 등)한 토큰 정리
+    @Override
+    public void pruneInvalidTokens(Map<Long, ? extends Collection<String>> invalidTokens) {
+        if (invalidTokens.isEmpty()) return;
+        removeTokens(invalidTokens);
+        log.info("Pruned invalid FCM tokens. members={}", invalidTokens.size());
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    // 멤버별 토큰 일괄 삭제 (파이프라인 HDEL)
+    private void removeTokens(Map<Long, ? extends Collection<String>> tokensByMember) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            tokensByMember.forEach((memberId, tokens) -> {
+                if (tokens.isEmpty()) return;
+                byte[][] fields = tokens.stream().map(this::raw).toArray(byte[][]::new);
+                connection.hashCommands().hDel(rawKey(memberId), fields);
+            });
+            return null;
+        });
+    }
+
+    // 단일 토큰 시절 key 를 기기별 해시로 이전 (lastSeen 은 이전 시각)
+    private void migrateLegacyTokens(Map<Long, String> legacyTokens, long now) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            legacyTokens.forEach((memberId, token) -> {
+                byte[] key = rawKey(memberId);
+                connection.hashCommands().hSet(key, raw(token), raw(String.valueOf(now)));
+                connection.keyCommands().expire(key, refreshTokenExpiration.toSeconds());
+                connection.keyCommands().del(raw(LEGACY_FCM_TOKEN_PREFIX + memberId));
+            });
+            return null;
+        });
+        log.info("Migrated legacy FCM tokens. members={}", legacyTokens.size());
+    }
+
+    // 예전 값은 JSON 문자열("token")로 저장되어 있음
+    private String parseLegacyToken(Object value) {
+        if (value == null) return null;
+        String token = value.toString();
+        if (token.length() >= 2 && token.startsWith("\"") && token.endsWith("\"")) {
+            token = token.substring(1, token.length() - 1);
+        }
+        return token.isBlank() ? null : token;
+    }
+
+    // lastSeen 만료 토큰 + 최근 사용 순으로 MAX_DEVICES 를 넘는 토큰
+    List<String> staleTokens(Map<?, ?> entries, long now) {
+        long staleBefore = now - refreshTokenExpiration.toMillis();
+        List<String> stale = new ArrayList<>();
+        List<Map.Entry<String, Long>> active = new ArrayList<>();
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            long lastSeen = parseLastSeen(entry.getValue());
+            if (lastSeen < staleBefore) stale.add(entry.getKey().toString());
+            else active.add(Map.entry(entry.getKey().toString(), lastSeen));
+        }
+        if (active.size() > MAX_DEVICES) {
+            active.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+            active.subList(MAX_DEVICES, active.size()).forEach(e -> stale.add(e.getKey()));
+        }
+        return stale;
+    }
+
+    private long parseLastSeen(Object value) {
+        try {
+            return Long.parseLong(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private byte[] rawKey(Long memberId) {
+        return raw(FCM_TOKEN_PREFIX + memberId); // e.g., fcm:tokens:123
+    }
 
-    private String getFcmTokenKey(Long memberId) {
-        return FCM_TOKEN_PREFIX + memberId; // e.g., fcm:123
+    private byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
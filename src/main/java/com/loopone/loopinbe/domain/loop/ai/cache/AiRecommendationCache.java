@@ -0,0 +1,129 @@
+package com.loopone.loopinbe.domain.loop.ai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
+import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
+import com.loopone.loopinbe.global.config.properties.AiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.loopone.loopinbe.global.constants.Constant.CREATE_LOOP_PROMPT;
+
+// 루프 생성(CREATE_LOOP) AI 추천 응답 로컬 캐시
+// - 키: 프롬프트 템플릿 버전 | 날짜 버킷(프롬프트에 오늘 날짜가 들어감) | 정규화한 사용자 입력
+// - 정확 일치 미스 시, 옵션으로 같은 버킷 안에서 임베딩 유사도가 임계값 이상인 항목 사용
+// - 수정(UPDATE_LOOP) 요청은 기존 루프 정보가 프롬프트에 들어가므로 캐시하지 않음
+@Slf4j
+@Component
+public class AiRecommendationCache {
+    // 템플릿 문구가 바뀌면 키가 달라져 이전 응답은 자연히 미사용 → TTL 로 정리
+    private static final String TEMPLATE_VERSION = Integer.toHexString(CREATE_LOOP_PROMPT.hashCode());
+
+    private final AiProperties.Cache properties;
+    private final Cache<String, RecommendationsLoop> responses;
+    private final Cache<String, float[]> embeddings; // 키 -> 사용자 입력 임베딩 (응답과 같은 크기/TTL)
+    private final LongAdder semanticHits = new LongAdder();
+
+    public AiRecommendationCache(AiProperties aiProperties) {
+        this.properties = aiProperties.cache();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.embeddings = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    public RecommendationsLoop get(AiPayload payload) {
+        if (!cacheable(payload)) return null;
+        String text = normalize(payload.userContent());
+        String bucket = bucket();
+        String key = bucket + compact(text);
+
+        RecommendationsLoop exact = responses.getIfPresent(key);
+        if (exact != null || !properties.semanticEnabled()) return exact;
+
+        RecommendationsLoop similar = findSimilar(bucket, text);
+        if (similar != null) semanticHits.increment();
+        return similar;
+    }
+
+    public void put(AiPayload payload, RecommendationsLoop recommendations) {
+        if (!cacheable(payload) || recommendations == null
+                || recommendations.recommendations() == null || recommendations.recommendations().isEmpty()) {
+            return; // 파싱 실패 등 빈 응답은 캐시하지 않음
+        }
+        String text = normalize(payload.userContent());
+        String key = bucket() + compact(text);
+        responses.put(key, recommendations);
+        if (properties.semanticEnabled()) {
+            embeddings.put(key, PromptEmbedder.embed(text));
+        }
+    }
+
+    // 10분마다 적중률 로그 (정확 일치 적중은 Caffeine 통계, 유사 적중은 정확 일치 미스 중 일부)
+    @Scheduled(fixedDelayString = "600000")
+    public void logStats() {
+        CacheStats stats = responses.stats();
+        long requests = stats.requestCount();
+        if (requests == 0) return;
+        long hits = stats.hitCount() + semanticHits.sum();
+        log.info("AI recommendation cache. requests={}, exactHits={}, semanticHits={}, hitRate={}, size={}, evictions={}",
+                requests, stats.hitCount(), semanticHits.sum(),
+                String.format("%.3f", (double) hits / requests), responses.estimatedSize(), stats.evictionCount());
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private boolean cacheable(AiPayload payload) {
+        return properties.enabled()
+                && payload.loopDetailResponse() == null
+                && payload.userContent() != null
+                && !payload.userContent().isBlank();
+    }
+
+    // 같은 버킷의 항목만 선형 탐색 (maximumSize 이내, 512차원 내적)
+    private RecommendationsLoop findSimilar(String bucket, String text) {
+        float[] query = PromptEmbedder.embed(text);
+        String bestKey = null;
+        double best = properties.similarityThreshold();
+        for (Map.Entry<String, float[]> entry : embeddings.asMap().entrySet()) {
+            if (!entry.getKey().startsWith(bucket)) continue;
+            double similarity = PromptEmbedder.cosine(query, entry.getValue());
+            if (similarity >= best) {
+                best = similarity;
+                bestKey = entry.getKey();
+            }
+        }
+        // 통계에 잡히지 않도록 asMap 으로 조회 (정확 일치 미스로 이미 집계됨)
+        return bestKey == null ? null : responses.asMap().get(bestKey);
+    }
+
+    private String bucket() {
+        return TEMPLATE_VERSION + "|" + LocalDate.now() + "|";
+    }
+
+    // NFKC, 소문자, 문장부호/이모지 제거, 공백 정리
+    static String normalize(String userContent) {
+        return Normalizer.normalize(userContent, Normalizer.Form.NFKC)
+                .toLowerCase()
+                .replaceAll("[^\\p{L}\\p{N}\\s]", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    // 정확 일치 키는 띄어쓰기 차이를 무시
+    private static String compact(String normalized) {
+        return normalized.replace(" ", "");
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopone.loopinbe.domain.loop.ai.cache;
+
+// 외부 서비스 없이 쓰는 로컬 텍스트 임베딩 (문자 2/3-gram feature hashing, L2 정규화)
+// - 한국어 띄어쓰기/조사 차이("토익 공부" vs "토익공부 하기")에 강하고 계산이 가벼움 (의미 임베딩은 아님)
+final class PromptEmbedder {
+    static final int DIMENSIONS = 512;
+
+    private PromptEmbedder() {}
+
+    static float[] embed(String text) {
+        float[] vector = new float[DIMENSIONS];
+        String padded = " " + text + " ";
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                int hash = padded.substring(i, i + n).hashCode() * 0x9E3779B9;
+                // 부호 해싱으로 충돌 편향 상쇄
+                vector[Math.floorMod(hash, DIMENSIONS)] += (hash >>> 31) == 0 ? 1f : -1f;
+            }
+        }
+        double norm = 0;
+        for (float v : vector) norm += v * v;
+        if (norm == 0) return vector;
+        float inv = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < DIMENSIONS; i++) vector[i] *= inv;
+        return vector;
+    }
+
+    // 둘 다 정규화된 벡터이므로 내적 = 코사인 유사도
+    static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < DIMENSIONS; i++) dot += a[i] * b[i];
+        return dot;
+    }
+}
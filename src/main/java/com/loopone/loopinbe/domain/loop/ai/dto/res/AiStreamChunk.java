@@ -0,0 +1,12 @@
+package com.loopone.loopinbe.domain.loop.ai.dto.res;
+
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+
+import java.util.UUID;
+
+// 스트리밍 중 SSE 로 먼저 보내는 부분 추천 (최종 결과는 같은 clientMessageId 의 MESSAGE 이벤트)
+public record AiStreamChunk(
+        UUID clientMessageId,
+        Integer index,                     // AI_STREAM_START/AI_STREAM_ERROR 이면 null
+        LoopCreateRequest recommendation   // AI_STREAM_START/AI_STREAM_ERROR 이면 null
+) {}
@@ -2,9 +2,13 @@ package com.loopone.loopinbe.domain.loop.ai.service;
 
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
+import reactor.core.publisher.Mono;
 
 public interface AiProvider {
     RecommendationsLoop callOpenAi(AiPayload payload);
 
+    // 스트리밍 호출: 완성된 부분 추천은 listener 로 먼저 전달, 완료 시 전체 응답을 구조화 파싱
+    Mono<RecommendationsLoop> stream(AiPayload payload, AiStreamListener listener);
+
     String getName();
 }
@@ -0,0 +1,12 @@
+package com.loopone.loopinbe.domain.loop.ai.service;
+
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+
+// 스트리밍 AI 응답의 중간 결과 수신자 (reactor 스레드에서 순서대로 호출되므로 블로킹 작업 금지)
+public interface AiStreamListener {
+    // 첫 토큰 도착
+    default void onStart() {}
+
+    // recommendations 배열 원소 하나가 완성됨
+    void onRecommendation(LoopCreateRequest recommendation);
+}
@@ -2,9 +2,12 @@ package com.loopone.loopinbe.domain.loop.ai.service;
 
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
+import reactor.core.publisher.Mono;
 
 import java.util.concurrent.CompletableFuture;
 
 public interface LoopAIService {
     CompletableFuture<RecommendationsLoop> chat(AiPayload message);
+
+    Mono<RecommendationsLoop> chatStream(AiPayload message, AiStreamListener listener);
 }
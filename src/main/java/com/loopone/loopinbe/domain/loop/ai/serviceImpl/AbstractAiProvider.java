@@ -5,13 +5,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
 import com.loopone.loopinbe.domain.loop.ai.service.AiProvider;
+import com.loopone.loopinbe.domain.loop.ai.service.AiStreamListener;
 import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static com.loopone.loopinbe.global.constants.Constant.CREATE_LOOP_PROMPT;
@@ -20,11 +28,14 @@ import static com.loopone.loopinbe.global.constants.Constant.UPDATE_LOOP_PROMPT;
 @Slf4j
 public abstract class AbstractAiProvider implements AiProvider {
     protected final ObjectMapper objectMapper;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
 
     protected AbstractAiProvider(
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            CircuitBreakerRegistry circuitBreakerRegistry
     ) {
         this.objectMapper = objectMapper;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
     }
 
     @Override
@@ -33,8 +44,38 @@ public abstract class AbstractAiProvider implements AiProvider {
     protected RecommendationsLoop execute(AiPayload payload) {
         String prompt = buildPrompt(payload);
         String raw = callModel(prompt);
-        RecommendationsLoop parsed = parse(raw);
+        return withLoopRuleId(payload, parse(raw));
+    }
+
+    // 스트리밍 호출 (응답 대기 중 스레드를 점유하지 않음)
+    // - 블로킹 호출과 같은 서킷 브레이커 인스턴스 사용 (@CircuitBreaker 는 Mono 를 지원하지 않아 직접 기록)
+    // - 응답 시간은 첫 토큰까지로 기록 (긴 생성이 slow call 로 집계되지 않도록)
+    @Override
+    public Mono<RecommendationsLoop> stream(AiPayload payload, AiStreamListener listener) {
+        return Mono.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(getCircuitBreakerName());
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            long startedAt = System.nanoTime();
+            AtomicLong firstChunkAt = new AtomicLong();
+            RecommendationStreamParser parser = new RecommendationStreamParser(objectMapper);
+
+            return streamModel(buildPrompt(payload))
+                    .doOnNext(chunk -> {
+                        if (firstChunkAt.compareAndSet(0, System.nanoTime())) {
+                            listener.onStart();
+                        }
+                        parser.append(chunk).forEach(listener::onRecommendation);
+                    })
+                    .then(Mono.fromSupplier(() -> withLoopRuleId(payload, parse(parser.text()))))
+                    .doOnSuccess(result -> circuitBreaker.onSuccess(untilFirstChunk(startedAt, firstChunkAt), TimeUnit.NANOSECONDS))
+                    .doOnError(e -> circuitBreaker.onError(untilFirstChunk(startedAt, firstChunkAt), TimeUnit.NANOSECONDS, e))
+                    .doOnCancel(circuitBreaker::releasePermission);
+        });
+    }
 
+    private RecommendationsLoop withLoopRuleId(AiPayload payload, RecommendationsLoop parsed) {
         Long loopRuleId = null;
         if (payload.loopDetailResponse() != null && payload.loopDetailResponse().loopRule() != null) {
             loopRuleId = payload.loopDetailResponse().loopRule().ruleId();
@@ -47,6 +88,11 @@ public abstract class AbstractAiProvider implements AiProvider {
         );
     }
 
+    private long untilFirstChunk(long startedAt, AtomicLong firstChunkAt) {
+        long end = firstChunkAt.get();
+        return (end == 0 ? System.nanoTime() : end) - startedAt;
+    }
+
     protected String buildPrompt(AiPayload payload) {
         if (payload.loopDetailResponse() != null) {
             return updatePrompt(payload.userContent(), payload.loopDetailResponse());
@@ -129,6 +175,10 @@ public abstract class AbstractAiProvider implements AiProvider {
 
     protected abstract String callModel(String prompt);
 
+    protected abstract Flux<String> streamModel(String prompt);
+
+    protected abstract String getCircuitBreakerName();
+
     protected RecommendationsLoop fallback(Throwable t) {
         log.warn("{} fallback triggered", getName(), t);
         throw new ServiceException(ReturnCode.OPEN_AI_INTERNAL_ERROR);
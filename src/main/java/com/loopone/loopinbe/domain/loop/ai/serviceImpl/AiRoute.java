@@ -3,12 +3,19 @@ package com.loopone.loopinbe.domain.loop.ai.serviceImpl;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
 import com.loopone.loopinbe.domain.loop.ai.service.AiProvider;
+import com.loopone.loopinbe.domain.loop.ai.service.AiStreamListener;
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
@@ -31,4 +38,42 @@ public class AiRoute {
         }
         throw new ServiceException(ReturnCode.OPEN_AI_INTERNAL_ERROR);
     }
+
+    // 스트리밍 라우팅: 첫 토큰 전 실패만 재시도/다음 제공자로 전환
+    // (부분 결과를 이미 보낸 뒤 전환하면 클라이언트에 서로 다른 응답이 섞이므로 그대로 실패 처리)
+    public Mono<RecommendationsLoop> stream(AiPayload payload, AiStreamListener listener) {
+        return stream(payload, listener, 0);
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private Mono<RecommendationsLoop> stream(AiPayload payload, AiStreamListener listener, int index) {
+        if (index >= providers.size()) {
+            return Mono.error(new ServiceException(ReturnCode.OPEN_AI_INTERNAL_ERROR));
+        }
+        AiProvider provider = providers.get(index);
+        return Mono.defer(() -> {
+            AtomicBoolean started = new AtomicBoolean();
+            AiStreamListener tracking = new AiStreamListener() {
+                @Override
+                public void onStart() {
+                    started.set(true);
+                    listener.onStart();
+                }
+
+                @Override
+                public void onRecommendation(LoopCreateRequest recommendation) {
+                    listener.onRecommendation(recommendation);
+                }
+            };
+            return provider.stream(payload, tracking)
+                    // 블로킹 호출의 @Retryable(3회, 1.5s x2) 과 같은 정책
+                    .retryWhen(Retry.backoff(2, Duration.ofMillis(1500))
+                            .filter(e -> !started.get() && !(e instanceof CallNotPermittedException)))
+                    .onErrorResume(e -> {
+                        if (started.get()) return Mono.error(e);
+                        log.warn("{} 사용 불가", provider.getName());
+                        return stream(payload, listener, index + 1);
+                    });
+        });
+    }
 }
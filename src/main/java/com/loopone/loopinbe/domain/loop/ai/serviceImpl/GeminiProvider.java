@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
 import com.loopone.loopinbe.domain.loop.ai.dto.type.AiType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
@@ -13,22 +14,25 @@ import org.springframework.core.annotation.Order;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
 @Order(2)
 public class GeminiProvider extends AbstractAiProvider {
+    private static final String CIRCUIT_BREAKER = "gemini";
     private final ChatClient chatClient;
 
     protected GeminiProvider(
             ObjectMapper objectMapper,
-            @Qualifier("geminiChatModel") ChatModel geminiChatModel) {
-        super(objectMapper);
+            @Qualifier("geminiChatModel") ChatModel geminiChatModel,
+            CircuitBreakerRegistry circuitBreakerRegistry) {
+        super(objectMapper, circuitBreakerRegistry);
         this.chatClient = ChatClient.builder(geminiChatModel).build();
     }
 
     @Override
-    @CircuitBreaker(name = "gemini", fallbackMethod = "fallback")
+    @CircuitBreaker(name = CIRCUIT_BREAKER, fallbackMethod = "fallback")
     @Retryable(backoff = @Backoff(delay = 1500, multiplier = 2))
     public RecommendationsLoop callOpenAi(AiPayload payload) {
         return execute(payload);
@@ -43,6 +47,20 @@ public class GeminiProvider extends AbstractAiProvider {
                 .content();
     }
 
+    @Override
+    protected Flux<String> streamModel(String prompt) {
+        log.info("Gemini Stream Call");
+        return chatClient.prompt()
+                .user(prompt)
+                .stream()
+                .content();
+    }
+
+    @Override
+    protected String getCircuitBreakerName() {
+        return CIRCUIT_BREAKER;
+    }
+
     @Override
     public String getName() {
         return AiType.GEMINI.name();
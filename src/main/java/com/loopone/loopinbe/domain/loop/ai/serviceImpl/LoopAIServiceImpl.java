@@ -1,12 +1,16 @@
 package com.loopone.loopinbe.domain.loop.ai.serviceImpl;
 
+import com.loopone.loopinbe.domain.loop.ai.cache.AiRecommendationCache;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
+import com.loopone.loopinbe.domain.loop.ai.service.AiStreamListener;
 import com.loopone.loopinbe.domain.loop.ai.service.LoopAIService;
 import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
 import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
 import com.loopone.loopinbe.domain.loop.loop.mapper.LoopMapper;
 import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
+import com.loopone.loopinbe.global.concurrency.Downstream;
+import com.loopone.loopinbe.global.concurrency.DownstreamLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
@@ -29,24 +33,67 @@ public class LoopAIServiceImpl implements LoopAIService {
     private final LoopMapper loopMapper;
     @Qualifier("openAiExecutor")
     private final Executor executor;
+    private final DownstreamLimiter downstreamLimiter;
+    private final AiRecommendationCache aiRecommendationCache;
 
     public LoopAIServiceImpl(
             AiRoute aiRoute,
             LoopRepository loopRepository,
             LoopMapper loopMapper,
-            @Qualifier("openAiExecutor") Executor executor
+            @Qualifier("openAiExecutor") Executor executor,
+            DownstreamLimiter downstreamLimiter,
+            AiRecommendationCache aiRecommendationCache
     ) {
         this.aiRoute = aiRoute;
         this.loopRepository = loopRepository;
         this.loopMapper = loopMapper;
         this.executor = executor;
+        this.downstreamLimiter = downstreamLimiter;
+        this.aiRecommendationCache = aiRecommendationCache;
     }
 
+    // 트랜잭션은 프롬프트용 루프 조회(동기 구간)만 감쌈, AI 호출은 반환 이후 별도 스레드에서 진행
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public CompletableFuture<RecommendationsLoop> chat(AiPayload request) {
         log.info("OpenAI 요청 처리 시작: requestId={}", request.clientMessageId());
 
+        AiPayload payloadToSend = withUpcomingLoop(request);
+        RecommendationsLoop cached = aiRecommendationCache.get(payloadToSend);
+        if (cached != null) {
+            log.info("AI 추천 캐시 적중: requestId={}", request.clientMessageId());
+            return CompletableFuture.completedFuture(cached);
+        }
+        // AI 제공자 동시 호출 수 제한 (가상 스레드 모드에서는 스레드 풀 크기 대신 이 제한이 상한)
+        return CompletableFuture.supplyAsync(
+                () -> downstreamLimiter.call(Downstream.AI, () -> aiRoute.route(payloadToSend)),
+                executor
+        ).thenApply(recommendations -> {
+            aiRecommendationCache.put(payloadToSend, recommendations);
+            return recommendations;
+        });
+    }
+
+    // 스트리밍 요청: 응답 대기 중 executor 스레드를 점유하지 않음 (동시 호출 수 제한은 동일하게 적용)
+    // 반환된 Mono 는 트랜잭션 밖에서 구독되므로, 트랜잭션은 메서드 안의 루프 조회에만 적용 (읽기 전용)
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<RecommendationsLoop> chatStream(AiPayload request, AiStreamListener listener) {
+        log.info("OpenAI 스트리밍 요청 처리 시작: requestId={}", request.clientMessageId());
+
+        AiPayload payloadToSend = withUpcomingLoop(request);
+        RecommendationsLoop cached = aiRecommendationCache.get(payloadToSend);
+        if (cached != null) {
+            log.info("AI 추천 캐시 적중: requestId={}", request.clientMessageId());
+            return Mono.just(cached);
+        }
+        return downstreamLimiter.limit(Downstream.AI, () -> aiRoute.stream(payloadToSend, listener))
+                .doOnNext(recommendations -> aiRecommendationCache.put(payloadToSend, recommendations));
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    // 반복 규칙이 있으면 오늘 이후 첫 루프 기준으로 프롬프트 정보 갱신
+    private AiPayload withUpcomingLoop(AiPayload request) {
         AiPayload finalRequest = request;
 
         if (request.loopDetailResponse() != null && request.loopDetailResponse().loopRule() != null) {
@@ -70,8 +117,6 @@ public class LoopAIServiceImpl implements LoopAIService {
                 );
             }
         }
-        
-        AiPayload payloadToSend = finalRequest;
-        return CompletableFuture.supplyAsync(() -> aiRoute.route(payloadToSend), executor);
+        return finalRequest;
     }
 }
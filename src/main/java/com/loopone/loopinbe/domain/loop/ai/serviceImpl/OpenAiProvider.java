@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
 import com.loopone.loopinbe.domain.loop.ai.dto.type.AiType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
@@ -13,23 +14,26 @@ import org.springframework.core.annotation.Order;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
 @Order(1)
 public class OpenAiProvider extends AbstractAiProvider {
+    private static final String CIRCUIT_BREAKER = "open-ai";
     private final ChatClient chatClient;
 
     public OpenAiProvider(
             ObjectMapper objectMapper,
-            @Qualifier("openAiChatModel") ChatModel gptChatModel
+            @Qualifier("openAiChatModel") ChatModel gptChatModel,
+            CircuitBreakerRegistry circuitBreakerRegistry
     ) {
-        super(objectMapper);
+        super(objectMapper, circuitBreakerRegistry);
         this.chatClient = ChatClient.builder(gptChatModel).build();
     }
 
     @Override
-    @CircuitBreaker(name = "open-ai", fallbackMethod = "fallback")
+    @CircuitBreaker(name = CIRCUIT_BREAKER, fallbackMethod = "fallback")
     @Retryable(backoff = @Backoff(delay = 1500, multiplier = 2))
     public RecommendationsLoop callOpenAi(AiPayload payload) {
         return execute(payload);
@@ -44,6 +48,20 @@ public class OpenAiProvider extends AbstractAiProvider {
                 .content();
     }
 
+    @Override
+    protected Flux<String> streamModel(String prompt) {
+        log.info("OpenAI Stream Call");
+        return chatClient.prompt()
+                .user(prompt)
+                .stream()
+                .content();
+    }
+
+    @Override
+    protected String getCircuitBreakerName() {
+        return CIRCUIT_BREAKER;
+    }
+
     @Override
     public String getName() {
         return AiType.OPEN_AI.name();
@@ -0,0 +1,74 @@
+package com.loopone.loopinbe.domain.loop.ai.serviceImpl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 스트리밍 응답 조각을 이어 붙이며 recommendations 배열에서 완성된 원소만 골라 파싱 (요청 1건당 1개, 스레드 안전하지 않음)
+// - 최상위 객체 안(depth 2)에서 열리고 닫힌 객체 = 추천 1건 (title 등 나머지 필드는 문자열/배열)
+// - 문자열 안의 중괄호는 무시, 이미 검사한 위치부터 이어서 검사
+@Slf4j
+class RecommendationStreamParser {
+    private final ObjectMapper objectMapper;
+    private final StringBuilder buffer = new StringBuilder();
+    private int scanned;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int objectStart = -1;
+
+    RecommendationStreamParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    List<LoopCreateRequest> append(String chunk) {
+        if (chunk == null || chunk.isEmpty()) return List.of();
+        buffer.append(chunk);
+
+        List<LoopCreateRequest> completed = new ArrayList<>();
+        for (; scanned < buffer.length(); scanned++) {
+            char c = buffer.charAt(scanned);
+            if (inString) {
+                if (escaped) escaped = false;
+                else if (c == '\\') escaped = true;
+                else if (c == '"') inString = false;
+                continue;
+            }
+            switch (c) {
+                case '"' -> inString = true;
+                case '{' -> {
+                    if (++depth == 2) objectStart = scanned;
+                }
+                case '}' -> {
+                    if (depth == 2 && objectStart >= 0) {
+                        LoopCreateRequest recommendation = read(buffer.substring(objectStart, scanned + 1));
+                        if (recommendation != null) completed.add(recommendation);
+                        objectStart = -1;
+                    }
+                    depth--;
+                }
+                default -> { }
+            }
+        }
+        return completed;
+    }
+
+    // 지금까지 받은 전체 응답 (완료 후 구조화 파싱용)
+    String text() {
+        return buffer.toString();
+    }
+
+    private LoopCreateRequest read(String json) {
+        try {
+            return objectMapper.readValue(json, LoopCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            // 부분 결과는 건너뛰고 최종 파싱 결과로 대체
+            log.debug("AI 스트리밍 부분 추천 파싱 실패: {}", e.getOriginalMessage());
+            return null;
+        }
+    }
+}
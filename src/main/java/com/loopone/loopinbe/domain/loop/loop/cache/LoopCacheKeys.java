@@ -0,0 +1,91 @@
+package com.loopone.loopinbe.domain.loop.loop.cache;
+
+import com.loopone.loopinbe.global.redis.cache.CacheTagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.loopone.loopinbe.global.jpa.util.TransactionUtils.afterCommit;
+
+// 루프 캐시(loopDetail, dailyLoops, loopCalendar, loopReport) 키/태그 정의
+// - @Cacheable 의 key 에서 "@loopCacheKeys.xxx(...)" 로 사용
+// - 모든 키는 회원 태그(loops:{memberId})에 의존 -> 그룹 단위 변경은 태그 하나로 회원의 루프 캐시 전체 무효화
+@Component("loopCacheKeys")
+@RequiredArgsConstructor
+public class LoopCacheKeys {
+    private final CacheTagService cacheTagService;
+
+    // ========== 캐시 키 ==========
+    public String detail(Long memberId, Long loopId) {
+        return cacheTagService.key(memberId + ":" + loopId, memberTag(memberId), loopTag(loopId));
+    }
+
+    public String daily(Long memberId, LocalDate date) {
+        return cacheTagService.key(memberId + ":" + date, memberTag(memberId), dateTag(memberId, date));
+    }
+
+    // 캘린더는 전월 마지막 주 ~ 익월 첫 주까지 보여주므로 앞뒤 달 태그에도 의존
+    public String calendar(Long memberId, int year, int month) {
+        YearMonth ym = YearMonth.of(year, month);
+        return cacheTagService.key(memberId + ":" + year + ":" + month,
+                memberTag(memberId),
+                monthTag(memberId, ym.minusMonths(1)),
+                monthTag(memberId, ym),
+                monthTag(memberId, ym.plusMonths(1)));
+    }
+
+    public String report(Long memberId) {
+        return cacheTagService.key(memberId, memberTag(memberId), reportTag(memberId));
+    }
+
+    // ========== 무효화 (커밋 후) ==========
+    // 개별 루프 변경: 해당 루프, 날짜, 달, 리포트 태그
+    public void invalidate(Long memberId, Collection<Long> loopIds, Collection<LocalDate> dates) {
+        List<String> tags = new ArrayList<>();
+        tags.add(reportTag(memberId));
+        if (loopIds != null) {
+            for (Long loopId : loopIds) {
+                if (loopId != null) tags.add(loopTag(loopId));
+            }
+        }
+        if (dates != null) {
+            for (LocalDate date : dates) {
+                if (date == null) continue;
+                tags.add(dateTag(memberId, date));
+                tags.add(monthTag(memberId, YearMonth.from(date)));
+            }
+        }
+        afterCommit(() -> cacheTagService.invalidate(tags));
+    }
+
+    // 반복 그룹/전체 변경: 회원 태그 하나로 무효화 (루프 수와 무관)
+    public void invalidateMember(Long memberId) {
+        afterCommit(() -> cacheTagService.invalidate(List.of(memberTag(memberId))));
+    }
+
+    // ========== 태그 ==========
+    private String memberTag(Long memberId) {
+        return "loops:" + memberId;
+    }
+
+    private String loopTag(Long loopId) {
+        return "loop:" + loopId;
+    }
+
+    private String dateTag(Long memberId, LocalDate date) {
+        return "loopDate:" + memberId + ":" + date;
+    }
+
+    private String monthTag(Long memberId, YearMonth ym) {
+        return "loopMonth:" + memberId + ":" + ym;
+    }
+
+    private String reportTag(Long memberId) {
+        return "loopReport:" + memberId;
+    }
+}
@@ -5,6 +5,7 @@ import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
 import com.loopone.loopinbe.global.jpa.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,6 +14,7 @@ import org.checkerframework.checker.signature.qual.Identifier;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -41,4 +43,30 @@ public class LoopRule extends BaseEntity {
 
     private LocalDate endDate;
 
+    // ========== 개인 루프 materialize 템플릿 ==========
+    @Column(length = 100)
+    private String title; // 반복 생성되는 루프 제목
+
+    @Column(length = 500)
+    private String content; // 반복 생성되는 루프 설명
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "loop_rule_checklists", joinColumns = @JoinColumn(name = "loop_rule_id"))
+    @OrderColumn(name = "sort_order")
+    @Column(name = "content", length = 200)
+    @Builder.Default
+    private List<String> checklists = new ArrayList<>(); // 반복 생성되는 루프의 체크리스트
+
+    // 실제 Loop 행이 생성된 마지막 날짜 (개인 반복 루프만 사용, 팀 루프 규칙은 null)
+    private LocalDate materializedUntil;
+
+    // 템플릿 갱신
+    public void updateTemplate(String title, String content, List<String> checklists) {
+        this.title = title;
+        this.content = content;
+        this.checklists.clear();
+        if (checklists != null) {
+            this.checklists.addAll(checklists);
+        }
+    }
 }
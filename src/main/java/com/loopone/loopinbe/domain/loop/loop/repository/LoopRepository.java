@@ -2,15 +2,16 @@ package com.loopone.loopinbe.domain.loop.loop.repository;
 
 import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
 import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.LoopReportRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,19 +63,22 @@ public interface LoopRepository extends JpaRepository<Loop, Long> {
     """)
     List<Loop> findAllByLoopRuleAndLoopDateBefore(@Param("loopRule") LoopRule loopRule, @Param("date") LocalDate date);
 
-    // loopReport에서 조회
-    @EntityGraph(attributePaths = {"loopChecklists", "loopRule", "loopRule.daysOfWeek"})
+    // 일별 집계(member_daily_rollup) 재계산용: 단일/반복 루프 전체를 평면 행으로 조회
     @Query("""
-    select distinct l
+    select new com.loopone.loopinbe.domain.loop.loopReport.dto.LoopReportRow(
+        l.id, r.id, l.title, l.loopDate, l.createdAt,
+        count(c), sum(case when c.completed = true then 1L else 0L end), l.completed)
     from Loop l
+    left join l.loopRule r
+    left join l.loopChecklists c
     where l.member.id = :memberId
-      and l.loopRule is not null
-      and l.loopDate between :start and :end
+      and l.loopDate in :dates
+    group by l.id, r.id, l.title, l.loopDate, l.createdAt, l.completed
+    order by l.loopDate asc, l.createdAt asc, l.id asc
     """)
-    List<Loop> findRepeatLoopsByMemberAndDateBetween(
+    List<LoopReportRow> findRollupRowsByMemberAndDates(
             @Param("memberId") Long memberId,
-            @Param("start") LocalDate start,
-            @Param("end") LocalDate end
+            @Param("dates") Collection<LocalDate> dates
     );
 
     // loopReport 시나리오 검증 테스트
@@ -94,4 +98,19 @@ public interface LoopRepository extends JpaRepository<Loop, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    // 주어진 날짜 중 내 루프가 남아 있는 날짜 (캘린더 비트맵 갱신용)
+    @Query("""
+        SELECT DISTINCT l.loopDate FROM Loop l
+        WHERE l.member.id = :memberId
+        AND l.loopDate IN :dates
+    """)
+    List<LocalDate> findLoopDatesByMemberIdAndDates(
+            @Param("memberId") Long memberId,
+            @Param("dates") Collection<LocalDate> dates
+    );
+
+    // 내 루프가 존재하는 모든 날짜 (캘린더 비트맵 초기화용)
+    @Query("SELECT DISTINCT l.loopDate FROM Loop l WHERE l.member.id = :memberId")
+    List<LocalDate> findAllLoopDatesByMemberId(@Param("memberId") Long memberId);
 }
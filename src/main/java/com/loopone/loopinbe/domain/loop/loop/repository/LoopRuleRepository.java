@@ -2,12 +2,17 @@ package com.loopone.loopinbe.domain.loop.loop.repository;
 
 import com.loopone.loopinbe.domain.account.member.entity.Member;
 import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface LoopRuleRepository extends JpaRepository<LoopRule, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -51,4 +56,34 @@ public interface LoopRuleRepository extends JpaRepository<LoopRule, Long> {
        and not exists (select 1 from Loop l where l.loopRule.id = lr.id)
 """)
     int deleteOrphanByIds(@Param("loopRuleIds") List<Long> loopRuleIds);
+
+    // ========== 반복 루프 materialize ==========
+    // 멤버의 개인 반복 규칙 중 until 까지 Loop 행이 생성되지 않은 규칙 (동시 확장 방지용 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select lr
+        from LoopRule lr
+        where lr.member.id = :memberId
+          and lr.materializedUntil is not null
+          and lr.materializedUntil < :until
+          and lr.materializedUntil < lr.endDate
+    """)
+    List<LoopRule> findMaterializableByMemberIdForUpdate(@Param("memberId") Long memberId, @Param("until") LocalDate until);
+
+    // 단일 규칙 잠금 조회 (스케줄러 확장용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select lr from LoopRule lr where lr.id = :id")
+    Optional<LoopRule> findByIdForUpdate(@Param("id") Long id);
+
+    // until 까지 확장이 필요한 규칙 id (id 오름차순 keyset)
+    @Query("""
+        select lr.id
+        from LoopRule lr
+        where lr.materializedUntil is not null
+          and lr.materializedUntil < :until
+          and lr.materializedUntil < lr.endDate
+          and lr.id > :lastId
+        order by lr.id asc
+    """)
+    List<Long> findMaterializableIds(@Param("until") LocalDate until, @Param("lastId") Long lastId, Pageable pageable);
 }
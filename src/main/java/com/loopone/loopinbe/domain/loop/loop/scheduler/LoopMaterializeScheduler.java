@@ -0,0 +1,44 @@
+package com.loopone.loopinbe.domain.loop.loop.scheduler;
+
+import com.loopone.loopinbe.domain.loop.loop.service.LoopMaterializeService;
+import com.loopone.loopinbe.global.config.properties.LoopMaterializeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoopMaterializeScheduler {
+    private final LoopMaterializeService loopMaterializeService;
+    private final LoopMaterializeProperties properties;
+
+    // 매일 반복 루프의 생성 구간을 horizon 까지 확장 (규칙 단위 트랜잭션)
+    @Scheduled(cron = "${app.loop.materialize.cron:0 0 4 * * *}")
+    public void extendHorizon() {
+        LocalDate until = loopMaterializeService.horizonEnd();
+        long lastId = 0L;
+        int ruleCount = 0;
+        int loopCount = 0;
+
+        while (true) {
+            List<Long> ruleIds = loopMaterializeService.findRuleIdsToExtend(until, lastId, properties.batchSize());
+            if (ruleIds.isEmpty()) break;
+
+            for (Long ruleId : ruleIds) {
+                try {
+                    loopCount += loopMaterializeService.extendRule(ruleId, until);
+                    ruleCount++;
+                } catch (Exception e) {
+                    log.warn("Loop materialize failed. loopRuleId={}, reason={}", ruleId, e.getMessage(), e);
+                }
+            }
+            lastId = ruleIds.get(ruleIds.size() - 1);
+        }
+        log.info("Loop materialize done. until={}, rules={}, loops={}", until, ruleCount, loopCount);
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopone.loopinbe.domain.loop.loop.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+
+public interface LoopCalendarIndexService {
+    // [start, end] 구간의 루프 존재 여부 (i 번째 비트 = start.plusDays(i))
+    BitSet getHasLoopDays(Long memberId, LocalDate startDate, LocalDate endDate);
+    // 루프가 새로 생긴 날짜 반영 (커밋 후)
+    void markHasLoop(Long memberId, Collection<LocalDate> dates);
+    // 루프 생성/삭제/날짜 이동 후 해당 날짜 재확인 (커밋 후 반영)
+    void onLoopsChanged(Long memberId, Collection<LocalDate> dates);
+    // 회원의 캘린더 비트맵 삭제 (커밋 후)
+    void clear(Long memberId);
+}
@@ -0,0 +1,24 @@
+package com.loopone.loopinbe.domain.loop.loop.service;
+
+import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
+import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LoopMaterializeService {
+    // 새로 생성(수정)된 반복 규칙의 초기 구간 Loop 생성
+    List<Loop> materializeInitial(LoopRule loopRule);
+
+    // 조회 시점에 멤버의 반복 루프를 until 까지 확장
+    void materializeUntil(Long memberId, LocalDate until);
+
+    // 확장이 필요한 반복 규칙 id 조회 (스케줄러용)
+    List<Long> findRuleIdsToExtend(LocalDate until, Long lastId, int size);
+
+    // 단일 반복 규칙을 until 까지 확장 (스케줄러용), 생성된 루프 수 반환
+    int extendRule(Long loopRuleId, LocalDate until);
+
+    // 오늘 기준 materialize 구간의 마지막 날짜
+    LocalDate horizonEnd();
+}
@@ -0,0 +1,86 @@
+package com.loopone.loopinbe.domain.loop.loop.serviceImpl;
+
+import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
+import com.loopone.loopinbe.domain.loop.loop.service.LoopCalendarIndexService;
+import com.loopone.loopinbe.global.redis.helper.RedisDayBitmapHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.loopone.loopinbe.global.jpa.util.TransactionUtils.afterCommit;
+
+// 회원별 "루프 존재 날짜" 비트맵 (캘린더 조회 시 SQL 없이 비트 구간 한 번 조회)
+// - 키가 없거나 만료되면 조회 시 DB 기준으로 재구성
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoopCalendarIndexServiceImpl implements LoopCalendarIndexService {
+    private static final String KEY_PREFIX = "loopCalendarIndex:member:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final LoopRepository loopRepository;
+    private final RedisDayBitmapHelper redisDayBitmapHelper;
+
+    @Override
+    public BitSet getHasLoopDays(Long memberId, LocalDate startDate, LocalDate endDate) {
+        String key = key(memberId);
+        BitSet days = redisDayBitmapHelper.readRange(key, startDate, endDate);
+        if (days != null) return days;
+
+        String version = redisDayBitmapHelper.version(key); // DB 조회 전에 읽음
+        List<LocalDate> loopDates = loopRepository.findAllLoopDatesByMemberId(memberId);
+        boolean cached = redisDayBitmapHelper.initialize(key, version, loopDates, TTL);
+        log.debug("Loop calendar index initialized. memberId={}, dates={}, cached={}", memberId, loopDates.size(), cached);
+        return toBitSet(loopDates, startDate, endDate);
+    }
+
+    @Override
+    public void markHasLoop(Long memberId, Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) return;
+        Map<LocalDate, Boolean> days = new LinkedHashMap<>();
+        dates.forEach(d -> days.put(d, true));
+        afterCommit(() -> redisDayBitmapHelper.setDays(key(memberId), days));
+    }
+
+    @Override
+    public void onLoopsChanged(Long memberId, Collection<LocalDate> dates) {
+        Set<LocalDate> targets = new HashSet<>();
+        if (dates != null) dates.forEach(d -> { if (d != null) targets.add(d); });
+        if (targets.isEmpty()) return;
+
+        // 같은 트랜잭션에서 조회해 이번 변경까지 반영된 상태를 기준으로 비트 결정
+        Set<LocalDate> present = new HashSet<>(loopRepository.findLoopDatesByMemberIdAndDates(memberId, targets));
+        Map<LocalDate, Boolean> days = new LinkedHashMap<>();
+        targets.forEach(d -> days.put(d, present.contains(d)));
+        afterCommit(() -> redisDayBitmapHelper.setDays(key(memberId), days));
+    }
+
+    @Override
+    public void clear(Long memberId) {
+        afterCommit(() -> redisDayBitmapHelper.delete(List.of(key(memberId))));
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private BitSet toBitSet(Collection<LocalDate> dates, LocalDate startDate, LocalDate endDate) {
+        BitSet days = new BitSet();
+        for (LocalDate date : dates) {
+            if (date.isBefore(startDate) || date.isAfter(endDate)) continue;
+            days.set((int) (date.toEpochDay() - startDate.toEpochDay()));
+        }
+        return days;
+    }
+}
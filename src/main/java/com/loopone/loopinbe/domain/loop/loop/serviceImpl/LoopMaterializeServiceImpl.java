@@ -0,0 +1,182 @@
+package com.loopone.loopinbe.domain.loop.loop.serviceImpl;
+
+import com.loopone.loopinbe.domain.loop.loop.cache.LoopCacheKeys;
+import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
+import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
+import com.loopone.loopinbe.domain.loop.loop.repository.LoopRuleRepository;
+import com.loopone.loopinbe.domain.loop.loop.service.LoopCalendarIndexService;
+import com.loopone.loopinbe.domain.loop.loop.service.LoopMaterializeService;
+import com.loopone.loopinbe.domain.loop.loopChecklist.entity.LoopChecklist;
+import com.loopone.loopinbe.domain.loop.loopReport.service.MemberDailyRollupService;
+import com.loopone.loopinbe.global.config.properties.LoopMaterializeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// LoopRule을 원본으로 두고, 실제 Loop 행은 horizon(기본 8주) 구간만 생성/확장
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoopMaterializeServiceImpl implements LoopMaterializeService {
+    private final LoopRepository loopRepository;
+    private final LoopRuleRepository loopRuleRepository;
+    private final LoopMaterializeProperties properties;
+    private final LoopCacheKeys loopCacheKeys;
+    private final MemberDailyRollupService memberDailyRollupService;
+    private final LoopCalendarIndexService loopCalendarIndexService;
+
+    // 새로 생성(수정)된 반복 규칙의 초기 구간 Loop 생성
+    @Override
+    @Transactional
+    public List<Loop> materializeInitial(LoopRule loopRule) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = loopRule.getStartDate();
+        LocalDate base = start.isAfter(today) ? start : today;
+
+        // 매주 반복은 시작일부터, 매월/매년 반복은 오늘 이후 날짜부터 생성 (기존 동작 유지)
+        LocalDate fromExclusive = (loopRule.getScheduleType() == RepeatType.WEEKLY)
+                ? start.minusDays(1)
+                : base.minusDays(1);
+        LocalDate until = min(loopRule.getEndDate(), base.plusWeeks(properties.horizonWeeks()));
+
+        List<LocalDate> dates = occurrences(loopRule, fromExclusive, until);
+
+        // horizon 안에 반복일이 없으면(ex. 매년 반복) 첫 반복일까지는 생성
+        if (dates.isEmpty()) {
+            List<LocalDate> remaining = occurrences(loopRule, until, loopRule.getEndDate());
+            if (!remaining.isEmpty()) {
+                until = remaining.get(0);
+                dates = List.of(until);
+            }
+        }
+        loopRule.setMaterializedUntil(until);
+        return createLoops(loopRule, dates);
+    }
+
+    // 조회 시점에 멤버의 반복 루프를 until 까지 확장 (읽기 전용 트랜잭션 안에서 호출되므로 별도 트랜잭션)
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void materializeUntil(Long memberId, LocalDate until) {
+        List<LoopRule> loopRules = loopRuleRepository.findMaterializableByMemberIdForUpdate(memberId, until);
+        if (loopRules.isEmpty()) return;
+
+        int created = 0;
+        for (LoopRule loopRule : loopRules) {
+            created += extend(loopRule, until).size();
+        }
+        if (created > 0) {
+            log.debug("Materialized {} loops on read. memberId={}, until={}", created, memberId, until);
+        }
+    }
+
+    // 확장이 필요한 반복 규칙 id 조회 (스케줄러용)
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findRuleIdsToExtend(LocalDate until, Long lastId, int size) {
+        return loopRuleRepository.findMaterializableIds(until, lastId, PageRequest.of(0, size));
+    }
+
+    // 단일 반복 규칙을 until 까지 확장 (스케줄러용)
+    @Override
+    @Transactional
+    public int extendRule(Long loopRuleId, LocalDate until) {
+        LoopRule loopRule = loopRuleRepository.findByIdForUpdate(loopRuleId).orElse(null);
+        if (loopRule == null) return 0;
+
+        return extend(loopRule, until).size();
+    }
+
+    // 오늘 기준 materialize 구간의 마지막 날짜
+    @Override
+    public LocalDate horizonEnd() {
+        return LocalDate.now().plusWeeks(properties.horizonWeeks());
+    }
+
+    // ========== 비즈니스 로직 메서드 ==========
+    // materializedUntil 이후 ~ until 까지 Loop 생성 후 materializedUntil 갱신
+    private List<Loop> extend(LoopRule loopRule, LocalDate until) {
+        LocalDate from = loopRule.getMaterializedUntil();
+        LocalDate target = min(loopRule.getEndDate(), until);
+        // 다른 트랜잭션이 먼저 확장한 경우 (잠금 획득 후 재확인)
+        if (from == null || !target.isAfter(from)) return List.of();
+
+        List<Loop> loops = createLoops(loopRule, occurrences(loopRule, from, target));
+        loopRule.setMaterializedUntil(target);
+        return loops;
+    }
+
+    // 규칙 템플릿으로 날짜별 Loop 생성
+    private List<Loop> createLoops(LoopRule loopRule, List<LocalDate> dates) {
+        List<Loop> loopsToCreate = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            Loop loop = Loop.builder()
+                    .member(loopRule.getMember())
+                    .title(loopRule.getTitle())
+                    .content(loopRule.getContent())
+                    .loopDate(date)
+                    .loopRule(loopRule)
+                    .build();
+            for (String checklistContent : loopRule.getChecklists()) {
+                loop.addChecklist(LoopChecklist.builder().content(checklistContent).build());
+            }
+            loopsToCreate.add(loop);
+        }
+        if (!loopsToCreate.isEmpty()) {
+            loopRepository.saveAll(loopsToCreate);
+            // 새 루프가 생긴 날짜의 일별 집계는 조회 시 재계산
+            memberDailyRollupService.markStale(loopRule.getMember().getId(), dates);
+            // 캘린더 비트맵 반영, 해당 날짜/달/리포트 캐시 무효화 (커밋 후)
+            loopCalendarIndexService.markHasLoop(loopRule.getMember().getId(), dates);
+            loopCacheKeys.invalidate(loopRule.getMember().getId(), List.of(), dates);
+        }
+        return loopsToCreate;
+    }
+
+    // (fromExclusive, toInclusive] 구간의 반복일 계산
+    private List<LocalDate> occurrences(LoopRule loopRule, LocalDate fromExclusive, LocalDate toInclusive) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate start = loopRule.getStartDate();
+        LocalDate end = min(loopRule.getEndDate(), toInclusive);
+
+        switch (loopRule.getScheduleType()) {
+            case WEEKLY -> {
+                Set<DayOfWeek> daysOfWeek = loopRule.getDaysOfWeek();
+                if (daysOfWeek == null || daysOfWeek.isEmpty()) break;
+                LocalDate from = fromExclusive.isBefore(start) ? start : fromExclusive.plusDays(1);
+                for (LocalDate d = from; !d.isAfter(end); d = d.plusDays(1)) {
+                    if (daysOfWeek.contains(d.getDayOfWeek())) dates.add(d);
+                }
+            }
+            case MONTHLY -> {
+                for (int i = 0; !start.plusMonths(i).isAfter(end); i++) {
+                    LocalDate d = start.plusMonths(i);
+                    if (d.isAfter(fromExclusive)) dates.add(d);
+                }
+            }
+            case YEARLY -> {
+                for (int i = 0; !start.plusYears(i).isAfter(end); i++) {
+                    LocalDate d = start.plusYears(i);
+                    if (d.isAfter(fromExclusive)) dates.add(d);
+                }
+            }
+            default -> { }
+        }
+        return dates;
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -8,6 +8,7 @@ import com.loopone.loopinbe.domain.chat.chatMessage.service.ChatMessageService;
 import com.loopone.loopinbe.domain.chat.chatRoom.entity.ChatRoom;
 import com.loopone.loopinbe.domain.chat.chatRoom.repository.ChatRoomRepository;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomStateService;
+import com.loopone.loopinbe.domain.loop.loop.cache.LoopCacheKeys;
 import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCompletionUpdateRequest;
 import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
 import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopGroupUpdateRequest;
@@ -22,19 +23,18 @@ import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
 import com.loopone.loopinbe.domain.loop.loop.mapper.LoopMapper;
 import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
 import com.loopone.loopinbe.domain.loop.loop.repository.LoopRuleRepository;
+import com.loopone.loopinbe.domain.loop.loop.service.LoopCalendarIndexService;
+import com.loopone.loopinbe.domain.loop.loop.service.LoopMaterializeService;
 import com.loopone.loopinbe.domain.loop.loop.service.LoopService;
 import com.loopone.loopinbe.domain.loop.loopChecklist.entity.LoopChecklist;
+import com.loopone.loopinbe.domain.loop.loopReport.service.MemberDailyRollupService;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -53,8 +53,11 @@ public class LoopServiceImpl implements LoopService {
     private final MemberConverter memberConverter;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageService chatMessageService;
-    private final CacheManager cacheManager;
+    private final LoopCacheKeys loopCacheKeys;
     private final ChatRoomStateService chatRoomStateService;
+    private final LoopMaterializeService loopMaterializeService;
+    private final MemberDailyRollupService memberDailyRollupService;
+    private final LoopCalendarIndexService loopCalendarIndexService;
 
     // 루프 생성
     @Override
@@ -67,19 +70,10 @@ public class LoopServiceImpl implements LoopService {
         switch (requestDTO.scheduleType()) {
             case NONE -> createdLoops = List.of(createSingleLoop(requestDTO, currentUser));
 
-            case WEEKLY -> {
+            // 반복 루프는 LoopRule을 원본으로 두고 horizon 구간만 생성
+            case WEEKLY, MONTHLY, YEARLY -> {
                 loopRule = createLoopRule(requestDTO, currentUser);
-                createdLoops = createWeeklyLoops(requestDTO, currentUser, loopRule);
-            }
-
-            case MONTHLY -> {
-                loopRule = createLoopRule(requestDTO, currentUser);
-                createdLoops = createMonthlyLoops(requestDTO, currentUser, loopRule);
-            }
-
-            case YEARLY -> {
-                loopRule = createLoopRule(requestDTO, currentUser);
-                createdLoops = createYearlyLoops(requestDTO, currentUser, loopRule);
+                createdLoops = loopMaterializeService.materializeInitial(loopRule);
             }
 
             default -> throw new ServiceException(ReturnCode.UNKNOWN_SCHEDULE_TYPE);
@@ -108,18 +102,13 @@ public class LoopServiceImpl implements LoopService {
         // 커밋 후 캐시 무효화
         Set<Long> loopIds = new HashSet<>();
         Set<LocalDate> dates = new HashSet<>();
-        Set<YearMonth> yms = new HashSet<>();
 
         for (Loop l : createdLoops) {
             if (l == null) continue;
             if (l.getId() != null) loopIds.add(l.getId());
-            LocalDate d = l.getLoopDate();
-            if (d != null) {
-                dates.add(d);
-                yms.add(YearMonth.from(d));
-            }
+            if (l.getLoopDate() != null) dates.add(l.getLoopDate());
         }
-        evictLoopCachesAfterCommit(currentUser.id(), loopIds, dates, yms);
+        onLoopDatesChanged(currentUser.id(), loopIds, dates);
 
         return loopId;
     }
@@ -127,7 +116,7 @@ public class LoopServiceImpl implements LoopService {
     // 루프 상세 조회
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "loopDetail", key = "#currentUser.id() + ':' + #loopId")
+    @Cacheable(value = "loopDetail", key = "@loopCacheKeys.detail(#currentUser.id(), #loopId)")
     public LoopDetailResponse getDetailLoop(Long loopId, CurrentUserDto currentUser) {
         // 루프 조회
         Loop loop = loopRepository.findById(loopId).orElseThrow(() -> new ServiceException(ReturnCode.LOOP_NOT_FOUND));
@@ -141,8 +130,11 @@ public class LoopServiceImpl implements LoopService {
     // 날짜별 루프 리스트 조회
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "dailyLoops", key = "#currentUser.id() + ':' + #date")
+    @Cacheable(value = "dailyLoops", key = "@loopCacheKeys.daily(#currentUser.id(), #date)")
     public DailyLoopsResponse getDailyLoops(LocalDate date, CurrentUserDto currentUser) {
+        // 아직 생성되지 않은 반복 루프가 있다면 해당 날짜까지 생성
+        loopMaterializeService.materializeUntil(currentUser.id(), date);
+
         // 루프 리스트 조회
         List<Loop> DailyLoops = loopRepository.findByMemberIdAndLoopDate(currentUser.id(), date);
 
@@ -180,7 +172,6 @@ public class LoopServiceImpl implements LoopService {
         // 루프 검증
         validateLoopOwner(loop, currentUser);
         LocalDate loopDate = loop.getLoopDate();
-        YearMonth ym = YearMonth.from(loopDate);
 
         // 루프 완료 상태 변경
         loop.setCompleted(requestDTO.completed());
@@ -192,7 +183,7 @@ public class LoopServiceImpl implements LoopService {
             );
         }
         // 커밋 후 캐시 무효화
-        evictLoopCachesAfterCommit(currentUser.id(), List.of(loopId), List.of(loopDate), List.of(ym));
+        onLoopsChanged(currentUser.id(), List.of(loopId), List.of(loopDate));
     }
 
     // 단일 루프 수정
@@ -229,11 +220,7 @@ public class LoopServiceImpl implements LoopService {
         dates.add(oldDate);
         dates.add(newDate);
 
-        Set<YearMonth> yms = new HashSet<>();
-        if (oldDate != null) yms.add(YearMonth.from(oldDate));
-        if (newDate != null) yms.add(YearMonth.from(newDate));
-
-        evictLoopCachesAfterCommit(currentUser.id(), List.of(loopId), dates, yms);
+        onLoopDatesChanged(currentUser.id(), List.of(loopId), dates);
     }
 
     // 루프 그룹 전체 수정
@@ -252,15 +239,10 @@ public class LoopServiceImpl implements LoopService {
 
         List<Loop> oldLoops = findAllByLoopRule(loopRule, LocalDate.now());
 
-        // 무효화 대상 수집 (old)
-        Set<Long> loopIds = new HashSet<>();
+        // 일별 집계/캘린더 갱신 대상 날짜 수집 (old)
         Set<LocalDate> dates = new HashSet<>();
-        Set<YearMonth> yms = new HashSet<>();
         for (Loop l : oldLoops) {
-            loopIds.add(l.getId());
-            LocalDate d = l.getLoopDate();
-            dates.add(d);
-            if (d != null) yms.add(YearMonth.from(d));
+            dates.add(l.getLoopDate());
         }
         loopRepository.deleteAll(oldLoops);
 
@@ -268,12 +250,9 @@ public class LoopServiceImpl implements LoopService {
         LoopCreateRequest createRequestDTO = loopMapper.toLoopCreateRequest(requestDTO);
         List<Loop> newLoops = createUpdateLoop(createRequestDTO, loopRule, currentUser);
 
-        // 무효화 대상 수집 (new)
+        // 일별 집계/캘린더 갱신 대상 날짜 수집 (new)
         for (Loop l : newLoops) {
-            loopIds.add(l.getId());
-            LocalDate d = l.getLoopDate();
-            dates.add(d);
-            if (d != null) yms.add(YearMonth.from(d));
+            dates.add(l.getLoopDate());
         }
 
         if (!newLoops.isEmpty()) {
@@ -289,8 +268,8 @@ public class LoopServiceImpl implements LoopService {
             );
             chatRoomStateService.setCallUpdateLoop(chatRoom.getId(), false);
         }
-        // 커밋 후 캐시 무효화
-        evictLoopCachesAfterCommit(currentUser.id(), loopIds, dates, yms);
+        // 커밋 후 회원 루프 캐시 무효화 (그룹 단위)
+        onLoopGroupChanged(currentUser.id(), dates);
     }
 
     // 단일 루프 삭제
@@ -304,14 +283,13 @@ public class LoopServiceImpl implements LoopService {
         validateLoopOwner(loop, currentUser);
 
         LocalDate date = loop.getLoopDate();
-        YearMonth ym = (date == null) ? null : YearMonth.from(date);
 
         // 채팅방 연결 해제
         chatRoomRepository.unlinkLoop(loopId);
         loopRepository.delete(loop);
 
         // 커밋 후 캐시 무효화
-        evictLoopCachesAfterCommit(currentUser.id(), List.of(loopId), date == null ? List.of() : List.of(date), ym == null ? List.of() : List.of(ym));
+        onLoopDatesChanged(currentUser.id(), List.of(loopId), date == null ? List.of() : List.of(date));
     }
 
     // 루프 그룹 전체 삭제
@@ -326,17 +304,15 @@ public class LoopServiceImpl implements LoopService {
         // 그룹 루프가 아닌 경우 예외 처리
         if (loopRule == null) {
             LocalDate d = selectedLoop.getLoopDate();
-            YearMonth ym = (d == null) ? null : YearMonth.from(d);
 
             // 채팅방 연결 해제
             chatRoomRepository.unlinkLoop(selectedLoop.getId());
             loopRepository.delete(selectedLoop);
 
-            evictLoopCachesAfterCommit(
+            onLoopDatesChanged(
                     currentUser.id(),
                     List.of(selectedLoop.getId()),
-                    d == null ? List.of() : List.of(d),
-                    ym == null ? List.of() : List.of(ym)
+                    d == null ? List.of() : List.of(d)
             );
             return;
         }
@@ -345,27 +321,19 @@ public class LoopServiceImpl implements LoopService {
         validateLoopRuleOwner(loopRule, currentUser);
         LocalDate targetDate = selectedLoop.getLoopDate();
 
-        // 무효화 대상 수집
-        Set<Long> loopIds = new HashSet<>();
+        // 일별 집계/캘린더 갱신 대상 날짜 수집
         Set<LocalDate> dates = new HashSet<>();
-        Set<YearMonth> yms = new HashSet<>();
 
         // 미래(선택일 포함) 삭제 대상
         List<Loop> futureLoops = findAllByLoopRule(loopRule, targetDate);
         for (Loop l : futureLoops) {
-            loopIds.add(l.getId());
-            LocalDate d = l.getLoopDate();
-            dates.add(d);
-            if (d != null) yms.add(YearMonth.from(d));
+            dates.add(l.getLoopDate());
         }
 
-        // 과거 루프는 loopRule 끊기므로 DTO/상세/일자 캐시도 갱신 필요
+        // 과거 루프는 loopRule 끊기므로 일별 집계(규칙별 통계)도 갱신 필요
         List<Loop> pastLoops = findAllByLoopRulePast(loopRule, targetDate);
         for (Loop l : pastLoops) {
-            loopIds.add(l.getId());
-            LocalDate d = l.getLoopDate();
-            dates.add(d);
-            if (d != null) yms.add(YearMonth.from(d));
+            dates.add(l.getLoopDate());
         }
 
         // 채팅방 연결 해제
@@ -383,8 +351,8 @@ public class LoopServiceImpl implements LoopService {
         // loopRule 삭제 (자식이 없기에 삭제 가능)
         loopRuleRepository.delete(loopRule);
 
-        // 커밋 후 loopReport 캐시 무효화
-        evictLoopCachesAfterCommit(currentUser.id(), loopIds, dates, yms);
+        // 커밋 후 회원 루프 캐시 무효화 (그룹 단위)
+        onLoopGroupChanged(currentUser.id(), dates);
     }
 
     // 사용자가 생성한 루프 전체 삭제
@@ -393,16 +361,6 @@ public class LoopServiceImpl implements LoopService {
     public void deleteMyLoops(Long memberId) {
         // 1) Loop 먼저 전부 삭제 (LoopChecklist는 cascade로 같이 삭제됨)
         List<Loop> loops = loopRepository.findAllByMemberId(memberId);
-        // 무효화 대상 수집 (삭제 전)
-        Set<Long> loopIds = new HashSet<>();
-        Set<LocalDate> dates = new HashSet<>();
-        Set<YearMonth> yms = new HashSet<>();
-        for (Loop l : loops) {
-            loopIds.add(l.getId());
-            LocalDate d = l.getLoopDate();
-            dates.add(d);
-            if (d != null) yms.add(YearMonth.from(d));
-        }
         if (!loops.isEmpty()) {
             List<Long> ids = loops.stream().map(Loop::getId).toList();
             chatRoomRepository.unlinkLoops(ids);
@@ -410,15 +368,18 @@ public class LoopServiceImpl implements LoopService {
         }
         // 2) TeamLoop가 참조하지 않는 개인 LoopRule만 삭제
         loopRuleRepository.deletePersonalRulesNotUsedAnywhere(memberId);
+        // 3) 일별 집계, 캘린더 비트맵 삭제
+        memberDailyRollupService.deleteByMember(memberId);
+        loopCalendarIndexService.clear(memberId);
 
-        // 커밋 후 loopReport 캐시 무효화
-        evictLoopCachesAfterCommit(memberId, loopIds, dates, yms);
+        // 커밋 후 회원 루프 캐시 전체 무효화 (루프 수와 무관하게 태그 하나)
+        loopCacheKeys.invalidateMember(memberId);
     }
 
     //루프 캘린더 조회
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "loopCalendar", key = "#currentUser.id() + ':' + #year + ':' + #month")
+    @Cacheable(value = "loopCalendar", key = "@loopCacheKeys.calendar(#currentUser.id(), #year, #month)")
     public LoopCalendarResponse getLoopCalendar(int year, int month, CurrentUserDto currentUser) {
         YearMonth targetYearMonth = YearMonth.of(year, month);
 
@@ -426,20 +387,20 @@ public class LoopServiceImpl implements LoopService {
         LocalDate startDate = targetYearMonth.atDay(1).minusDays(7); // 전월 마지막 주 포함
         LocalDate endDate = targetYearMonth.atEndOfMonth().plusDays(7); // 익월 첫 주 포함
 
-        // 해당 기간 내 개인 루프가 존재하는 날짜들만 조회
-        List<LocalDate> existingLoopDates = loopRepository.findLoopDatesByMemberIdAndDateRange(
-                currentUser.id(), startDate, endDate
-        );
+        // horizon 안쪽은 생성 시점/스케줄러가 이미 생성해 둠, 그 밖을 조회할 때만 확장
+        if (endDate.isAfter(loopMaterializeService.horizonEnd().minusDays(1))) {
+            loopMaterializeService.materializeUntil(currentUser.id(), endDate);
+        }
 
-        // 빠른 조회를 위해 Set으로 변환
-        Set<LocalDate> hasLoopDateSet = new HashSet<>(existingLoopDates);
+        // 루프 존재 날짜 비트맵에서 조회 구간을 한 번에 읽음 (SQL 없음)
+        BitSet hasLoopDays = loopCalendarIndexService.getHasLoopDays(currentUser.id(), startDate, endDate);
 
-        // 시작일부터 종료일까지 하루씩 순회하며 결과 리스트 생성
-        List<LoopCalendarResponse.CalendarDay> calendarDays = new ArrayList<>();
-        startDate.datesUntil(endDate.plusDays(1)).forEach(currentDate -> {
-            boolean hasLoop = hasLoopDateSet.contains(currentDate);
-            calendarDays.add(new LoopCalendarResponse.CalendarDay(currentDate, hasLoop));
-        });
+        // 시작일부터 종료일까지 하루씩 결과 리스트 생성
+        int dayCount = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        List<LoopCalendarResponse.CalendarDay> calendarDays = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            calendarDays.add(new LoopCalendarResponse.CalendarDay(startDate.plusDays(i), hasLoopDays.get(i)));
+        }
 
         // 결과 반환
         return LoopCalendarResponse.builder()
@@ -458,91 +419,6 @@ public class LoopServiceImpl implements LoopService {
         return loopRepository.save(loop);
     }
 
-    // 매주 반복 루프
-    private List<Loop> createWeeklyLoops(
-            LoopCreateRequest requestDTO,
-            CurrentUserDto currentUser,
-            LoopRule loopRule
-    ) {
-        List<Loop> loopsToCreate = new ArrayList<>();
-
-        for (LocalDate currentDate = loopRule.getStartDate();
-             !currentDate.isAfter(loopRule.getEndDate());
-             currentDate = currentDate.plusDays(1)) {
-
-            if (loopRule.getDaysOfWeek().contains(currentDate.getDayOfWeek())) {
-                loopsToCreate.add(
-                        buildLoop(requestDTO, currentUser, currentDate, loopRule)
-                );
-            }
-        }
-
-        if (!loopsToCreate.isEmpty()) {
-            loopRepository.saveAll(loopsToCreate);
-        }
-
-        return loopsToCreate;
-    }
-
-    // 매월 반복 루프
-    private List<Loop> createMonthlyLoops(
-            LoopCreateRequest requestDTO,
-            CurrentUserDto currentUser,
-            LoopRule loopRule
-    ) {
-        List<Loop> loopsToCreate = new ArrayList<>();
-        LocalDate currentDate = loopRule.getStartDate();
-        int monthsToAdd = 0;
-
-        // 시작일이 과거라면 오늘 이후로 이동
-        while (currentDate.isBefore(LocalDate.now())) {
-            currentDate = loopRule.getStartDate().plusMonths(++monthsToAdd);
-        }
-
-        while (!currentDate.isAfter(loopRule.getEndDate())) {
-            loopsToCreate.add(
-                    buildLoop(requestDTO, currentUser, currentDate, loopRule)
-            );
-            monthsToAdd++;
-            currentDate = loopRule.getStartDate().plusMonths(monthsToAdd);
-        }
-
-        if (!loopsToCreate.isEmpty()) {
-            loopRepository.saveAll(loopsToCreate);
-        }
-
-        return loopsToCreate;
-    }
-
-    // 매년 반복 루프
-    private List<Loop> createYearlyLoops(
-            LoopCreateRequest requestDTO,
-            CurrentUserDto currentUser,
-            LoopRule loopRule
-    ) {
-        List<Loop> loopsToCreate = new ArrayList<>();
-        LocalDate currentDate = loopRule.getStartDate();
-        int yearsToAdd = 0;
-
-        while (currentDate.isBefore(LocalDate.now())) {
-            currentDate = loopRule.getStartDate().plusYears(++yearsToAdd);
-        }
-
-        while (!currentDate.isAfter(loopRule.getEndDate())) {
-            loopsToCreate.add(
-                    buildLoop(requestDTO, currentUser, currentDate, loopRule)
-            );
-            yearsToAdd++;
-            currentDate = loopRule.getStartDate().plusYears(yearsToAdd);
-        }
-
-        if (!loopsToCreate.isEmpty()) {
-            loopRepository.saveAll(loopsToCreate);
-        }
-
-        return loopsToCreate;
-    }
-
     // loopRule(그룹) 생성
     private LoopRule createLoopRule(LoopCreateRequest requestDTO, CurrentUserDto currentUser) {
         LocalDate start = (requestDTO.startDate() == null) ? LocalDate.now() : requestDTO.startDate();
@@ -556,6 +432,9 @@ public class LoopServiceImpl implements LoopService {
                         : null) // WEEKLY가 아니면 null이 저장됨
                 .startDate(start)
                 .endDate(end)
+                .title(requestDTO.title())
+                .content(requestDTO.content())
+                .checklists(requestDTO.checklists() == null ? new ArrayList<>() : new ArrayList<>(requestDTO.checklists()))
                 .build();
 
         loopRuleRepository.save(loopRule);
@@ -592,10 +471,14 @@ public class LoopServiceImpl implements LoopService {
         List<Loop> createdLoops = new ArrayList<>();
 
         if (requestDTO.scheduleType() == RepeatType.NONE) {
+            // 더 이상 반복 생성하지 않음
+            loopRule.setMaterializedUntil(null);
             Loop loop = createSingleLoop(requestDTO, currentUser);
             createdLoops.add(loop);
             return createdLoops;
         }
+        LocalDate start = (requestDTO.startDate() == null) ? LocalDate.now() : requestDTO.startDate();
+        LocalDate end = (requestDTO.endDate() == null) ? start.plusYears(5) : requestDTO.endDate();
 
         loopRule.setScheduleType(requestDTO.scheduleType());
         loopRule.setDaysOfWeek(
@@ -603,21 +486,11 @@ public class LoopServiceImpl implements LoopService {
                         ? toDayOfWeekSet(requestDTO.daysOfWeek())
                         : null
         );
-        loopRule.setStartDate(requestDTO.startDate());
-        loopRule.setEndDate(requestDTO.endDate());
-
-        switch (requestDTO.scheduleType()) {
-            case WEEKLY:
-                createdLoops.addAll(createWeeklyLoops(requestDTO, currentUser, loopRule));
-                break;
-            case MONTHLY:
-                createdLoops.addAll(createMonthlyLoops(requestDTO, currentUser, loopRule));
-                break;
-            case YEARLY:
-                createdLoops.addAll(createYearlyLoops(requestDTO, currentUser, loopRule));
-                break;
-        }
+        loopRule.setStartDate(start);
+        loopRule.setEndDate(end);
+        loopRule.updateTemplate(requestDTO.title(), requestDTO.content(), requestDTO.checklists());
 
+        createdLoops.addAll(loopMaterializeService.materializeInitial(loopRule));
         return createdLoops;
     }
 
@@ -671,61 +544,22 @@ public class LoopServiceImpl implements LoopService {
     }
 
     // ========== 캐시 무효화 메서드 ==========
-    // 트랜잭션 커밋 이후 관련 캐시 무효화 (롤백 시 유지)
-    private void evictLoopCachesAfterCommit(
-            Long memberId,
-            Collection<Long> loopIds,
-            Collection<LocalDate> dates,
-            Collection<YearMonth> yearMonths
-    ) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            evictLoopCaches(memberId, loopIds, dates, yearMonths);
-            return;
-        }
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                evictLoopCaches(memberId, loopIds, dates, yearMonths);
-            }
-        });
+    // 루프 생성/삭제/날짜 이동 후처리: 캘린더 비트맵 갱신(커밋 후) + onLoopsChanged
+    private void onLoopDatesChanged(Long memberId, Collection<Long> loopIds, Collection<LocalDate> dates) {
+        loopCalendarIndexService.onLoopsChanged(memberId, dates);
+        onLoopsChanged(memberId, loopIds, dates);
     }
 
-    // 실제 캐시 무효화 로직
-    private void evictLoopCaches(
-            Long memberId,
-            Collection<Long> loopIds,
-            Collection<LocalDate> dates,
-            Collection<YearMonth> yearMonths
-    ) {
-        // 1) loopReport
-        Cache reportCache = cacheManager.getCache("loopReport");
-        if (reportCache != null) {
-            reportCache.evictIfPresent(memberId);
-            log.debug("LoopReport cache evicted: {}", memberId);
-        }
-        // 2) loopDetail
-        Cache detailCache = cacheManager.getCache("loopDetail");
-        if (detailCache != null && loopIds != null) {
-            for (Long loopId : loopIds) {
-                if (loopId == null) continue;
-                detailCache.evictIfPresent(memberId + ":" + loopId);
-            }
-        }
-        // 3) dailyLoops
-        Cache dailyCache = cacheManager.getCache("dailyLoops");
-        if (dailyCache != null && dates != null) {
-            for (LocalDate d : dates) {
-                if (d == null) continue;
-                dailyCache.evictIfPresent(memberId + ":" + d);
-            }
-        }
-        // 4) loopCalendar
-        Cache calendarCache = cacheManager.getCache("loopCalendar");
-        if (calendarCache != null && yearMonths != null) {
-            for (YearMonth ym : yearMonths) {
-                if (ym == null) continue;
-                calendarCache.evictIfPresent(memberId + ":" + ym.getYear() + ":" + ym.getMonthValue());
-            }
-        }
+    // 루프 변경 후처리: 일별 집계 갱신(같은 트랜잭션) + 커밋 후 관련 태그(루프/날짜/달/리포트) 무효화
+    private void onLoopsChanged(Long memberId, Collection<Long> loopIds, Collection<LocalDate> dates) {
+        memberDailyRollupService.onLoopsChanged(memberId, dates);
+        loopCacheKeys.invalidate(memberId, loopIds, dates);
+    }
+
+    // 반복 그룹 단위 변경 후처리: 캐시는 회원 태그 하나로 무효화 (루프 수만큼 키를 만들지 않음)
+    private void onLoopGroupChanged(Long memberId, Collection<LocalDate> dates) {
+        loopCalendarIndexService.onLoopsChanged(memberId, dates);
+        memberDailyRollupService.onLoopsChanged(memberId, dates);
+        loopCacheKeys.invalidateMember(memberId);
     }
 }
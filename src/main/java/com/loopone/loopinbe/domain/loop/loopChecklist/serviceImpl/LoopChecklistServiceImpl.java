@@ -1,6 +1,7 @@
 package com.loopone.loopinbe.domain.loop.loopChecklist.serviceImpl;
 
 import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
+import com.loopone.loopinbe.domain.loop.loop.cache.LoopCacheKeys;
 import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
 import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
 import com.loopone.loopinbe.domain.loop.loopChecklist.dto.req.LoopChecklistCreateRequest;
@@ -9,6 +10,7 @@ import com.loopone.loopinbe.domain.loop.loopChecklist.dto.res.LoopChecklistRespo
 import com.loopone.loopinbe.domain.loop.loopChecklist.entity.LoopChecklist;
 import com.loopone.loopinbe.domain.loop.loopChecklist.repository.LoopChecklistRepository;
 import com.loopone.loopinbe.domain.loop.loopChecklist.service.LoopChecklistService;
+import com.loopone.loopinbe.domain.loop.loopReport.service.MemberDailyRollupService;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -24,6 +27,8 @@ import java.util.List;
 public class LoopChecklistServiceImpl implements LoopChecklistService {
     private final LoopChecklistRepository LoopChecklistRepository;
     private final LoopRepository loopRepository;
+    private final MemberDailyRollupService memberDailyRollupService;
+    private final LoopCacheKeys loopCacheKeys;
 
     //체크리스트 생성
     @Override
@@ -43,6 +48,8 @@ public class LoopChecklistServiceImpl implements LoopChecklistService {
                 .build();
 
         LoopChecklist savedChecklist = LoopChecklistRepository.save(checklist);
+        memberDailyRollupService.onLoopsChanged(currentUser.id(), List.of(loop.getLoopDate()));
+        loopCacheKeys.invalidate(currentUser.id(), List.of(loopId), List.of(loop.getLoopDate()));
 
         return LoopChecklistResponse.builder()
                 .id(savedChecklist.getId())
@@ -68,7 +75,11 @@ public class LoopChecklistServiceImpl implements LoopChecklistService {
         }
         if (loopChecklistUpdateRequest.completed() != null) {
             loopChecklist.setCompleted(loopChecklistUpdateRequest.completed());
+            memberDailyRollupService.onLoopsChanged(currentUser.id(), List.of(loopChecklist.getLoop().getLoopDate()));
         }
+        // 상세/일별/리포트 캐시 무효화 (커밋 후)
+        Loop loop = loopChecklist.getLoop();
+        loopCacheKeys.invalidate(currentUser.id(), List.of(loop.getId()), List.of(loop.getLoopDate()));
     }
 
     //체크리스트 삭제
@@ -82,7 +93,11 @@ public class LoopChecklistServiceImpl implements LoopChecklistService {
         //체크리스트의 소유자가 현재 사용자인지 확인
         validateLoopChecklistOwner(loopChecklist, currentUser);
 
+        Long loopId = loopChecklist.getLoop().getId();
+        LocalDate loopDate = loopChecklist.getLoop().getLoopDate();
         LoopChecklistRepository.delete(loopChecklist);
+        memberDailyRollupService.onLoopsChanged(currentUser.id(), List.of(loopDate));
+        loopCacheKeys.invalidate(currentUser.id(), List.of(loopId), List.of(loopDate));
     }
 
     //루프 내의 체크리스트 전체 삭제
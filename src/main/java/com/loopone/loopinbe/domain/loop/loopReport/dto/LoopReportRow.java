@@ -0,0 +1,26 @@
+package com.loopone.loopinbe.domain.loop.loopReport.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// 리포트 집계용 반복 루프 평면 행 (엔티티 그래프 대신 필요한 컬럼만 조회)
+public record LoopReportRow(
+    Long loopId,
+    Long ruleId,
+    String title,
+    LocalDate loopDate,
+    Instant createdAt,
+    Long checklistTotal,
+    Long checklistDone,
+    boolean completed
+) {
+    // 루프 달성률 계산 규칙
+    // - 체크리스트가 있으면: (완료 체크리스트 수 / 전체 체크리스트 수) * 100
+    // - 체크리스트가 없으면: completed == true ? 100 : 0
+    public long achievePercent() {
+        if (checklistTotal == null || checklistTotal == 0L) {
+            return completed ? 100L : 0L;
+        }
+        return Math.round((checklistDone * 100.0) / checklistTotal);
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopone.loopinbe.domain.loop.loopReport.entity;
+
+import com.loopone.loopinbe.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "member_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_daily_rollup", columnNames = {"member_id", "rollup_date"})
+)
+// 회원의 하루치 루프 달성 집계 (리포트/캘린더 조회용, 루프 변경 시 증분 갱신)
+public class MemberDailyRollup extends BaseEntity {
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    // 해당 날짜의 전체 루프 수 (단일 + 반복)
+    @Column(nullable = false)
+    private int loopCount;
+
+    // 해당 날짜 전체 루프의 달성률(%) 합계
+    @Column(nullable = false)
+    private long achievedSum;
+
+    // 원본 루프가 바뀌었지만 아직 재계산되지 않은 경우 true (조회 시 지연 재계산)
+    @Column(nullable = false)
+    private boolean stale;
+
+    // 반복루프(LoopRule)별 집계
+    @ElementCollection
+    @CollectionTable(name = "member_daily_rollup_rule", joinColumns = @JoinColumn(name = "rollup_id"))
+    @Builder.Default
+    private List<RuleDailyStat> ruleStats = new ArrayList<>();
+
+    public void apply(int loopCount, long achievedSum, List<RuleDailyStat> ruleStats) {
+        this.loopCount = loopCount;
+        this.achievedSum = achievedSum;
+        this.ruleStats.clear();
+        this.ruleStats.addAll(ruleStats);
+        this.stale = false;
+    }
+}
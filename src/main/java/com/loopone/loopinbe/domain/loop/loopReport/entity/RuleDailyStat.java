@@ -0,0 +1,47 @@
+package com.loopone.loopinbe.domain.loop.loopReport.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.time.Instant;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 하루 동안 한 반복루프(LoopRule)에 속한 루프들의 집계
+public class RuleDailyStat {
+    @Column(name = "loop_rule_id", nullable = false)
+    private Long loopRuleId;
+
+    @Column(nullable = false)
+    private int loopCount;
+
+    @Column(nullable = false)
+    private long achievedSum;
+
+    // 달성률 50% 이상 / 100% / 0% 루프 수
+    @Column(nullable = false)
+    private int halfDoneCount;
+
+    @Column(nullable = false)
+    private int fullCount;
+
+    @Column(nullable = false)
+    private int zeroCount;
+
+    // 그날 가장 먼저 생성된 루프의 생성일 (리포트 tie-breaker)
+    private Instant firstCreatedAt;
+
+    // 대표 루프 제목: 그날 가장 먼저 생성된 루프 / 100% 루프 / 0% 루프
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 100)
+    private String fullTitle;
+
+    @Column(length = 100)
+    private String zeroTitle;
+}
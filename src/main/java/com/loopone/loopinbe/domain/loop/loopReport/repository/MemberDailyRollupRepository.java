@@ -0,0 +1,82 @@
+package com.loopone.loopinbe.domain.loop.loopReport.repository;
+
+import com.loopone.loopinbe.domain.loop.loopReport.entity.MemberDailyRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberDailyRollupRepository extends JpaRepository<MemberDailyRollup, Long>, MemberDailyRollupRepositoryCustom {
+    // 리포트 조회: 기간 내 집계 + 규칙별 집계
+    @EntityGraph(attributePaths = {"ruleStats"})
+    @Query("""
+        SELECT r FROM MemberDailyRollup r
+        WHERE r.memberId = :memberId
+          AND r.rollupDate BETWEEN :startDate AND :endDate
+        ORDER BY r.rollupDate ASC
+    """)
+    List<MemberDailyRollup> findRangeWithRuleStats(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("""
+        SELECT r.rollupDate FROM MemberDailyRollup r
+        WHERE r.memberId = :memberId
+          AND r.rollupDate BETWEEN :startDate AND :endDate
+          AND r.stale = true
+    """)
+    List<LocalDate> findStaleDates(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 재계산 대상 행 잠금 (동시 갱신 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r FROM MemberDailyRollup r
+        WHERE r.memberId = :memberId
+          AND r.rollupDate IN :dates
+    """)
+    List<MemberDailyRollup> findForUpdate(
+            @Param("memberId") Long memberId,
+            @Param("dates") Collection<LocalDate> dates
+    );
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        DELETE FROM member_daily_rollup_rule
+        WHERE rollup_id IN (SELECT id FROM member_daily_rollup WHERE member_id = :memberId)
+    """, nativeQuery = true)
+    int deleteRuleStatsByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM MemberDailyRollup r WHERE r.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 백필: 루프를 가진 회원 ID (keyset)
+    @Query("""
+        SELECT DISTINCT l.member.id FROM Loop l
+        WHERE l.member.id > :lastId
+        ORDER BY l.member.id ASC
+    """)
+    List<Long> findMemberIdsWithLoops(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 백필: 회원의 루프 날짜 전체
+    @Query("""
+        SELECT DISTINCT l.loopDate FROM Loop l
+        WHERE l.member.id = :memberId
+        ORDER BY l.loopDate ASC
+    """)
+    List<LocalDate> findLoopDatesByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,9 @@
+package com.loopone.loopinbe.domain.loop.loopReport.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface MemberDailyRollupRepositoryCustom {
+    // (member, date) 집계 행을 stale로 표시 (없으면 stale 행 생성)
+    int markStale(Long memberId, Collection<LocalDate> dates);
+}
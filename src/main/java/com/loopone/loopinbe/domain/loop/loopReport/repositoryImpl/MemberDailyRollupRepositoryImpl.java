@@ -0,0 +1,47 @@
+package com.loopone.loopinbe.domain.loop.loopReport.repositoryImpl;
+
+import com.loopone.loopinbe.domain.loop.loopReport.repository.MemberDailyRollupRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberDailyRollupRepositoryImpl implements MemberDailyRollupRepositoryCustom {
+    // 동시 갱신 시에도 unique(member_id, rollup_date) 충돌 없이 upsert
+    private static final String MARK_STALE_SQL = """
+        INSERT INTO member_daily_rollup (id, member_id, rollup_date, loop_count, achieved_sum, stale, created_at, modified_at)
+        SELECT nextval('member_daily_rollup_seq'), ?, d.rollup_date, 0, 0, true, now(), now()
+        FROM unnest(?::date[]) AS d(rollup_date)
+        ORDER BY d.rollup_date
+        ON CONFLICT (member_id, rollup_date) DO UPDATE SET stale = true, modified_at = now()
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int markStale(Long memberId, Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) return 0;
+        Object[] values = dates.stream().filter(Objects::nonNull).distinct().map(Date::valueOf).toArray();
+        if (values.length == 0) return 0;
+
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) con -> {
+            Array array = con.createArrayOf("date", values);
+            try (PreparedStatement ps = con.prepareStatement(MARK_STALE_SQL)) {
+                ps.setLong(1, memberId);
+                ps.setArray(2, array);
+                return ps.executeUpdate();
+            } finally {
+                array.free();
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopone.loopinbe.domain.loop.loopReport.runner;
+
+import com.loopone.loopinbe.domain.loop.loopReport.service.MemberDailyRollupService;
+import com.loopone.loopinbe.global.config.properties.LoopRollupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 루프 데이터로 member_daily_rollup 백필
+// 실행: --app.loop.rollup.backfill=true
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.loop.rollup.backfill", havingValue = "true")
+public class MemberDailyRollupBackfillRunner implements ApplicationRunner {
+    private final MemberDailyRollupService memberDailyRollupService;
+    private final LoopRollupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0L;
+        int memberCount = 0;
+        int dayCount = 0;
+
+        while (true) {
+            List<Long> memberIds = memberDailyRollupService.findMemberIdsToBackfill(lastId, properties.batchSize());
+            if (memberIds.isEmpty()) break;
+
+            for (Long memberId : memberIds) {
+                try {
+                    dayCount += memberDailyRollupService.backfillMember(memberId);
+                    memberCount++;
+                } catch (Exception e) {
+                    log.warn("Member daily rollup backfill failed. memberId={}, reason={}", memberId, e.getMessage(), e);
+                }
+            }
+            lastId = memberIds.get(memberIds.size() - 1);
+        }
+        log.info("Member daily rollup backfill done. members={}, days={}", memberCount, dayCount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopone.loopinbe.domain.loop.loopReport.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberDailyRollupService {
+    // 루프 변경 후 해당 날짜 집계 갱신 (날짜가 많으면 stale 표시 후 조회 시 재계산)
+    void onLoopsChanged(Long memberId, Collection<LocalDate> dates);
+    // 해당 날짜 집계를 stale로 표시
+    void markStale(Long memberId, Collection<LocalDate> dates);
+    // 해당 날짜 집계를 원본 루프로부터 즉시 재계산
+    int refresh(Long memberId, Collection<LocalDate> dates);
+    // 기간 내 stale 집계 재계산 (조회 경로에서 호출)
+    void rebuildStale(Long memberId, LocalDate startDate, LocalDate endDate);
+    // 회원의 집계 전체 삭제
+    void deleteByMember(Long memberId);
+    // 백필 대상 회원 조회 (keyset)
+    List<Long> findMemberIdsToBackfill(Long lastId, int size);
+    // 회원 한 명의 집계 전체 재생성
+    int backfillMember(Long memberId);
+}
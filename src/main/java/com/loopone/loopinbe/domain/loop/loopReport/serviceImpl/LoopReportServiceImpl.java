@@ -1,22 +1,22 @@
 package com.loopone.loopinbe.domain.loop.loopReport.serviceImpl;
 
 import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
-import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
-import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
-import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
 import com.loopone.loopinbe.domain.loop.loop.mapper.LoopMapper;
-import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
-import com.loopone.loopinbe.domain.loop.loopChecklist.entity.LoopChecklist;
+import com.loopone.loopinbe.domain.loop.loop.repository.LoopRuleRepository;
 import com.loopone.loopinbe.domain.loop.loopReport.dto.MonthReportDto;
 import com.loopone.loopinbe.domain.loop.loopReport.dto.ProgressLoopDto;
 import com.loopone.loopinbe.domain.loop.loopReport.dto.WeekReportDto;
 import com.loopone.loopinbe.domain.loop.loopReport.dto.res.LoopReportResponse;
+import com.loopone.loopinbe.domain.loop.loopReport.entity.MemberDailyRollup;
+import com.loopone.loopinbe.domain.loop.loopReport.entity.RuleDailyStat;
 import com.loopone.loopinbe.domain.loop.loopReport.enums.DetailReportState;
 import com.loopone.loopinbe.domain.loop.loopReport.enums.ReportState;
 import com.loopone.loopinbe.domain.loop.loopReport.messages.MonthReportMessages;
 import com.loopone.loopinbe.domain.loop.loopReport.messages.ReportMessages;
 import com.loopone.loopinbe.domain.loop.loopReport.messages.WeekReportMessages;
+import com.loopone.loopinbe.domain.loop.loopReport.repository.MemberDailyRollupRepository;
 import com.loopone.loopinbe.domain.loop.loopReport.service.LoopReportService;
+import com.loopone.loopinbe.domain.loop.loopReport.service.MemberDailyRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -25,53 +25,57 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoopReportServiceImpl implements LoopReportService {
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final int MIN_MONTH_RULE_DAYS = 3;
-    private final LoopRepository loopRepository;
+    private final LoopRuleRepository loopRuleRepository;
+    private final MemberDailyRollupRepository memberDailyRollupRepository;
+    private final MemberDailyRollupService memberDailyRollupService;
     private final LoopMapper loopMapper;
 
     // 루프 리포트 조회
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "loopReport", key = "#currentUser.id()")
+    @Cacheable(value = "loopReport", key = "@loopCacheKeys.report(#currentUser.id())")
     public LoopReportResponse getLoopReport(CurrentUserDto currentUser) {
         Long memberId = currentUser.id();
         LocalDate today = LocalDate.now();
         String userName = currentUser.nickname();
 
-        // ---- 최근 10일(오늘 제외): [today-10, today-1]
-        LocalDate tenStart = today.minusDays(10);
-        LocalDate tenEnd = today.minusDays(1);
-        List<Loop> tenDayLoops = loopRepository.findRepeatLoopsByMemberAndDateBetween(memberId, tenStart, tenEnd);
-        Long tenDayAvgPercent = calcAverageAchievePercentOrNull(tenDayLoops);
+        // 최근 10일/7일(오늘 제외), 이번달 범위
+        Window ten = new Window(today.minusDays(10), today.minusDays(1));
+        Window seven = new Window(today.minusDays(7), today.minusDays(1));
+        Window month = new Window(today.withDayOfMonth(1), today.withDayOfMonth(today.lengthOfMonth()));
+
+        // 세 구간의 합집합 범위 일별 집계를 한 번만 조회한 뒤, 한 번의 순회로 모든 구간을 집계
+        LocalDate unionStart = ten.start.isBefore(month.start) ? ten.start : month.start;
+        LocalDate unionEnd = month.end.isAfter(ten.end) ? month.end : ten.end;
+        memberDailyRollupService.rebuildStale(memberId, unionStart, unionEnd);
+        List<MemberDailyRollup> rollups = memberDailyRollupRepository.findRangeWithRuleStats(memberId, unionStart, unionEnd);
+        for (MemberDailyRollup rollup : rollups) {
+            for (RuleDailyStat stat : rollup.getRuleStats()) {
+                ten.accept(rollup.getRollupDate(), stat);
+                seven.accept(rollup.getRollupDate(), stat);
+                month.accept(rollup.getRollupDate(), stat);
+            }
+        }
+
+        // ---- 최근 10일
+        Long tenDayAvgPercent = ten.avgPercentOrNull();
         ReportState loopReportState = getReportState(tenDayAvgPercent);
         String reportStateMessage = getReportStateMessage(loopReportState, userName);
 
-        // ---- 최근 7일(오늘 제외): [today-7, today-1]
-        LocalDate sevenStart = today.minusDays(7);
-        LocalDate sevenEnd = today.minusDays(1);
-        List<Loop> sevenDayLoops = loopRepository.findRepeatLoopsByMemberAndDateBetween(memberId, sevenStart, sevenEnd);
-        Long sevenDayTotalCount = (long) sevenDayLoops.size();
-        Long sevenDayDoneCount = sevenDayLoops.stream()
-                .map(this::calcLoopAchievePercent)
-                .filter(p -> p >= 50L)
-                .count();
-        WeekReportDto weekReportDto = buildWeekReportDto(sevenDayLoops);
-
-        // ---- 이번달: [monthStart, monthEnd]
-        LocalDate monthStart = today.withDayOfMonth(1);
-        LocalDate monthEnd = today.withDayOfMonth(today.lengthOfMonth());
-        List<Loop> monthLoops = loopRepository.findRepeatLoopsByMemberAndDateBetween(memberId, monthStart, monthEnd);
-        MonthReportDto monthReportDto = buildMonthReportDto(monthLoops);
+        // ---- 최근 7일
+        Long sevenDayTotalCount = seven.count;
+        Long sevenDayDoneCount = seven.halfDoneCount;
+        WeekReportDto weekReportDto = buildWeekReportDto(seven);
+
+        // ---- 이번달
+        MonthReportDto monthReportDto = buildMonthReportDto(month);
         return new LoopReportResponse(
                 loopReportState,
                 reportStateMessage,
@@ -86,15 +90,16 @@ public class LoopReportServiceImpl implements LoopReportService {
     // ----------------- weekReportDto 메서드 -----------------
 
     // weekReportDto 생성 로직
-    private WeekReportDto buildWeekReportDto(List<Loop> sevenDayLoops) {
+    private WeekReportDto buildWeekReportDto(Window seven) {
         // weekAvgPercent: 오늘 제외 최근 7일간 "모든 루프" 평균 달성률 (없으면 null)
-        Long weekAvgPercent = calcAverageAchievePercentOrNull(sevenDayLoops);
+        Long weekAvgPercent = seven.avgPercentOrNull();
         // weekCard: 루프 있으면 날짜별 평균 달성률로 채움
-        Map<LocalDate, Long> weekCard = buildCard(sevenDayLoops);
+        Map<LocalDate, Long> weekCard = seven.card();
 
         // 잘한 루프 / 버거운 루프 선정
-        ProgressLoopDto good = pickGoodProgressLoopDto(sevenDayLoops);
-        ProgressLoopDto bad = pickBadProgressLoopDto(sevenDayLoops);
+        Collection<RuleAgg> rules = seven.rules.values();
+        ProgressLoopDto good = pickGoodProgressLoopDto(rules);
+        ProgressLoopDto bad = pickBadProgressLoopDto(rules);
 
         DetailReportState detailReportState = resolveDetailReportState(good, bad);
         DetailReportStateMessage msg = getWeekDetailReportStateMessage(detailReportState);
@@ -122,16 +127,20 @@ public class LoopReportServiceImpl implements LoopReportService {
     // ----------------- monthReportDto 메서드 -----------------
 
     // monthReportDto 생성 로직
-    private MonthReportDto buildMonthReportDto(List<Loop> monthLoops) {
+    private MonthReportDto buildMonthReportDto(Window month) {
         // monthCard: 루프 있으면 날짜별 평균 달성률로 채움
-        Map<LocalDate, Long> monthCard = buildCard(monthLoops);
+        Map<LocalDate, Long> monthCard = month.card();
 
         // month에서 "잘한/버거운 반복루프" 후보만 필터링
-        List<Loop> eligibleMonthLoops = filterRulesByMinScheduledDays(monthLoops, MIN_MONTH_RULE_DAYS);
+        // - 반복루프별 distinct loopDate 개수가 MIN_MONTH_RULE_DAYS 미만이면 제외
+        // - 예) 12/23, 12/30 두 번만 있는 WEEKLY[TUE]면 distinct loopDate = 2 -> 제외
+        List<RuleAgg> eligibleRules = month.rules.values().stream()
+                .filter(rule -> rule.distinctDays >= MIN_MONTH_RULE_DAYS)
+                .toList();
 
         // 잘한/버거운 루프 선정
-        ProgressLoopDto good = pickGoodProgressLoopDto(eligibleMonthLoops);
-        ProgressLoopDto bad = pickBadProgressLoopDto(eligibleMonthLoops);
+        ProgressLoopDto good = pickGoodProgressLoopDto(eligibleRules);
+        ProgressLoopDto bad = pickBadProgressLoopDto(eligibleRules);
 
         DetailReportState detailReportState = resolveDetailReportState(good, bad);
         DetailReportStateMessage msg = getMonthDetailReportStateMessage(detailReportState);
@@ -156,235 +165,68 @@ public class LoopReportServiceImpl implements LoopReportService {
         };
     }
 
-    // 반복루프(ruleId)별로 "해당 기간에 존재하는 loopDate(중복 제거)" 개수가 minDays 미만이면 제외
-    // - 예) 12/23, 12/30 두 번만 있는 WEEKLY[TUE]면 distinct loopDate = 2 -> 제외
-    private List<Loop> filterRulesByMinScheduledDays(List<Loop> loops, int minDays) {
-        if (loops == null || loops.isEmpty()) return List.of();
-        Map<Long, List<Loop>> byRule = loops.stream()
-                .filter(Objects::nonNull)
-                .filter(l -> l.getLoopRule() != null && l.getLoopRule().getId() != null)
-                .collect(Collectors.groupingBy(l -> l.getLoopRule().getId()));
-        return byRule.values().stream()
-                .filter(ruleLoops -> ruleLoops.stream()
-                        .map(Loop::getLoopDate)
-                        .filter(Objects::nonNull)
-                        .distinct()
-                        .count() >= minDays
-                )
-                .flatMap(List::stream)
-                .toList();
-    }
-
     // ----------------- 헬퍼 메서드 -----------------
 
-    // week/month Card 생성 로직
-    private Map<LocalDate, Long> buildCard(List<Loop> loops) {
-        if (loops == null || loops.isEmpty()) return new TreeMap<>();
-        return loops.stream()
-            .filter(Objects::nonNull)
-            .filter(l -> l.getLoopDate() != null)
-            .collect(Collectors.groupingBy(
-                Loop::getLoopDate,
-                TreeMap::new,
-                Collectors.collectingAndThen(
-                    Collectors.averagingLong(this::calcLoopAchievePercent),
-                    avg -> Math.round(avg)
-                )
-            ));
-    }
-
     // 잘한 루프 선정 로직
-    private ProgressLoopDto pickGoodProgressLoopDto(List<Loop> loops) {
-        if (loops == null || loops.isEmpty()) return null;
-
-        Map<Long, List<Loop>> byRule = loops.stream()
-                .filter(Objects::nonNull)
-                .filter(l -> l.getLoopRule() != null && l.getLoopRule().getId() != null)
-                .collect(Collectors.groupingBy(l -> l.getLoopRule().getId()));
-        List<GoodRuleAgg> candidates = new ArrayList<>();
-
-        for (Map.Entry<Long, List<Loop>> entry : byRule.entrySet()) {
-            List<Loop> ruleLoops = entry.getValue();
-            if (ruleLoops == null || ruleLoops.isEmpty()) continue;
-
-            // 반복루프 평균 달성률
-            long avgAchieve = Math.round(
-                    ruleLoops.stream().mapToLong(this::calcLoopAchievePercent).average().orElse(0.0)
-            );
-
-            // 조건: 평균 70% 이상인 반복루프만 후보
-            if (avgAchieve < 70L) continue;
-
-            // 2순위: 100% 개수(=완벽 달성 일수)
-            long fullDays = ruleLoops.stream()
-                    .mapToLong(this::calcLoopAchievePercent)
-                    .filter(p -> p == 100L)
-                    .count();
-
-            // tie-breaker용: 최근 실행일, 생성일(오래된 것 우선)
-            LocalDate lastExecutionDate = ruleLoops.stream()
-                    .map(Loop::getLoopDate)
-                    .filter(Objects::nonNull)
-                    .max(Comparator.naturalOrder())
-                    .orElse(LocalDate.MIN);
-
-            Instant createdAt = ruleLoops.stream()
-                    .map(this::extractCreatedAtForLoopNullableSafe)
-                    .min(Comparator.naturalOrder())
-                    .orElse(Instant.EPOCH);
-
-            candidates.add(new GoodRuleAgg(
-                    entry.getKey(),
-                    avgAchieve,
-                    fullDays,
-                    lastExecutionDate,
-                    createdAt
-            ));
+    // - 조건: 평균 70% 이상인 반복루프만 후보
+    // - 정렬: 평균 달성률 높은 순 -> 100% 일수 많은 순 -> 최근 실행일 -> 오래된 생성일 우선
+    // - 대표 loop: 가능하면 "가장 최근 100% loop" -> 없으면 "가장 최근 loop"
+    private ProgressLoopDto pickGoodProgressLoopDto(Collection<RuleAgg> rules) {
+        RuleAgg best = null;
+        for (RuleAgg rule : rules) {
+            if (rule.avgPercent() < 70L) continue;
+            if (best == null || compareGood(rule, best) < 0) best = rule;
         }
-        if (candidates.isEmpty()) return null;
-
-        GoodRuleAgg best = candidates.stream()
-                .sorted(
-                        Comparator.comparingLong(GoodRuleAgg::avgAchieve).reversed() // 1) 평균 달성률 높은 순
-                                .thenComparing(Comparator.comparingLong(GoodRuleAgg::fullAchieveDays).reversed()) // 2) 100% 일수 많은 순
-                                .thenComparing(GoodRuleAgg::lastExecutionDate, Comparator.reverseOrder()) // 3) 최근 실행일
-                                .thenComparing(GoodRuleAgg::createdAt) // 4) 오래된 생성일 우선
-                )
-                .findFirst()
-                .orElseThrow();
-        List<Loop> chosenRuleLoops = byRule.get(best.ruleId());
-        if (chosenRuleLoops == null || chosenRuleLoops.isEmpty()) return null;
-
-        // 대표 loop 선택: 가능하면 "가장 최근 100% loop" -> 없으면 "가장 최근 loop"
-        Loop chosenLoop = chosenRuleLoops.stream()
-                .filter(l -> calcLoopAchievePercent(l) == 100L)
-                .filter(l -> l.getLoopDate() != null)
-                .sorted(Comparator.comparing(Loop::getLoopDate, Comparator.reverseOrder())
-                        .thenComparing(this::extractCreatedAtForLoopNullableSafe))
-                .findFirst()
-                .orElseGet(() -> chosenRuleLoops.stream()
-                        .filter(l -> l.getLoopDate() != null)
-                        .sorted(Comparator.comparing(Loop::getLoopDate, Comparator.reverseOrder())
-                                .thenComparing(this::extractCreatedAtForLoopNullableSafe))
-                        .findFirst()
-                        .orElse(null));
-        if (chosenLoop == null) return null;
+        if (best == null) return null;
+        String title = best.latestFullTitle != null ? best.latestFullTitle : best.latestTitle;
+        return toProgressLoopDto(best.ruleId, title, best.avgPercent());
+    }
 
-        return new ProgressLoopDto(
-                chosenLoop.getTitle(),
-                loopMapper.loopRuleToLoopRuleDTO(chosenLoop.getLoopRule()),
-                best.avgAchieve(), // 반복루프 평균 달성률
-                null
-        );
+    private int compareGood(RuleAgg a, RuleAgg b) {
+        int c = Long.compare(b.avgPercent(), a.avgPercent());
+        if (c != 0) return c;
+        c = Long.compare(b.fullDays, a.fullDays);
+        if (c != 0) return c;
+        c = b.lastDate.compareTo(a.lastDate);
+        if (c != 0) return c;
+        return a.firstCreatedAt.compareTo(b.firstCreatedAt);
     }
 
     // 버거운 루프 선정 로직
-    private ProgressLoopDto pickBadProgressLoopDto(List<Loop> loops) {
-        if (loops == null || loops.isEmpty()) return null;
-
-        Map<Long, List<Loop>> byRule = loops.stream()
-                .filter(Objects::nonNull)
-                .filter(l -> l.getLoopRule() != null && l.getLoopRule().getId() != null)
-                .collect(Collectors.groupingBy(l -> l.getLoopRule().getId()));
-        List<BadRuleAgg> candidates = new ArrayList<>();
-
-        for (Map.Entry<Long, List<Loop>> entry : byRule.entrySet()) {
-            List<Loop> ruleLoops = entry.getValue();
-            if (ruleLoops == null || ruleLoops.isEmpty()) continue;
-
-            // 반복루프 평균 달성률
-            long avgAchieve = Math.round(
-                    ruleLoops.stream().mapToLong(this::calcLoopAchievePercent).average().orElse(0.0)
-            );
-
-            // 조건: 평균 50% 미만인 반복루프만 후보(버거운 기준)
-            if (avgAchieve >= 50L) continue;
-
-            // 2순위: 0% 개수(=완전 미달성 일수)
-            long zeroDays = ruleLoops.stream()
-                    .mapToLong(this::calcLoopAchievePercent)
-                    .filter(p -> p == 0L)
-                    .count();
-
-            // tie-breaker용: 평균 더 낮은 순, 최근 실행일, 생성일
-            LocalDate lastExecutionDate = ruleLoops.stream()
-                    .map(Loop::getLoopDate)
-                    .filter(Objects::nonNull)
-                    .max(Comparator.naturalOrder())
-                    .orElse(LocalDate.MIN);
-
-            Instant createdAt = ruleLoops.stream()
-                    .map(this::extractCreatedAtForLoopNullableSafe)
-                    .min(Comparator.naturalOrder())
-                    .orElse(Instant.EPOCH);
-
-            candidates.add(new BadRuleAgg(
-                    entry.getKey(),
-                    avgAchieve,
-                    zeroDays,
-                    lastExecutionDate,
-                    createdAt
-            ));
+    // - 조건: 평균 50% 미만인 반복루프만 후보
+    // - 정렬: 평균 달성률 낮은 순 -> 0% 일수 많은 순 -> 오래된 실행일 -> 오래된 생성일 우선
+    // - 대표 loop: 가능하면 "가장 최근 0% loop" -> 없으면 "가장 최근 loop"
+    private ProgressLoopDto pickBadProgressLoopDto(Collection<RuleAgg> rules) {
+        RuleAgg worst = null;
+        for (RuleAgg rule : rules) {
+            if (rule.avgPercent() >= 50L) continue;
+            if (worst == null || compareBad(rule, worst) < 0) worst = rule;
         }
-        if (candidates.isEmpty()) return null;
-
-        BadRuleAgg worst = candidates.stream()
-                .sorted(
-                        Comparator.comparingLong(BadRuleAgg::avgAchieve) // 1) 평균 달성률 낮은 순
-                                .thenComparing(Comparator.comparingLong(BadRuleAgg::zeroDays).reversed()) // 2) 0% 일수 많은 순
-                                .thenComparing(BadRuleAgg::lastExecutionDate) // 3) 오래된 실행일 우선
-                                .thenComparing(BadRuleAgg::createdAt) // 4) 오래된 생성일 우선
-                )
-                .findFirst()
-                .orElseThrow();
-
-        List<Loop> chosenRuleLoops = byRule.get(worst.ruleId());
-        if (chosenRuleLoops == null || chosenRuleLoops.isEmpty()) return null;
-
-        // 대표 loop 선택: 가능하면 "가장 최근 0% loop" -> 없으면 "가장 최근 loop"
-        Loop chosenLoop = chosenRuleLoops.stream()
-                .filter(l -> calcLoopAchievePercent(l) == 0L)
-                .filter(l -> l.getLoopDate() != null)
-                .sorted(Comparator.comparing(Loop::getLoopDate, Comparator.reverseOrder())
-                        .thenComparing(this::extractCreatedAtForLoopNullableSafe))
-                .findFirst()
-                .orElseGet(() -> chosenRuleLoops.stream()
-                        .filter(l -> l.getLoopDate() != null)
-                        .sorted(Comparator.comparing(Loop::getLoopDate, Comparator.reverseOrder())
-                                .thenComparing(this::extractCreatedAtForLoopNullableSafe))
-                        .findFirst()
-                        .orElse(null));
-        if (chosenLoop == null) return null;
-
-        return new ProgressLoopDto(
-                chosenLoop.getTitle(),
-                loopMapper.loopRuleToLoopRuleDTO(chosenLoop.getLoopRule()),
-                worst.avgAchieve(), // 반복루프 평균 달성률
-                null
-        );
+        if (worst == null) return null;
+        String title = worst.latestZeroTitle != null ? worst.latestZeroTitle : worst.latestTitle;
+        return toProgressLoopDto(worst.ruleId, title, worst.avgPercent());
     }
 
-    // 루프 리스트에 루프 존재하면 평균 달성률 계산, 없으면 null
-    private Long calcAverageAchievePercentOrNull(List<Loop> loops) {
-        if (loops == null || loops.isEmpty()) return null;
-        double avg = loops.stream()
-                .mapToLong(this::calcLoopAchievePercent)
-                .average()
-                .orElse(0.0);
-        return Math.round(avg);
+    private int compareBad(RuleAgg a, RuleAgg b) {
+        int c = Long.compare(a.avgPercent(), b.avgPercent());
+        if (c != 0) return c;
+        c = Long.compare(b.zeroDays, a.zeroDays);
+        if (c != 0) return c;
+        c = a.lastDate.compareTo(b.lastDate);
+        if (c != 0) return c;
+        return a.firstCreatedAt.compareTo(b.firstCreatedAt);
     }
 
-    // 루프 달성률 계산 규칙
-    // - 체크리스트가 있으면: (완료 체크리스트 수 / 전체 체크리스트 수) * 100
-    // - 체크리스트가 없으면: loop.completed == true ? 100 : 0
-    private Long calcLoopAchievePercent(Loop loop) {
-        List<LoopChecklist> items = loop.getLoopChecklists();
-        if (items == null || items.isEmpty()) {
-            return loop.isCompleted() ? 100L : 0L;
-        }
-        long total = items.size();
-        long done = items.stream().filter(LoopChecklist::getCompleted).count();
-        return Math.round((done * 100.0) / total);
+    // 선정된 반복루프의 대표 loop -> ProgressLoopDto (규칙은 선정된 것만 조회)
+    private ProgressLoopDto toProgressLoopDto(Long ruleId, String title, long avgPercent) {
+        return new ProgressLoopDto(
+                title,
+                loopRuleRepository.findById(ruleId)
+                        .map(loopMapper::loopRuleToLoopRuleDTO)
+                        .orElse(null),
+                avgPercent, // 반복루프 평균 달성률
+                null
+        );
     }
 
     // tenDayAvgPercent 범위에 따른 루프리포트 상태 매핑
@@ -425,33 +267,82 @@ public class LoopReportServiceImpl implements LoopReportService {
 
     private record DetailReportStateMessage(String goodFallback, String badFallback) {}
 
-    // ----------------- tie-breaker용 내부 유틸 -----------------
+    // ----------------- 집계용 내부 클래스 -----------------
+
+    // 구간별 누적기: 전체 평균, 50% 이상 개수, 날짜별 카드, 반복루프별 집계
+    private static final class Window {
+        private final LocalDate start;
+        private final LocalDate end;
+        private long count;
+        private long percentSum;
+        private long halfDoneCount;
+        private final TreeMap<LocalDate, long[]> days = new TreeMap<>(); // {합계, 개수}
+        private final Map<Long, RuleAgg> rules = new HashMap<>();
+
+        private Window(LocalDate start, LocalDate end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private void accept(LocalDate date, RuleDailyStat stat) {
+            if (date.isBefore(start) || date.isAfter(end) || stat.getLoopCount() == 0) return;
+            count += stat.getLoopCount();
+            percentSum += stat.getAchievedSum();
+            halfDoneCount += stat.getHalfDoneCount();
+            long[] day = days.computeIfAbsent(date, d -> new long[2]);
+            day[0] += stat.getAchievedSum();
+            day[1] += stat.getLoopCount();
+            rules.computeIfAbsent(stat.getLoopRuleId(), RuleAgg::new).accept(date, stat);
+        }
+
+        // 루프 존재하면 평균 달성률, 없으면 null
+        private Long avgPercentOrNull() {
+            return count == 0 ? null : Math.round((double) percentSum / count);
+        }
 
-    // 루프 생성일 추출
-    private Instant extractCreatedAtForLoopNullableSafe(Loop loop) {
-        try {
-            Instant createdAt = loop.getCreatedAt(); // createdAt이 LocalDateTime이라면
-            return createdAt == null ? Instant.EPOCH : createdAt.atZone(KST).toInstant();
-        } catch (Exception e) {
-            return Instant.EPOCH;
+        // 날짜별 평균 달성률 카드
+        private Map<LocalDate, Long> card() {
+            TreeMap<LocalDate, Long> card = new TreeMap<>();
+            days.forEach((date, acc) -> card.put(date, Math.round((double) acc[0] / acc[1])));
+            return card;
         }
     }
 
-    // ----------------- 집계용 내부 record -----------------
-
-    private record GoodRuleAgg(
-            Long ruleId,
-            long avgAchieve,
-            long fullAchieveDays,
-            LocalDate lastExecutionDate,
-            Instant createdAt
-    ) {}
-
-    private record BadRuleAgg(
-            Long ruleId,
-            long avgAchieve,
-            long zeroDays,
-            LocalDate lastExecutionDate,
-            Instant createdAt
-    ) {}
+    // 반복루프(ruleId)별 누적기 (일별 집계가 날짜 오름차순으로 들어온다는 전제)
+    private static final class RuleAgg {
+        private final Long ruleId;
+        private long count;
+        private long percentSum;
+        private long fullDays;
+        private long zeroDays;
+        private long distinctDays;
+        private LocalDate lastDate = LocalDate.MIN;
+        private Instant firstCreatedAt = Instant.MAX;
+        // 대표 loop 제목: 가장 최근 날짜의 (그날 먼저 생성된) 루프 / 100% 루프 / 0% 루프
+        private String latestTitle;
+        private String latestFullTitle;
+        private String latestZeroTitle;
+
+        private RuleAgg(Long ruleId) {
+            this.ruleId = ruleId;
+        }
+
+        private void accept(LocalDate date, RuleDailyStat stat) {
+            count += stat.getLoopCount();
+            percentSum += stat.getAchievedSum();
+            fullDays += stat.getFullCount();
+            zeroDays += stat.getZeroCount();
+            distinctDays++;
+            lastDate = date;
+            Instant createdAt = stat.getFirstCreatedAt() == null ? Instant.EPOCH : stat.getFirstCreatedAt();
+            if (createdAt.isBefore(firstCreatedAt)) firstCreatedAt = createdAt;
+            latestTitle = stat.getTitle();
+            if (stat.getFullCount() > 0) latestFullTitle = stat.getFullTitle();
+            if (stat.getZeroCount() > 0) latestZeroTitle = stat.getZeroTitle();
+        }
+
+        private long avgPercent() {
+            return count == 0 ? 0L : Math.round((double) percentSum / count);
+        }
+    }
 }
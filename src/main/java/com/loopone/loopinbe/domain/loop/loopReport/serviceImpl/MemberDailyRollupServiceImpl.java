@@ -0,0 +1,179 @@
+package com.loopone.loopinbe.domain.loop.loopReport.serviceImpl;
+
+import com.loopone.loopinbe.domain.loop.loop.repository.LoopRepository;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.LoopReportRow;
+import com.loopone.loopinbe.domain.loop.loopReport.entity.MemberDailyRollup;
+import com.loopone.loopinbe.domain.loop.loopReport.entity.RuleDailyStat;
+import com.loopone.loopinbe.domain.loop.loopReport.repository.MemberDailyRollupRepository;
+import com.loopone.loopinbe.domain.loop.loopReport.service.MemberDailyRollupService;
+import com.loopone.loopinbe.global.config.properties.LoopRollupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberDailyRollupServiceImpl implements MemberDailyRollupService {
+    private final MemberDailyRollupRepository memberDailyRollupRepository;
+    private final LoopRepository loopRepository;
+    private final LoopRollupProperties properties;
+
+    // 루프 변경 후 해당 날짜 집계 갱신 (호출한 트랜잭션과 함께 커밋)
+    @Override
+    @Transactional
+    public void onLoopsChanged(Long memberId, Collection<LocalDate> dates) {
+        if (memberId == null || dates == null || dates.isEmpty()) return;
+        if (dates.size() <= properties.refreshThreshold()) {
+            refresh(memberId, dates);
+        } else {
+            markStale(memberId, dates);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markStale(Long memberId, Collection<LocalDate> dates) {
+        memberDailyRollupRepository.markStale(memberId, dates);
+    }
+
+    @Override
+    @Transactional
+    public int refresh(Long memberId, Collection<LocalDate> dates) {
+        List<LocalDate> targets = dates.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        if (targets.isEmpty()) return 0;
+
+        // 행 보장(upsert) 후 잠금 -> 같은 날짜 동시 갱신 직렬화
+        memberDailyRollupRepository.markStale(memberId, targets);
+        List<MemberDailyRollup> rollups = memberDailyRollupRepository.findForUpdate(memberId, targets);
+
+        // 대상 날짜 루프를 평면 행으로 한 번에 조회 (날짜/생성일 오름차순)
+        Map<LocalDate, List<LoopReportRow>> rowsByDate = loopRepository
+                .findRollupRowsByMemberAndDates(memberId, targets).stream()
+                .collect(Collectors.groupingBy(LoopReportRow::loopDate));
+
+        for (MemberDailyRollup rollup : rollups) {
+            apply(rollup, rowsByDate.getOrDefault(rollup.getRollupDate(), List.of()));
+        }
+        return rollups.size();
+    }
+
+    // 조회 경로(readOnly)에서 호출되므로 별도 쓰기 트랜잭션
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void rebuildStale(Long memberId, LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> staleDates = memberDailyRollupRepository.findStaleDates(memberId, startDate, endDate);
+        if (staleDates.isEmpty()) return;
+        int rebuilt = refresh(memberId, staleDates);
+        log.debug("Member daily rollup rebuilt. memberId={}, days={}", memberId, rebuilt);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByMember(Long memberId) {
+        memberDailyRollupRepository.deleteRuleStatsByMemberId(memberId);
+        memberDailyRollupRepository.deleteByMemberId(memberId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findMemberIdsToBackfill(Long lastId, int size) {
+        return memberDailyRollupRepository.findMemberIdsWithLoops(lastId, PageRequest.of(0, size));
+    }
+
+    // 회원 단위 트랜잭션으로 집계 재생성
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int backfillMember(Long memberId) {
+        List<LocalDate> dates = memberDailyRollupRepository.findLoopDatesByMemberId(memberId);
+        int batchSize = properties.batchSize();
+        int count = 0;
+        for (int from = 0; from < dates.size(); from += batchSize) {
+            count += refresh(memberId, dates.subList(from, Math.min(from + batchSize, dates.size())));
+        }
+        return count;
+    }
+
+    // ========== 비즈니스 로직 메서드 ==========
+    // 하루치 루프 행으로 집계 재계산
+    private void apply(MemberDailyRollup rollup, List<LoopReportRow> rows) {
+        int loopCount = 0;
+        long achievedSum = 0L;
+        Map<Long, RuleAcc> byRule = new LinkedHashMap<>();
+
+        for (LoopReportRow row : rows) {
+            long percent = row.achievePercent();
+            loopCount++;
+            achievedSum += percent;
+            if (row.ruleId() != null) {
+                byRule.computeIfAbsent(row.ruleId(), RuleAcc::new).accept(row, percent);
+            }
+        }
+        List<RuleDailyStat> ruleStats = byRule.values().stream()
+                .map(RuleAcc::toStat)
+                .toList();
+        rollup.apply(loopCount, achievedSum, ruleStats);
+    }
+
+    // 반복루프별 누적기 (행이 생성일 오름차순으로 들어온다는 전제)
+    private static final class RuleAcc {
+        private final Long ruleId;
+        private int loopCount;
+        private long achievedSum;
+        private int halfDoneCount;
+        private int fullCount;
+        private int zeroCount;
+        private Instant firstCreatedAt;
+        private String title;
+        private String fullTitle;
+        private String zeroTitle;
+
+        private RuleAcc(Long ruleId) {
+            this.ruleId = ruleId;
+        }
+
+        private void accept(LoopReportRow row, long percent) {
+            if (loopCount == 0) {
+                firstCreatedAt = row.createdAt();
+                title = row.title();
+            }
+            loopCount++;
+            achievedSum += percent;
+            if (percent >= 50L) halfDoneCount++;
+            if (percent == 100L) {
+                fullCount++;
+                if (fullTitle == null) fullTitle = row.title();
+            } else if (percent == 0L) {
+                zeroCount++;
+                if (zeroTitle == null) zeroTitle = row.title();
+            }
+        }
+
+        private RuleDailyStat toStat() {
+            return RuleDailyStat.builder()
+                    .loopRuleId(ruleId)
+                    .loopCount(loopCount)
+                    .achievedSum(achievedSum)
+                    .halfDoneCount(halfDoneCount)
+                    .fullCount(fullCount)
+                    .zeroCount(zeroCount)
+                    .firstCreatedAt(firstCreatedAt)
+                    .title(title)
+                    .fullTitle(fullTitle)
+                    .zeroTitle(zeroTitle)
+                    .build();
+        }
+    }
+}
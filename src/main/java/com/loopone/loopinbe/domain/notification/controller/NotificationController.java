@@ -32,6 +32,15 @@ public class NotificationController {
         return ApiResponse.success(notificationService.getNotifications(pageable, currentUser));
     }
 
+    // 알림 목록 커서 조회
+    @GetMapping("/cursor")
+    @Operation(summary = "알림 목록 커서 조회", description = "before 커서 이전 알림을 최신순으로 조회합니다. 첫 요청은 before 없이, 이후에는 응답의 nextCursor를 전달합니다.(기본설정: limit=20)")
+    public ApiResponse<List<NotificationResponse>> getNotificationsBefore(@RequestParam(value = "before", required = false) String before,
+                                                                          @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                                                          @CurrentUser CurrentUserDto currentUser) {
+        return ApiResponse.success(notificationService.getNotificationsBefore(before, limit, currentUser));
+    }
+
     // 알림 읽음 처리
     @PatchMapping
     @Operation(summary = "알림 읽음 처리", description = "알림을 읽음 처리합니다.")
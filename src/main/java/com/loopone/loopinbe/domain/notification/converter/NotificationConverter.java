@@ -1,6 +1,7 @@
 package com.loopone.loopinbe.domain.notification.converter;
 
 import com.loopone.loopinbe.domain.notification.dto.NotificationPayload;
+import com.loopone.loopinbe.domain.notification.dto.TeamNotificationPayload;
 import com.loopone.loopinbe.domain.notification.dto.res.NotificationResponse;
 import com.loopone.loopinbe.domain.notification.entity.Notification;
 import org.mapstruct.Mapper;
@@ -37,4 +38,20 @@ public interface NotificationConverter {
     @Mapping(target = "content", source = "payload.content")
     @Mapping(target = "targetObject", source = "payload.targetObject")
     Notification toNotification(NotificationPayload payload, String title);
+
+    // ---------- TeamNotificationPayload -> Notification (수신자 제외 공통 내용) ----------
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "modifiedAt", ignore = true)
+    @Mapping(target = "isRead", ignore = true)
+    @Mapping(target = "receiverId", ignore = true)  // 팬아웃 시 수신자별로 채움
+    @Mapping(target = "title", source = "title")
+
+    @Mapping(target = "senderId", source = "payload.senderId")
+    @Mapping(target = "senderNickname", source = "payload.senderNickname")
+    @Mapping(target = "senderProfileUrl", source = "payload.senderProfileUrl")
+    @Mapping(target = "objectId", source = "payload.objectId")
+    @Mapping(target = "content", source = "payload.content")
+    @Mapping(target = "targetObject", source = "payload.targetObject")
+    Notification toNotification(TeamNotificationPayload payload, String title);
 }
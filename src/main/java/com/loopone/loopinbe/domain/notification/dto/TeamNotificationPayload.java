@@ -0,0 +1,16 @@
+package com.loopone.loopinbe.domain.notification.dto;
+
+import com.loopone.loopinbe.domain.notification.entity.Notification;
+import com.loopone.loopinbe.domain.notification.enums.TeamNotificationType;
+
+// 팀 단위 알림 이벤트 (수신자는 컨슈머에서 팀원 전체 - 발신자로 확장)
+public record TeamNotificationPayload(
+        TeamNotificationType type,
+        Long teamId,
+        Long senderId,
+        String senderNickname,
+        String senderProfileUrl,
+        Long objectId,
+        String content,
+        Notification.TargetObject targetObject
+) {}
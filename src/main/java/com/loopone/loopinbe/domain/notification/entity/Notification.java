@@ -1,14 +1,15 @@
 package com.loopone.loopinbe.domain.notification.entity;
 
 import com.loopone.loopinbe.global.jpa.BaseEntity;
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@Table(indexes = {
+        // 수신자별 커서 조회 (createdAt desc, id desc)
+        @Index(name = "idx_notification_receiver_created", columnList = "receiver_id, created_at DESC, id DESC")
+})
 @Setter
 @Getter
 @AllArgsConstructor
@@ -30,6 +31,6 @@ public class Notification extends BaseEntity {
     @Column(length = 10)
     private TargetObject targetObject;
     public enum TargetObject {
-        Follow, Invite
+        Follow, Invite, TeamLoop
     }
 }
@@ -0,0 +1,14 @@
+package com.loopone.loopinbe.domain.notification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팀원 전체에게 팬아웃되는 알림 종류 (description 은 알림 제목)
+@Getter
+@AllArgsConstructor
+public enum TeamNotificationType {
+    TEAM_LOOP_CREATED("팀 루프 알림"),
+    TEAMMATE_LOOP_COMPLETED("팀원 루프 완료 알림");
+
+    private final String description;
+}
@@ -4,9 +4,12 @@ import com.loopone.loopinbe.domain.account.member.entity.Member;
 import com.loopone.loopinbe.domain.account.member.entity.MemberFollow;
 import com.loopone.loopinbe.domain.account.member.entity.MemberFollowReq;
 import com.loopone.loopinbe.domain.notification.dto.NotificationPayload;
+import com.loopone.loopinbe.domain.notification.dto.TeamNotificationPayload;
 import com.loopone.loopinbe.domain.notification.entity.Notification;
+import com.loopone.loopinbe.domain.notification.enums.TeamNotificationType;
 import com.loopone.loopinbe.domain.team.team.entity.Team;
 import com.loopone.loopinbe.domain.team.team.entity.TeamInvitation;
+import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoop;
 
 public final class NotificationPayloadFactory {
 
@@ -65,6 +68,40 @@ public final class NotificationPayloadFactory {
         );
     }
 
+    // 팀 루프 생성 알림: creator -> 팀원 전체
+    public static TeamNotificationPayload teamLoopCreated(Member creator, Team team, Long teamLoopId, String loopTitle) {
+        String senderNickname = creator.getNickname();
+        String content = String.format("%s님이 %s 팀에\n'%s' 루프를 만들었어요", senderNickname, team.getName(), loopTitle);
+
+        return new TeamNotificationPayload(
+                TeamNotificationType.TEAM_LOOP_CREATED,
+                team.getId(),                        // teamId
+                creator.getId(),                     // senderId
+                senderNickname,                      // senderNickname
+                extractProfileUrl(creator),          // senderProfileUrl
+                teamLoopId,                          // objectId (가장 이른 팀 루프 id)
+                content,                             // content
+                Notification.TargetObject.TeamLoop   // targetObject
+        );
+    }
+
+    // 팀원 루프 완료 알림: 완료한 팀원 -> 나머지 팀원 전체
+    public static TeamNotificationPayload teammateLoopCompleted(Member member, TeamLoop teamLoop) {
+        String senderNickname = member.getNickname();
+        String content = String.format("%s님이\n'%s' 루프를 완료했어요", senderNickname, teamLoop.getTitle());
+
+        return new TeamNotificationPayload(
+                TeamNotificationType.TEAMMATE_LOOP_COMPLETED,
+                teamLoop.getTeam().getId(),          // teamId
+                member.getId(),                      // senderId
+                senderNickname,                      // senderNickname
+                extractProfileUrl(member),           // senderProfileUrl
+                teamLoop.getId(),                    // objectId (team loop id)
+                content,                             // content
+                Notification.TargetObject.TeamLoop   // targetObject
+        );
+    }
+
     private static String extractProfileUrl(Member inviter) {
         try {
             return inviter.getProfileImageUrl();
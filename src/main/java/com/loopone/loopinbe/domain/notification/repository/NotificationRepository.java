@@ -1,18 +1,37 @@
 package com.loopone.loopinbe.domain.notification.repository;
 
 import com.loopone.loopinbe.domain.notification.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
     // receiverId로 알림 조회
     Page<Notification> findByReceiverIdOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
 
+    // receiverId로 최신 알림 커서 조회 (첫 페이지)
+    List<Notification> findByReceiverIdOrderByCreatedAtDescIdDesc(Long receiverId, Limit limit);
+
+    // receiverId로 (createdAt, id) 커서 이전 알림 조회
+    @Query("""
+                select n from Notification n
+                where n.receiverId = :receiverId
+                  and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))
+                order by n.createdAt desc, n.id desc
+            """)
+    List<Notification> findByReceiverIdBefore(@Param("receiverId") Long receiverId,
+                                              @Param("createdAt") Instant createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
     // notificationId와 receiverId로 알림 조회
     List<Notification> findAllByIdInAndReceiverId(List<Long> ids, Long receiverId);
 }
@@ -0,0 +1,10 @@
+package com.loopone.loopinbe.domain.notification.repository;
+
+import com.loopone.loopinbe.domain.notification.entity.Notification;
+
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+    // 같은 내용의 알림을 수신자 목록만큼 한 번의 multi-row INSERT로 생성 (수신자 순서대로 id/createdAt 채워서 반환)
+    List<Notification> bulkInsertForReceivers(Notification template, List<Long> receiverIds);
+}
@@ -0,0 +1,80 @@
+package com.loopone.loopinbe.domain.notification.repositoryImpl;
+
+import com.loopone.loopinbe.domain.notification.entity.Notification;
+import com.loopone.loopinbe.domain.notification.repository.NotificationRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+    // id는 엔티티별 시퀀스(<entity>_seq)에서 직접 발급 (Hibernate pooled-lo 블록과 겹치지 않음)
+    private static final String BULK_INSERT_SQL = """
+        INSERT INTO notification (id, sender_id, sender_nickname, sender_profile_url, receiver_id, object_id,
+                                  title, content, is_read, target_object, created_at, modified_at)
+        SELECT nextval('notification_seq'), ?, ?, ?, r.receiver_id, ?, ?, ?, false, ?, now(), now()
+        FROM unnest(?::bigint[]) WITH ORDINALITY AS r(receiver_id, ord)
+        ORDER BY r.ord
+        RETURNING id, receiver_id, created_at
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Notification> bulkInsertForReceivers(Notification template, List<Long> receiverIds) {
+        if (receiverIds == null || receiverIds.isEmpty()) return List.of();
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Notification>>) con -> {
+            Array receivers = con.createArrayOf("bigint", receiverIds.toArray());
+            try (PreparedStatement ps = con.prepareStatement(BULK_INSERT_SQL)) {
+                int i = 1;
+                setLong(ps, i++, template.getSenderId());
+                ps.setString(i++, template.getSenderNickname());
+                ps.setString(i++, template.getSenderProfileUrl());
+                setLong(ps, i++, template.getObjectId());
+                ps.setString(i++, template.getTitle());
+                ps.setString(i++, template.getContent());
+                ps.setString(i++, template.getTargetObject() == null ? null : template.getTargetObject().name());
+                ps.setArray(i, receivers);
+
+                List<Notification> inserted = new ArrayList<>(receiverIds.size());
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        inserted.add(Notification.builder()
+                                .id(rs.getLong("id"))
+                                .createdAt(rs.getTimestamp("created_at").toInstant())
+                                .senderId(template.getSenderId())
+                                .senderNickname(template.getSenderNickname())
+                                .senderProfileUrl(template.getSenderProfileUrl())
+                                .receiverId(rs.getLong("receiver_id"))
+                                .objectId(template.getObjectId())
+                                .title(template.getTitle())
+                                .content(template.getContent())
+                                .isRead(false)
+                                .targetObject(template.getTargetObject())
+                                .build());
+                    }
+                }
+                return inserted;
+            } finally {
+                receivers.free();
+            }
+        });
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, value);
+    }
+}
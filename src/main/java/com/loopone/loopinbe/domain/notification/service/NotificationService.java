@@ -3,6 +3,7 @@ package com.loopone.loopinbe.domain.notification.service;
 import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
 import com.loopone.loopinbe.domain.notification.dto.req.NotificationRequest;
 import com.loopone.loopinbe.domain.notification.dto.res.NotificationResponse;
+import com.loopone.loopinbe.global.common.response.CursorResponse;
 import com.loopone.loopinbe.global.common.response.PageResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -10,9 +11,15 @@ public interface NotificationService {
     // Kafka 수신 메시지 저장 & FCM 전송
     void createAndNotifyFromMessage(String message, String title);
 
+    // Kafka 수신 팀 단위 이벤트를 팀원 전체 알림으로 팬아웃 저장 & FCM 배치 전송
+    void createAndNotifyTeamFromMessage(String message);
+
     // 알림 목록 조회
     PageResponse<NotificationResponse> getNotifications(Pageable pageable, CurrentUserDto currentUser);
 
+    // 알림 목록 커서 조회
+    CursorResponse<NotificationResponse> getNotificationsBefore(String before, int limit, CurrentUserDto currentUser);
+
     // 알림 읽음 처리
     void markAsRead(NotificationRequest notificationRequest, CurrentUserDto currentUser);
 }
@@ -1,5 +1,6 @@
 package com.loopone.loopinbe.domain.notification.serviceImpl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
 import com.loopone.loopinbe.domain.account.member.entity.MemberPage;
@@ -8,12 +9,16 @@ import com.loopone.loopinbe.domain.fcm.service.FcmService;
 import com.loopone.loopinbe.domain.fcm.service.FcmTokenService;
 import com.loopone.loopinbe.domain.notification.converter.NotificationConverter;
 import com.loopone.loopinbe.domain.notification.dto.NotificationPayload;
+import com.loopone.loopinbe.domain.notification.dto.TeamNotificationPayload;
 import com.loopone.loopinbe.domain.notification.dto.req.NotificationRequest;
 import com.loopone.loopinbe.domain.notification.dto.res.NotificationResponse;
 import com.loopone.loopinbe.domain.notification.entity.Notification;
 import com.loopone.loopinbe.domain.notification.entity.NotificationPage;
 import com.loopone.loopinbe.domain.notification.repository.NotificationRepository;
 import com.loopone.loopinbe.domain.notification.service.NotificationService;
+import com.loopone.loopinbe.domain.team.team.repository.TeamMemberRepository;
+import com.loopone.loopinbe.global.common.response.CursorResponse;
+import com.loopone.loopinbe.global.common.response.KeysetCursor;
 import com.loopone.loopinbe.global.common.response.PageResponse;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
@@ -21,13 +26,20 @@ import com.loopone.loopinbe.global.kafka.event.fcm.FcmEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+
+import static com.loopone.loopinbe.global.jpa.util.TransactionUtils.afterCommit;
 
 @Slf4j
 @Service
@@ -38,6 +50,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final ObjectMapper objectMapper;
     private final FcmTokenService fcmTokenService;
     private final FcmEventPublisher fcmEventPublisher;
+    private final TeamMemberRepository teamMemberRepository;
 
     // Kafka 수신 메시지 저장 & FCM 전송
     @Override
@@ -56,28 +69,63 @@ public class NotificationServiceImpl implements NotificationService {
         notificationRepository.save(notification);
 
         // 3) 커밋 이후 FCM 전송 (DB 롤백 시 푸시 발송 방지)
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                try {
-                    String fcmToken = fcmTokenService.getFcmToken(notification.getReceiverId());
-                    if (fcmToken == null) {
-                        log.warn("FCM token not found for receiverId: {}", notification.getReceiverId());
-                        return;
-                    }
-                    NotificationResponse notificationResponse = notificationConverter.toNotificationResponse(notification);
-                    String bodyJson = objectMapper.writeValueAsString(notificationResponse);
-                    String eventId = "notif:" + notification.getId();
-                    FcmMessageResponse fcmMessageResponse = FcmMessageResponse.builder()
-                            .eventId(eventId)
-                            .targetToken(fcmToken)
-                            .title(title)
-                            .body(bodyJson)
-                            .build();
+        afterCommit(() -> {
+            try {
+                List<String> fcmTokens = fcmTokenService.getTokens(notification.getReceiverId());
+                if (fcmTokens.isEmpty()) {
+                    log.warn("FCM token not found for receiverId: {}", notification.getReceiverId());
+                    return;
+                }
+                // 기기별로 발송, 멱등 키도 기기별
+                for (FcmMessageResponse fcmMessageResponse : toFcmMessages(notification, fcmTokens)) {
                     fcmEventPublisher.publishFcm(fcmMessageResponse);
-                } catch (Exception ex) {
-                    log.error("Failed to send FCM after commit. notificationId={}", notification.getId(), ex);
                 }
+            } catch (Exception ex) {
+                log.error("Failed to send FCM after commit. notificationId={}", notification.getId(), ex);
+            }
+        });
+    }
+
+    // 팀 단위 이벤트 → 팀원(발신자 제외) 전체 알림
+    // - 수신자 조회 1회 + multi-row INSERT 1회, 커밋 후 토큰 일괄 조회 1회 + FCM 배치 커맨드 발행
+    @Override
+    @Transactional
+    public void createAndNotifyTeamFromMessage(String message) {
+        TeamNotificationPayload payload;
+        try {
+            payload = objectMapper.readValue(message, TeamNotificationPayload.class);
+        } catch (Exception e) {
+            log.error("Failed to deserialize team notification message: {}", message, e);
+            throw new IllegalArgumentException("Invalid team notification payload", e);
+        }
+        if (payload.teamId() == null || payload.type() == null) {
+            throw new IllegalArgumentException("Team notification teamId/type is missing");
+        }
+        List<Long> receiverIds = teamMemberRepository.findMemberIdsByTeamId(payload.teamId()).stream()
+                .filter(memberId -> !memberId.equals(payload.senderId()))
+                .distinct()
+                .toList();
+        if (receiverIds.isEmpty()) return;
+
+        Notification template = notificationConverter.toNotification(payload, payload.type().getDescription());
+        List<Notification> notifications = notificationRepository.bulkInsertForReceivers(template, receiverIds);
+
+        // 커밋 이후 FCM 전송 (DB 롤백 시 푸시 발송 방지)
+        afterCommit(() -> {
+            try {
+                Map<Long, List<String>> fcmTokens = fcmTokenService.getTokens(receiverIds);
+                List<FcmMessageResponse> fcmMessages = new ArrayList<>();
+                for (Notification notification : notifications) {
+                    List<String> tokens = fcmTokens.get(notification.getReceiverId());
+                    if (tokens != null) fcmMessages.addAll(toFcmMessages(notification, tokens));
+                }
+                if (fcmMessages.isEmpty()) return;
+                fcmEventPublisher.publishFcmBatch(fcmMessages);
+                log.info("Team notification fanned out. teamId={}, type={}, receivers={}, pushes={}",
+                        payload.teamId(), payload.type(), notifications.size(), fcmMessages.size());
+            } catch (Exception ex) {
+                log.error("Failed to send team FCM after commit. teamId={}, type={}",
+                        payload.teamId(), payload.type(), ex);
             }
         });
     }
@@ -91,6 +139,22 @@ public class NotificationServiceImpl implements NotificationService {
         return PageResponse.of(notificationPage.map(notificationConverter::toNotificationResponse));
     }
 
+    // 알림 목록 커서 조회 (offset/count 없이 idx_notification_receiver_created 범위 스캔)
+    @Override
+    @Transactional
+    public CursorResponse<NotificationResponse> getNotificationsBefore(String before, int limit, CurrentUserDto currentUser) {
+        if (limit < 1) throw new ServiceException(ReturnCode.PAGE_REQUEST_FAIL);
+        checkPageSize(limit);
+        KeysetCursor cursor = KeysetCursor.decode(before);
+        // 다음 페이지 여부 확인을 위해 limit + 1 건 조회
+        List<Notification> rows = (cursor == null)
+                ? notificationRepository.findByReceiverIdOrderByCreatedAtDescIdDesc(currentUser.id(), Limit.of(limit + 1))
+                : notificationRepository.findByReceiverIdBefore(currentUser.id(), cursor.createdAt(), cursor.longId(), Limit.of(limit + 1));
+        return CursorResponse.of(rows, limit,
+                n -> KeysetCursor.of(n.getCreatedAt(), n.getId()).encode(),
+                notificationConverter::toNotificationResponse);
+    }
+
     // 알림 읽음 처리
     @Override
     @Transactional
@@ -107,6 +171,33 @@ public class NotificationServiceImpl implements NotificationService {
 
     // ----------------- 헬퍼 메서드 -----------------
 
+    // 알림 1건 → 수신자 기기별 FCM 메시지
+    private List<FcmMessageResponse> toFcmMessages(Notification notification, List<String> fcmTokens) throws JsonProcessingException {
+        NotificationResponse notificationResponse = notificationConverter.toNotificationResponse(notification);
+        String bodyJson = objectMapper.writeValueAsString(notificationResponse);
+        List<FcmMessageResponse> messages = new ArrayList<>(fcmTokens.size());
+        for (String fcmToken : fcmTokens) {
+            messages.add(FcmMessageResponse.builder()
+                    .eventId(fcmEventId(notification.getId(), fcmToken))
+                    .memberId(notification.getReceiverId())
+                    .targetToken(fcmToken)
+                    .title(notification.getTitle())
+                    .body(bodyJson)
+                    .build());
+        }
+        return messages;
+    }
+
+    // 알림 + 기기 단위 FCM 멱등 키 (토큰 SHA-256 앞 128비트, 32비트 hashCode 는 기기가 많으면 충돌 가능)
+    private String fcmEventId(Long notificationId, String fcmToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fcmToken.getBytes(StandardCharsets.UTF_8));
+            return "notif:" + notificationId + ":" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     // 요청 페이지 수 제한
     private void checkPageSize(int pageSize) {
         int maxPageSize = NotificationPage.getMaxPageSize();
@@ -0,0 +1,10 @@
+package com.loopone.loopinbe.domain.sse.dto;
+
+import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
+
+// 재전송(Last-Event-ID)용으로 보관하는 SSE 이벤트 (id는 채팅방 내에서 단조 증가)
+public record SseEvent(
+        long id,
+        MessageType name,
+        Object data
+) {}
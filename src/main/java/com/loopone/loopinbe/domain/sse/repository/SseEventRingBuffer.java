@@ -0,0 +1,40 @@
+package com.loopone.loopinbe.domain.sse.repository;
+
+import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
+import com.loopone.loopinbe.domain.sse.dto.SseEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 채팅방별 고정 크기 이벤트 링 버퍼
+// - id 시작값을 생성 시각(ms) * 1000 으로 두어, 버퍼가 만료 후 다시 만들어져도 이전 id 보다 커지도록 함
+final class SseEventRingBuffer {
+    private final SseEvent[] events;
+    private long nextId;
+    private int head;  // 다음에 쓸 위치
+    private int size;
+
+    SseEventRingBuffer(int capacity) {
+        this.events = new SseEvent[capacity];
+        this.nextId = System.currentTimeMillis() * 1000;
+    }
+
+    synchronized SseEvent append(MessageType name, Object data) {
+        SseEvent event = new SseEvent(++nextId, name, data);
+        events[head] = event;
+        head = (head + 1) % events.length;
+        if (size < events.length) size++;
+        return event;
+    }
+
+    // lastEventId 이후 이벤트 (오래된 순)
+    synchronized List<SseEvent> after(long lastEventId) {
+        List<SseEvent> result = new ArrayList<>();
+        int start = (head - size + events.length) % events.length;
+        for (int i = 0; i < size; i++) {
+            SseEvent event = events[(start + i) % events.length];
+            if (event.id() > lastEventId) result.add(event);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopone.loopinbe.domain.sse.repository;
+
+import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
+import com.loopone.loopinbe.domain.sse.dto.SseEvent;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+// 채팅방별 SSE 스트림
+// - 재전송(Last-Event-ID)은 링 버퍼, 실시간 전달은 multicast sink
+// - emit 과 구독(버퍼 스냅샷 + sink 구독)을 같은 락으로 묶어 재전송과 실시간 사이 유실/중복 없음
+@Slf4j
+public final class SseRoomSink {
+    private final SseEventRingBuffer buffer;
+    private final Sinks.Many<SseEvent> sink = Sinks.many().multicast().directBestEffort();
+    private volatile long lastActiveAt;
+
+    SseRoomSink(int replaySize) {
+        this.buffer = new SseEventRingBuffer(replaySize);
+        touch();
+    }
+
+    // 링 버퍼 저장 후 구독자에게 전달 (Sinks 는 동시 emit 을 허용하지 않으므로 직렬화)
+    public synchronized SseEvent emit(MessageType name, Object data) {
+        SseEvent event = buffer.append(name, data);
+        Sinks.EmitResult result = sink.tryEmitNext(event);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("SSE emit failed. eventId={}, result={}", event.id(), result);
+        }
+        touch();
+        return event;
+    }
+
+    // lastEventId 이후 보관분 + 이후 실시간 이벤트 (null 이면 구독 시점 이후 이벤트만)
+    public Flux<SseEvent> stream(Long lastEventId) {
+        return Flux.create(out -> {
+            Disposable live;
+            synchronized (this) {
+                if (lastEventId != null) {
+                    List<SseEvent> replay = buffer.after(lastEventId);
+                    replay.forEach(out::next);
+                }
+                live = sink.asFlux().subscribe(out::next, out::error, out::complete);
+            }
+            out.onDispose(live);
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    // 방 정리 시 구독 스트림 종료 (클라이언트는 Last-Event-ID 로 재연결)
+    void complete() {
+        sink.tryEmitComplete();
+    }
+
+    void touch() {
+        lastActiveAt = System.currentTimeMillis();
+    }
+
+    boolean isIdle(long now, long idleMillis) {
+        return sink.currentSubscriberCount() == 0 && now - lastActiveAt > idleMillis;
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopone.loopinbe.domain.sse.repository;
+
+public interface SseSinkRepository {
+    // 채팅방 sink 조회 (없으면 생성)
+    SseRoomSink getOrCreate(Long chatRoomId);
+}
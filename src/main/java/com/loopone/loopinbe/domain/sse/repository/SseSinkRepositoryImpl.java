@@ -0,0 +1,48 @@
+package com.loopone.loopinbe.domain.sse.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.loopone.loopinbe.global.config.properties.SseProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+// 채팅방 인덱스 SSE 저장소
+// - 채팅방 -> (재전송 링 버퍼 + multicast sink), 방 수는 maxReplayRooms 로 제한
+// - 메모리는 (maxReplayRooms x replaySize) 이내, 용량 초과로 밀려난 방의 구독 스트림은 종료
+@Slf4j
+@Repository
+public class SseSinkRepositoryImpl implements SseSinkRepository {
+    private final SseProperties properties;
+    private final Cache<Long, SseRoomSink> sinks;
+
+    public SseSinkRepositoryImpl(SseProperties properties) {
+        this.properties = properties;
+        this.sinks = Caffeine.newBuilder()
+                .maximumSize(properties.maxReplayRooms())
+                .removalListener((Long chatRoomId, SseRoomSink roomSink, RemovalCause cause) -> {
+                    if (roomSink == null) return;
+                    if (cause == RemovalCause.SIZE) {
+                        log.info("SSE room evicted by size bound. roomId={}", chatRoomId);
+                    }
+                    roomSink.complete();
+                })
+                .build();
+    }
+
+    @Override
+    public SseRoomSink getOrCreate(Long chatRoomId) {
+        SseRoomSink roomSink = sinks.get(chatRoomId, k -> new SseRoomSink(properties.replaySize()));
+        roomSink.touch();
+        return roomSink;
+    }
+
+    // 구독자가 없고 replayIdleTtl 동안 이벤트도 없던 채팅방 정리
+    @Scheduled(fixedDelayString = "60000")
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        long idleMillis = properties.replayIdleTtl().toMillis();
+        sinks.asMap().values().removeIf(roomSink -> roomSink.isIdle(now, idleMillis));
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopone.loopinbe.domain.sse.service;
+
+import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+public interface SseStreamService {
+    Flux<ServerSentEvent<Object>> subscribe(Long chatRoomId, String lastEventId);
+
+    void sendToClient(Long chatRoomId, MessageType eventName, Object data);
+}
@@ -0,0 +1,73 @@
+package com.loopone.loopinbe.domain.sse.service;
+
+import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
+import com.loopone.loopinbe.domain.sse.dto.SseEvent;
+import com.loopone.loopinbe.domain.sse.repository.SseRoomSink;
+import com.loopone.loopinbe.domain.sse.repository.SseSinkRepository;
+import com.loopone.loopinbe.global.config.properties.SseProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+// 채팅방 SSE 스트림 (구독자별 emitter/스레드 없이 sink 구독만 유지)
+@Slf4j
+@Service
+public class SseStreamServiceImpl implements SseStreamService {
+    private final SseSinkRepository sseSinkRepository;
+    private final SseProperties properties;
+    private final Flux<ServerSentEvent<Object>> heartbeat; // 모든 구독자가 공유하는 타이머 하나
+
+    public SseStreamServiceImpl(SseSinkRepository sseSinkRepository, SseProperties properties) {
+        this.sseSinkRepository = sseSinkRepository;
+        this.properties = properties;
+        this.heartbeat = Flux.interval(properties.heartbeatInterval())
+                .map(tick -> ServerSentEvent.<Object>builder().comment("heartbeat").build())
+                .share();
+    }
+
+    @Override
+    public Flux<ServerSentEvent<Object>> subscribe(Long chatRoomId, String lastEventId) {
+        Long requestedLastId = parseEventId(lastEventId);
+        return Flux.defer(() -> {
+            SseRoomSink roomSink = sseSinkRepository.getOrCreate(chatRoomId);
+            // Last-Event-ID 가 있으면 그 이후 보관분부터, 없으면 구독 시점 이후 이벤트만
+            Flux<ServerSentEvent<Object>> events = roomSink.stream(requestedLastId)
+                    // 느린 구독자는 오래된 이벤트부터 버림 (sink 와 다른 구독자에 영향 없음)
+                    .onBackpressureBuffer(properties.subscriberBufferSize(),
+                            dropped -> log.debug("SSE event dropped for slow subscriber. roomId={}, eventId={}", chatRoomId, dropped.id()),
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    .map(this::toServerSentEvent);
+            // 503 에러를 방지하기 위한 더미 이벤트 전송 (id 없이 보내 클라이언트의 Last-Event-ID 를 덮어쓰지 않음)
+            ServerSentEvent<Object> connected = ServerSentEvent.<Object>builder()
+                    .event(MessageType.CONNECT.name())
+                    .data("connected!")
+                    .build();
+            return Flux.merge(events, heartbeat).startWith(connected);
+        });
+    }
+
+    @Override
+    public void sendToClient(Long chatRoomId, MessageType eventName, Object data) {
+        sseSinkRepository.getOrCreate(chatRoomId).emit(eventName, data);
+    }
+
+    private ServerSentEvent<Object> toServerSentEvent(SseEvent event) {
+        return ServerSentEvent.<Object>builder()
+                .id(String.valueOf(event.id()))
+                .event(event.name().name())
+                .data(event.data())
+                .build();
+    }
+
+    // Last-Event-ID 파싱 (없거나 이전 형식이면 재전송하지 않음)
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) return null;
+        try {
+            return Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
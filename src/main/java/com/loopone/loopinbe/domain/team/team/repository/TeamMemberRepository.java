@@ -17,6 +17,10 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     // 특정 멤버 ID로 가입된 팀 목록 조회 (ID만으로 빠르게 조회)
     List<TeamMember> findAllByMemberId(Long memberId);
 
+    // 팀원 ID 목록 조회 (팀 알림 팬아웃용)
+    @Query("select tm.member.id from TeamMember tm where tm.team.id = :teamId")
+    List<Long> findMemberIdsByTeamId(@Param("teamId") Long teamId);
+
     // 해당 사용자가 팀 멤버인지 확인
     boolean existsByTeamIdAndMemberId(Long teamId, Long memberId);
 
@@ -20,11 +20,13 @@ import com.loopone.loopinbe.domain.team.team.repository.TeamMemberRepository;
 import com.loopone.loopinbe.domain.team.team.repository.TeamRepository;
 import com.loopone.loopinbe.domain.team.team.service.TeamInvitationService;
 import com.loopone.loopinbe.domain.team.team.service.TeamService;
+import com.loopone.loopinbe.domain.team.teamLoop.dto.TeamLoopProgressSummary;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoop;
 
 import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopMemberCheckRepository;
 import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopMemberProgressRepository;
 import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopRepository;
+import com.loopone.loopinbe.domain.team.teamLoop.service.TeamLoopCalendarIndexService;
 import com.loopone.loopinbe.domain.team.teamLoop.service.TeamLoopService;
 import com.loopone.loopinbe.global.common.response.PageResponse;
 import com.loopone.loopinbe.global.exception.ReturnCode;
@@ -39,6 +41,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import java.util.stream.Collectors;
 
@@ -56,6 +59,7 @@ public class TeamServiceImpl implements TeamService {
     private final TeamLoopMemberProgressRepository teamLoopMemberProgressRepository;
     private final TeamLoopMemberCheckRepository teamLoopMemberCheckRepository;
     private final TeamLoopService teamLoopService;
+    private final TeamLoopCalendarIndexService teamLoopCalendarIndexService;
     private final ChatRoomService chatRoomService;
     private final TeamInvitationService teamInvitationService;
 
@@ -108,22 +112,33 @@ public class TeamServiceImpl implements TeamService {
         // 해당 날짜의 팀 전체 루프 조회
         List<TeamLoop> todayLoops = teamLoopRepository.findByTeamAndLoopDate(team, targetDate);
 
+        // 루프별 진행 집계 (단일 쿼리)
+        Long myId = currentUser.id();
+        Map<Long, TeamLoopProgressSummary> summaries = todayLoops.isEmpty() ? Map.of()
+                : teamLoopMemberProgressRepository
+                        .findProgressSummaries(todayLoops.stream().map(TeamLoop::getId).toList(), myId).stream()
+                        .collect(Collectors.toMap(TeamLoopProgressSummary::teamLoopId, summary -> summary));
+
         // 팀 루프 통계 계산
         int totalLoopCount = todayLoops.size();
         double teamTotalProgress = todayLoops.isEmpty() ? 0.0
                 : todayLoops.stream()
-                        .mapToDouble(TeamLoop::calculateTeamProgress)
+                        .mapToDouble(loop -> {
+                            TeamLoopProgressSummary summary = summaries.get(loop.getId());
+                            return summary == null ? 0.0
+                                    : loop.calculateTeamProgress(summary.memberCount(), summary.checkedSum());
+                        })
                         .average().orElse(0.0);
 
         // 내 루프 통계 계산
-        Long myId = currentUser.id();
         List<TeamLoop> myTeamLoops = todayLoops.stream()
-                .filter(loop -> loop.isParticipating(myId))
+                .filter(loop -> summaries.containsKey(loop.getId()) && summaries.get(loop.getId()).isParticipating())
                 .toList();
         int myTeamLoopCount = myTeamLoops.size();
         double myTotalProgress = myTeamLoops.isEmpty() ? 0.0
                 : myTeamLoops.stream()
-                        .mapToDouble(loop -> loop.calculatePersonalProgress(myId))
+                        .mapToDouble(loop -> loop.calculatePersonalProgress(
+                                summaries.get(loop.getId()).myCheckedCountOrZero()))
                         .average().orElse(0.0);
 
         return TeamDetailResponse.builder()
@@ -262,6 +277,7 @@ public class TeamServiceImpl implements TeamService {
 
         List<TeamLoop> loops = teamLoopRepository.findAllByTeamId(teamId);
         teamLoopRepository.deleteAll(loops);
+        teamLoopCalendarIndexService.clear(List.of(teamId));
 
         // 팀 삭제
         teamRepository.delete(team);
@@ -288,6 +304,7 @@ public class TeamServiceImpl implements TeamService {
 
         // 팀 루프 참여 내역 삭제
         teamLoopMemberProgressRepository.deleteByMemberAndTeamIds(currentUser.id(), List.of(teamId));
+        teamLoopRepository.refreshMemberCountsByTeamIds(List.of(teamId));
 
         // 팀 채팅방 나가기
         chatRoomService.leaveTeamChatRoom(currentUser.id(), teamId);
@@ -320,6 +337,7 @@ public class TeamServiceImpl implements TeamService {
 
         // 팀 루프 참여 내역 삭제
         teamLoopMemberProgressRepository.deleteByMemberAndTeamIds(targetMemberId, List.of(teamId));
+        teamLoopRepository.refreshMemberCountsByTeamIds(List.of(teamId));
 
         // 팀 채팅방에서 제거
         chatRoomService.leaveTeamChatRoom(targetMemberId, teamId);
@@ -0,0 +1,17 @@
+package com.loopone.loopinbe.domain.team.teamLoop.dto;
+
+// 팀 루프별 참여자 진행 집계 (카운터 컬럼 기반 상태/진행률 계산용)
+public record TeamLoopProgressSummary(
+        Long teamLoopId,
+        Long memberCount,
+        Long checkedSum,
+        Integer myCheckedCount // 내가 참여하지 않은 루프면 null
+) {
+    public boolean isParticipating() {
+        return myCheckedCount != null;
+    }
+
+    public int myCheckedCountOrZero() {
+        return myCheckedCount == null ? 0 : myCheckedCount;
+    }
+}
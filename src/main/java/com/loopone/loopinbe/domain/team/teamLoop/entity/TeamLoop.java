@@ -2,7 +2,6 @@ package com.loopone.loopinbe.domain.team.teamLoop.entity;
 
 import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
 import com.loopone.loopinbe.domain.team.team.entity.Team;
-import com.loopone.loopinbe.domain.team.teamLoop.dto.res.TeamLoopAllDetailResponse;
 import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopImportance;
 import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopStatus;
 import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopType;
@@ -10,6 +9,7 @@ import com.loopone.loopinbe.global.jpa.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -21,6 +21,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
+@DynamicUpdate // 카운터 컬럼은 원자적 SQL로만 갱신되므로 변경된 컬럼만 UPDATE
 public class TeamLoop extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,94 +56,55 @@ public class TeamLoop extends BaseEntity {
     @Builder.Default
     private List<TeamLoopChecklist> teamLoopChecklists = new ArrayList<>();
 
-    // 팀 전체 평균 진행률 계산
-    public double calculateTeamProgress() {
-        if (this.memberProgress.isEmpty()) return 0.0;
-        int totalChecklistCount = this.teamLoopChecklists.size();
-        if (totalChecklistCount == 0) return 0.0;
+    // 체크리스트 개수 (팀 루프에 속한 체크리스트 행 수)
+    @Column(nullable = false)
+    @Builder.Default
+    private int checklistCount = 0;
 
-        return this.memberProgress.stream()
-                .mapToDouble(p -> p.calculateProgress(totalChecklistCount)) // Progress 엔티티 메서드 호출
-                .average()
-                .orElse(0.0);
-    }
+    // 하나 이상 체크한 참여자 수
+    @Column(nullable = false)
+    @Builder.Default
+    private int startedMemberCount = 0;
 
-    // 특정 멤버의 개인 진행률 계산
-    public double calculatePersonalProgress(Long memberId) {
-        int totalChecklistCount = this.teamLoopChecklists.size();
-        if (totalChecklistCount == 0) return 0.0;
-
-        return this.memberProgress.stream()
-                .filter(p -> p.getMember().getId().equals(memberId))
-                .findFirst()
-                .map(p -> p.calculateProgress(totalChecklistCount))
-                .orElse(0.0);
+    // 모든 체크리스트를 완료한 참여자 수
+    @Column(nullable = false)
+    @Builder.Default
+    private int completedMemberCount = 0;
+
+    // 팀 전체 평균 진행률 계산 (참여자 수, 참여자 체크 합계 기준)
+    public double calculateTeamProgress(long memberCount, long checkedSum) {
+        if (memberCount == 0 || this.checklistCount == 0) return 0.0;
+        return (double) checkedSum / (memberCount * this.checklistCount) * 100.0;
     }
 
-    // 참여자인지 확인
-    public boolean isParticipating(Long memberId) {
-        return this.memberProgress.stream()
-                .anyMatch(p -> p.getMember().getId().equals(memberId));
+    // 특정 멤버의 개인 진행률 계산
+    public double calculatePersonalProgress(int checkedCount) {
+        if (this.checklistCount == 0) return 0.0;
+        return (double) checkedCount / this.checklistCount * 100.0;
     }
 
     // 특정 멤버의 루프 상태 계산
-    public TeamLoopStatus calculatePersonalStatus(Long memberId) {
-        // 참여하지 않은 경우 시작전으로 간주
-        if (!isParticipating(memberId)) {
-            return TeamLoopStatus.NOT_STARTED;
-        }
-        // 해당 멤버의 Progress 찾기
-        TeamLoopMemberProgress myProgress = this.memberProgress.stream()
-                .filter(p -> p.getMember().getId().equals(memberId))
-                .findFirst()
-                .orElse(null);
-        if (myProgress == null) {
+    public TeamLoopStatus calculatePersonalStatus(int checkedCount) {
+        // 체크리스트가 없거나 체크한 항목이 없는 경우 시작전
+        if (this.checklistCount == 0 || checkedCount == 0) {
             return TeamLoopStatus.NOT_STARTED;
         }
-        // 체크리스트가 없는 경우 시작전
-        int totalChecklistCount = this.teamLoopChecklists.size();
-        if (totalChecklistCount == 0) {
-            return TeamLoopStatus.NOT_STARTED;
-        }
-        // 내가 체크한 개수 계산
-        long checkedCount = myProgress.getChecks().stream()
-                .filter(TeamLoopMemberCheck::isChecked)
-                .count();
-        // 상태 판단
-        if (checkedCount == 0) {
-            return TeamLoopStatus.NOT_STARTED;
-        } else if (checkedCount == totalChecklistCount) {
-            return TeamLoopStatus.COMPLETED;
-        } else {
-            return TeamLoopStatus.IN_PROGRESS;
-        }
+        return checkedCount >= this.checklistCount ? TeamLoopStatus.COMPLETED : TeamLoopStatus.IN_PROGRESS;
     }
 
-    // 팀 전체 상태 계산
-    public TeamLoopStatus calculateTeamStatus() {
-        if (this.memberProgress.isEmpty()) {
+    // 팀 전체 상태 계산 (카운터 기반 O(1))
+    public TeamLoopStatus calculateTeamStatus(long memberCount) {
+        if (memberCount == 0 || this.checklistCount == 0) {
             return TeamLoopStatus.NOT_STARTED;
         }
-
-        // 모든 팀원이 완료했는지 확인
-        boolean allCompleted = this.memberProgress.stream()
-                .allMatch(p -> calculatePersonalStatus(p.getMember().getId()) == TeamLoopStatus.COMPLETED);
-
-        if (allCompleted) {
+        // 모든 팀원이 완료한 경우
+        if (this.completedMemberCount >= memberCount) {
             return TeamLoopStatus.COMPLETED;
         }
-
-        // 한 명이라도 진행 중이거나 완료한 사람이 있는지 확인
-        boolean hasStarted = this.memberProgress.stream()
-                .anyMatch(p -> {
-                    TeamLoopStatus status = calculatePersonalStatus(p.getMember().getId());
-                    return status == TeamLoopStatus.IN_PROGRESS || status == TeamLoopStatus.COMPLETED;
-                });
-
-        if (hasStarted) {
+        // 한 명이라도 진행 중이거나 완료한 경우
+        if (this.startedMemberCount > 0) {
             return TeamLoopStatus.IN_PROGRESS;
         }
-
         return TeamLoopStatus.NOT_STARTED;
     }
 }
@@ -5,6 +5,7 @@ import com.loopone.loopinbe.global.jpa.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
+@DynamicUpdate
 //각 멤버에 대한 TeamLoopMemberCheck들을 관리하는 엔티티
 public class TeamLoopMemberProgress extends BaseEntity {
 
@@ -30,14 +32,14 @@ public class TeamLoopMemberProgress extends BaseEntity {
     @Builder.Default
     private List<TeamLoopMemberCheck> checks = new ArrayList<>(); //해당 멤버의 체크리스트 상태 저장
 
+    // 체크 완료한 항목 수 (toggle 시 원자적 SQL 증감으로 유지)
+    @Column(nullable = false)
+    @Builder.Default
+    private int checkedCount = 0;
+
     //내 진행률 계산
     public double calculateProgress(int totalChecklistCount) {
         if (totalChecklistCount == 0) return 0.0;
-
-        long checkedCount = this.checks.stream()
-                .filter(TeamLoopMemberCheck::isChecked)
-                .count();
-
-        return (double) checkedCount / totalChecklistCount * 100.0;
+        return (double) this.checkedCount / totalChecklistCount * 100.0;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.loopone.loopinbe.domain.team.teamLoop.repository;
 
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoopActivity;
+import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopActivityType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +14,9 @@ public interface TeamLoopActivityRepository extends JpaRepository<TeamLoopActivi
     // 특정 멤버의 가장 최근 활동 조회
     Optional<TeamLoopActivity> findFirstByMemberIdOrderByCreatedAtDesc(Long memberId);
 
+    // 특정 멤버가 해당 팀 루프에서 특정 활동을 한 적이 있는지 (루프 첫 완료 판별)
+    boolean existsByTeamLoopIdAndMemberIdAndActionType(Long teamLoopId, Long memberId, TeamLoopActivityType actionType);
+
     // 특정 팀의 최근 N개 활동 조회
     @Query("SELECT a FROM TeamLoopActivity a WHERE a.team.id = :teamId ORDER BY a.createdAt DESC")
     List<TeamLoopActivity> findRecentActivitiesByTeamId(@Param("teamId") Long teamId,
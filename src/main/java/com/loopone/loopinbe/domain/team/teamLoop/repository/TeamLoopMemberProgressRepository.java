@@ -1,6 +1,7 @@
 package com.loopone.loopinbe.domain.team.teamLoop.repository;
 
 import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.team.teamLoop.dto.TeamLoopProgressSummary;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoop;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoopMemberProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,4 +26,54 @@ public interface TeamLoopMemberProgressRepository extends JpaRepository<TeamLoop
     int deleteByTeamIds(@Param("teamIds") List<Long> teamIds);
 
     Optional<TeamLoopMemberProgress> findByTeamLoopAndMember(TeamLoop teamLoop, Member member);
+
+    // 체크 토글 시 체크 개수 원자적 증감
+    @Modifying(flushAutomatically = true)
+    @Query("update TeamLoopMemberProgress p set p.checkedCount = p.checkedCount + :delta where p.id = :id")
+    int addCheckedCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select p.checkedCount from TeamLoopMemberProgress p where p.id = :id")
+    int findCheckedCountById(@Param("id") Long id);
+
+    // 체크 행 기준으로 체크 개수 재계산 (일괄 완료 처리 등)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TeamLoopMemberProgress p
+           set p.checkedCount = (select count(c) from TeamLoopMemberCheck c
+                                  where c.memberProgress.id = p.id and c.isChecked = true)
+         where p.id = :id
+    """)
+    int syncCheckedCount(@Param("id") Long id);
+
+    // 체크리스트 삭제 전: 해당 항목을 체크해둔 참여자의 체크 개수 차감
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TeamLoopMemberProgress p
+           set p.checkedCount = p.checkedCount - 1
+         where p.id in (select c.memberProgress.id from TeamLoopMemberCheck c
+                         where c.checklist.id = :checklistId and c.isChecked = true)
+    """)
+    int decrementCheckedCountByChecklistId(@Param("checklistId") Long checklistId);
+
+    // 루프별 참여자 수/체크 합계/내 체크 개수를 한 번에 집계
+    @Query("""
+        select new com.loopone.loopinbe.domain.team.teamLoop.dto.TeamLoopProgressSummary(
+                   p.teamLoop.id,
+                   count(p),
+                   sum(p.checkedCount),
+                   max(case when p.member.id = :memberId then p.checkedCount end))
+          from TeamLoopMemberProgress p
+         where p.teamLoop.id in :teamLoopIds
+         group by p.teamLoop.id
+    """)
+    List<TeamLoopProgressSummary> findProgressSummaries(@Param("teamLoopIds") List<Long> teamLoopIds,
+                                                        @Param("memberId") Long memberId);
+
+    // 루프 목록에 대한 참여자 진행 행 (멤버 포함)
+    @Query("""
+        select p from TeamLoopMemberProgress p
+          join fetch p.member
+         where p.teamLoop.id in :teamLoopIds
+    """)
+    List<TeamLoopMemberProgress> findAllWithMemberByTeamLoopIds(@Param("teamLoopIds") List<Long> teamLoopIds);
 }
@@ -11,7 +11,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 
-public interface TeamLoopRepository extends JpaRepository<TeamLoop, Long> {
+public interface TeamLoopRepository extends JpaRepository<TeamLoop, Long>, TeamLoopRepositoryCustom {
 
     List<TeamLoop> findAllByTeamId(Long teamId);
 
@@ -55,4 +55,47 @@ public interface TeamLoopRepository extends JpaRepository<TeamLoop, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    // 팀 루프가 존재하는 모든 날짜 (캘린더 비트맵 초기화용)
+    @Query("SELECT DISTINCT tl.loopDate FROM TeamLoop tl WHERE tl.team.id = :teamId")
+    List<LocalDate> findAllTeamLoopDatesByTeamId(@Param("teamId") Long teamId);
+
+    // 체크 토글로 인한 참여자 상태 전이를 원자적으로 반영
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TeamLoop tl
+           set tl.startedMemberCount = tl.startedMemberCount + :startedDelta,
+               tl.completedMemberCount = tl.completedMemberCount + :completedDelta
+         where tl.id = :id
+    """)
+    int addMemberCounts(@Param("id") Long id,
+                        @Param("startedDelta") int startedDelta,
+                        @Param("completedDelta") int completedDelta);
+
+    // 체크리스트 추가/삭제, 참여자 변경 시 하위 행 기준으로 카운터 재계산
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TeamLoop tl
+           set tl.checklistCount = (select count(c) from TeamLoopChecklist c where c.teamLoop.id = tl.id),
+               tl.startedMemberCount = (select count(p) from TeamLoopMemberProgress p
+                                         where p.teamLoop.id = tl.id and p.checkedCount > 0),
+               tl.completedMemberCount = (select count(p) from TeamLoopMemberProgress p
+                                           where p.teamLoop.id = tl.id and p.checkedCount > 0
+                                             and p.checkedCount >= (select count(c2) from TeamLoopChecklist c2
+                                                                     where c2.teamLoop.id = tl.id))
+         where tl.id = :id
+    """)
+    int refreshCounts(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TeamLoop tl
+           set tl.startedMemberCount = (select count(p) from TeamLoopMemberProgress p
+                                         where p.teamLoop.id = tl.id and p.checkedCount > 0),
+               tl.completedMemberCount = (select count(p) from TeamLoopMemberProgress p
+                                           where p.teamLoop.id = tl.id and p.checkedCount > 0
+                                             and p.checkedCount >= tl.checklistCount)
+         where tl.team.id in :teamIds
+    """)
+    int refreshMemberCountsByTeamIds(@Param("teamIds") List<Long> teamIds);
 }
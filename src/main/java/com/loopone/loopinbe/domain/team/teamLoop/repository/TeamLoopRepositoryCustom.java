@@ -0,0 +1,22 @@
+package com.loopone.loopinbe.domain.team.teamLoop.repository;
+
+import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopImportance;
+import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TeamLoopRepositoryCustom {
+    // 팀 루프 -> 체크리스트 -> 참여자 진행판 -> 체크 현황을 한 번의 set-based INSERT로 생성 (가장 이른 루프 ID 반환)
+    Long bulkInsertTeamLoops(
+            Long teamId,
+            Long loopRuleId,
+            String title,
+            String content,
+            TeamLoopType type,
+            TeamLoopImportance importance,
+            List<LocalDate> loopDates,
+            List<Long> participantIds,
+            List<String> checklists
+    );
+}
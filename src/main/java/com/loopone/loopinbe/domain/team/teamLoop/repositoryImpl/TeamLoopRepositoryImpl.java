@@ -0,0 +1,125 @@
+package com.loopone.loopinbe.domain.team.teamLoop.repositoryImpl;
+
+import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopImportance;
+import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopType;
+import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TeamLoopRepositoryImpl implements TeamLoopRepositoryCustom {
+    // id는 엔티티별 시퀀스(<entity>_seq)에서 직접 발급 (Hibernate pooled-lo 블록과 겹치지 않음)
+    private static final String BULK_INSERT_SQL = """
+        WITH loops AS (
+            INSERT INTO team_loop (id, team_id, loop_rule_id, title, content, loop_date, type, importance,
+                                   checklist_count, started_member_count, completed_member_count, created_at, modified_at)
+            SELECT nextval('team_loop_seq'), ?, ?, ?, ?, d.loop_date, ?, ?, ?, 0, 0, now(), now()
+            FROM unnest(?::date[]) AS d(loop_date)
+            ORDER BY d.loop_date
+            RETURNING id, loop_date
+        ),
+        participants AS (
+            SELECT p.member_id FROM unnest(?::bigint[]) AS p(member_id)
+        ),
+        items AS (
+            SELECT i.content, i.ord FROM unnest(?::text[]) WITH ORDINALITY AS i(content, ord)
+        ),
+        progresses AS (
+            INSERT INTO team_loop_member_progress (id, team_loop_id, member_id, checked_count, created_at, modified_at)
+            SELECT nextval('team_loop_member_progress_seq'), l.id, p.member_id, 0, now(), now()
+            FROM loops l
+            CROSS JOIN participants p
+            ORDER BY l.id, p.member_id
+            RETURNING id, team_loop_id, member_id
+        ),
+        checklists AS (
+            -- 공통 루프: 루프당 한 벌(owner 없음), 개인 루프: 참여자마다 한 벌(owner = 참여자)
+            INSERT INTO team_loop_checklist (id, team_loop_id, owner_member_id, content, created_at, modified_at)
+            SELECT nextval('team_loop_checklist_seq'), l.id, p.member_id, i.content, now(), now()
+            FROM loops l
+            CROSS JOIN items i
+            LEFT JOIN participants p ON ?::boolean
+            ORDER BY l.id, p.member_id, i.ord
+            RETURNING id, team_loop_id, owner_member_id
+        ),
+        checks AS (
+            INSERT INTO team_loop_member_check (id, member_progress_id, team_loop_checklist_id, is_checked, created_at, modified_at)
+            SELECT nextval('team_loop_member_check_seq'), pr.id, c.id, false, now(), now()
+            FROM checklists c
+            JOIN progresses pr
+              ON pr.team_loop_id = c.team_loop_id
+             AND (c.owner_member_id IS NULL OR c.owner_member_id = pr.member_id)
+            ORDER BY pr.id, c.id
+            RETURNING 1
+        )
+        SELECT id FROM loops ORDER BY loop_date, id LIMIT 1
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Long bulkInsertTeamLoops(
+            Long teamId,
+            Long loopRuleId,
+            String title,
+            String content,
+            TeamLoopType type,
+            TeamLoopImportance importance,
+            List<LocalDate> loopDates,
+            List<Long> participantIds,
+            List<String> checklists
+    ) {
+        if (loopDates == null || loopDates.isEmpty()) return null;
+        // 같은 트랜잭션에서 persist된 LoopRule 등이 FK로 참조되므로 먼저 반영
+        em.flush();
+
+        // 루프당 체크리스트 행 수: 공통은 항목 수, 개인은 항목 수 x 참여자 수
+        int itemCount = checklists == null ? 0 : checklists.size();
+        int checklistCount = type == TeamLoopType.INDIVIDUAL ? itemCount * participantIds.size() : itemCount;
+
+        return jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            Array dates = con.createArrayOf("date", loopDates.stream().map(Date::valueOf).toArray());
+            Array members = con.createArrayOf("bigint", participantIds.toArray());
+            Array items = con.createArrayOf("text", checklists == null ? new Object[0] : checklists.toArray());
+
+            try (PreparedStatement ps = con.prepareStatement(BULK_INSERT_SQL)) {
+                int i = 1;
+                ps.setLong(i++, teamId);
+                if (loopRuleId == null) ps.setNull(i++, Types.BIGINT);
+                else ps.setLong(i++, loopRuleId);
+                ps.setString(i++, title);
+                ps.setString(i++, content);
+                ps.setString(i++, type.name());
+                ps.setString(i++, importance.name());
+                ps.setInt(i++, checklistCount);
+                ps.setArray(i++, dates);
+                ps.setArray(i++, members);
+                ps.setArray(i++, items);
+                ps.setBoolean(i, type == TeamLoopType.INDIVIDUAL);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? rs.getLong(1) : null;
+                }
+            } finally {
+                dates.free();
+                members.free();
+                items.free();
+            }
+        });
+    }
+}
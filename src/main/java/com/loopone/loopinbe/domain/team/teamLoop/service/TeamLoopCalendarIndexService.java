@@ -0,0 +1,14 @@
+package com.loopone.loopinbe.domain.team.teamLoop.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+
+public interface TeamLoopCalendarIndexService {
+    // [start, end] 구간의 팀 루프 존재 여부 (i 번째 비트 = start.plusDays(i))
+    BitSet getHasLoopDays(Long teamId, LocalDate startDate, LocalDate endDate);
+    // 팀 루프가 새로 생긴 날짜 반영 (커밋 후)
+    void markHasLoop(Long teamId, Collection<LocalDate> dates);
+    // 팀 삭제 시 캘린더 비트맵 삭제 (커밋 후)
+    void clear(Collection<Long> teamIds);
+}
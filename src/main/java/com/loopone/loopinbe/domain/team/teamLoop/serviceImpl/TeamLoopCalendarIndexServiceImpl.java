@@ -0,0 +1,69 @@
+package com.loopone.loopinbe.domain.team.teamLoop.serviceImpl;
+
+import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopRepository;
+import com.loopone.loopinbe.domain.team.teamLoop.service.TeamLoopCalendarIndexService;
+import com.loopone.loopinbe.global.redis.helper.RedisDayBitmapHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.loopone.loopinbe.global.jpa.util.TransactionUtils.afterCommit;
+
+// 팀별 "팀 루프 존재 날짜" 비트맵 (팀 캘린더 조회 시 SQL 없이 비트 구간 한 번 조회)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamLoopCalendarIndexServiceImpl implements TeamLoopCalendarIndexService {
+    private static final String KEY_PREFIX = "loopCalendarIndex:team:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final TeamLoopRepository teamLoopRepository;
+    private final RedisDayBitmapHelper redisDayBitmapHelper;
+
+    @Override
+    public BitSet getHasLoopDays(Long teamId, LocalDate startDate, LocalDate endDate) {
+        String key = key(teamId);
+        BitSet days = redisDayBitmapHelper.readRange(key, startDate, endDate);
+        if (days != null) return days;
+
+        String version = redisDayBitmapHelper.version(key); // DB 조회 전에 읽음
+        List<LocalDate> loopDates = teamLoopRepository.findAllTeamLoopDatesByTeamId(teamId);
+        boolean cached = redisDayBitmapHelper.initialize(key, version, loopDates, TTL);
+        log.debug("Team loop calendar index initialized. teamId={}, dates={}, cached={}", teamId, loopDates.size(), cached);
+
+        days = new BitSet();
+        for (LocalDate date : loopDates) {
+            if (date.isBefore(startDate) || date.isAfter(endDate)) continue;
+            days.set((int) (date.toEpochDay() - startDate.toEpochDay()));
+        }
+        return days;
+    }
+
+    @Override
+    public void markHasLoop(Long teamId, Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) return;
+        Map<LocalDate, Boolean> days = new LinkedHashMap<>();
+        dates.forEach(d -> days.put(d, true));
+        afterCommit(() -> redisDayBitmapHelper.setDays(key(teamId), days));
+    }
+
+    @Override
+    public void clear(Collection<Long> teamIds) {
+        if (teamIds == null || teamIds.isEmpty()) return;
+        List<String> keys = teamIds.stream().map(this::key).toList();
+        afterCommit(() -> redisDayBitmapHelper.delete(keys));
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private String key(Long teamId) {
+        return KEY_PREFIX + teamId;
+    }
+}
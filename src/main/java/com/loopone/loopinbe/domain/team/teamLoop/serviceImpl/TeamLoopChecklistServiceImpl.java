@@ -3,6 +3,7 @@ package com.loopone.loopinbe.domain.team.teamLoop.serviceImpl;
 import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
 import com.loopone.loopinbe.domain.account.member.entity.Member;
 import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.notification.factory.NotificationPayloadFactory;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.req.TeamLoopChecklistCreateRequest;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.req.TeamLoopChecklistUpdateRequest;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.res.TeamLoopChecklistResponse;
@@ -23,6 +24,7 @@ import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopRepository;
 import com.loopone.loopinbe.domain.team.teamLoop.service.TeamLoopChecklistService;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
+import com.loopone.loopinbe.global.kafka.event.notification.NotificationEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -43,6 +45,7 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
     private final TeamLoopMemberProgressRepository teamLoopMemberProgressRepository;
     private final MemberRepository memberRepository;
     private final TeamLoopActivityRepository teamLoopActivityRepository;
+    private final NotificationEventPublisher notificationEventPublisher;
 
     @Override
     public TeamLoopChecklistResponse createChecklist(Long loopId, TeamLoopChecklistCreateRequest request,
@@ -77,6 +80,8 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
                         .build())
                 .collect(Collectors.toList());
         teamLoopMemberCheckRepository.saveAll(checks);
+        // 체크리스트 수가 바뀌었으므로 완료 인원 재계산
+        teamLoopRepository.refreshCounts(teamLoop.getId());
 
         return TeamLoopChecklistResponse.builder()
                 .id(checklist.getId())
@@ -103,18 +108,35 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
     public void deleteChecklist(Long checklistId, CurrentUserDto currentUser) {
         TeamLoopChecklist checklist = getChecklistOrThrow(checklistId);
         validatePermission(checklist, currentUser.id());
+        Long teamLoopId = checklist.getTeamLoop().getId();
+        // 삭제될 항목을 체크해둔 참여자의 체크 개수 차감 후 삭제
+        teamLoopMemberProgressRepository.decrementCheckedCountByChecklistId(checklistId);
         teamLoopChecklistRepository.delete(checklist);
+        teamLoopRepository.refreshCounts(teamLoopId);
     }
 
     @Override
     public TeamLoopChecklistResponse toggleCheck(Long checklistId, CurrentUserDto currentUser) {
         TeamLoopMemberCheck myCheck = getMyCheckOrThrow(currentUser.id(), checklistId);
         myCheck.toggleChecked();
+        TeamLoopChecklist checklist = myCheck.getChecklist();
+        TeamLoop teamLoop = checklist.getTeamLoop();
+
+        // 카운터 원자적 증감 (progress 행 잠금으로 같은 멤버의 동시 토글은 직렬화됨)
+        int delta = myCheck.isChecked() ? 1 : -1;
+        Long progressId = myCheck.getMemberProgress().getId();
+        teamLoopMemberProgressRepository.addCheckedCount(progressId, delta);
+        int after = teamLoopMemberProgressRepository.findCheckedCountById(progressId);
+        TeamLoopStatus beforeStatus = teamLoop.calculatePersonalStatus(after - delta);
+        TeamLoopStatus afterStatus = teamLoop.calculatePersonalStatus(after);
+        int startedDelta = statusDelta(beforeStatus != TeamLoopStatus.NOT_STARTED, afterStatus != TeamLoopStatus.NOT_STARTED);
+        int completedDelta = statusDelta(beforeStatus == TeamLoopStatus.COMPLETED, afterStatus == TeamLoopStatus.COMPLETED);
+        if (startedDelta != 0 || completedDelta != 0) {
+            teamLoopRepository.addMemberCounts(teamLoop.getId(), startedDelta, completedDelta);
+        }
 
         // 체크리스트 완료 시 활동 로그 기록
         if (myCheck.isChecked()) {
-            TeamLoopChecklist checklist = myCheck.getChecklist();
-            TeamLoop teamLoop = checklist.getTeamLoop();
             Member member = getMemberOrThrow(currentUser.id());
 
             // 체크리스트 완료 로그
@@ -128,7 +150,12 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
             teamLoopActivityRepository.save(activity);
 
             // 루프 완료 확인 (모든 체크리스트 완료 시)
-            if (isLoopCompleted(teamLoop, member)) {
+            if (afterStatus == TeamLoopStatus.COMPLETED) {
+                // 팀원 알림은 첫 완료만 (해제 후 재완료는 활동 로그만 남김)
+                // progress 행 잠금으로 같은 멤버의 토글은 직렬화되므로 기록 전 존재 확인이 경합하지 않음
+                boolean firstCompletion = !teamLoopActivityRepository.existsByTeamLoopIdAndMemberIdAndActionType(
+                        teamLoop.getId(), member.getId(), TeamLoopActivityType.LOOP_COMPLETED);
+
                 TeamLoopActivity loopCompletedActivity = TeamLoopActivity.builder()
                         .member(member)
                         .team(teamLoop.getTeam())
@@ -137,6 +164,12 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
                         .targetName(teamLoop.getTitle())
                         .build();
                 teamLoopActivityRepository.save(loopCompletedActivity);
+
+                // 팀원 전체 알림 이벤트 1건 발행 (커밋 후, 팬아웃은 컨슈머에서)
+                if (firstCompletion) {
+                    notificationEventPublisher.publishTeamNotification(
+                            NotificationPayloadFactory.teammateLoopCompleted(member, teamLoop));
+                }
             }
         }
 
@@ -169,8 +202,7 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
                 .toList();
 
         // 진행률 계산
-        int totalChecklistCount = teamLoop.getTeamLoopChecklists().size();
-        double progressRate = progress.calculateProgress(totalChecklistCount);
+        double progressRate = progress.calculateProgress(teamLoop.getChecklistCount());
 
         return TeamLoopMemberChecklistResponse.builder()
                 .memberId(targetMember.getId())
@@ -181,9 +213,9 @@ public class TeamLoopChecklistServiceImpl implements TeamLoopChecklistService {
     }
 
     // ========== 비즈니스 로직 메서드 ==========
-    // 루프 완료 여부 확인
-    private boolean isLoopCompleted(TeamLoop teamLoop, Member member) {
-        return teamLoop.calculatePersonalStatus(member.getId()) == TeamLoopStatus.COMPLETED;
+    // 상태 전이에 따른 카운터 증감값
+    private int statusDelta(boolean before, boolean after) {
+        return before == after ? 0 : (after ? 1 : -1);
     }
 
     // ========== 조회 메서드 ==========
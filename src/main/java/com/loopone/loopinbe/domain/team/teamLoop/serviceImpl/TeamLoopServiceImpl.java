@@ -6,10 +6,12 @@ import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
 import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
 import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
 import com.loopone.loopinbe.domain.loop.loop.repository.LoopRuleRepository;
+import com.loopone.loopinbe.domain.notification.factory.NotificationPayloadFactory;
 import com.loopone.loopinbe.domain.team.team.entity.Team;
 import com.loopone.loopinbe.domain.team.team.entity.TeamMember;
 import com.loopone.loopinbe.domain.team.team.repository.TeamMemberRepository;
 import com.loopone.loopinbe.domain.team.team.repository.TeamRepository;
+import com.loopone.loopinbe.domain.team.teamLoop.dto.TeamLoopProgressSummary;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.req.TeamLoopCreateRequest;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.res.TeamLoopAllDetailResponse;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.res.TeamLoopCalendarResponse;
@@ -18,7 +20,6 @@ import com.loopone.loopinbe.domain.team.teamLoop.dto.res.TeamLoopListResponse;
 import com.loopone.loopinbe.domain.team.teamLoop.dto.res.MemberActivitiesResponse;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoop;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoopActivity;
-import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoopChecklist;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoopMemberCheck;
 import com.loopone.loopinbe.domain.team.teamLoop.entity.TeamLoopMemberProgress;
 import com.loopone.loopinbe.domain.team.teamLoop.enums.TeamLoopStatus;
@@ -28,9 +29,11 @@ import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopChecklistRep
 import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopMemberCheckRepository;
 import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopMemberProgressRepository;
 import com.loopone.loopinbe.domain.team.teamLoop.repository.TeamLoopRepository;
+import com.loopone.loopinbe.domain.team.teamLoop.service.TeamLoopCalendarIndexService;
 import com.loopone.loopinbe.domain.team.teamLoop.service.TeamLoopService;
 import com.loopone.loopinbe.global.exception.ReturnCode;
 import com.loopone.loopinbe.global.exception.ServiceException;
+import com.loopone.loopinbe.global.kafka.event.notification.NotificationEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -54,9 +57,11 @@ public class TeamLoopServiceImpl implements TeamLoopService {
     private final TeamLoopRepository teamLoopRepository;
     private final TeamLoopChecklistRepository teamLoopChecklistRepository;
     private final TeamLoopMemberProgressRepository teamLoopMemberProgressRepository;
+    private final TeamLoopCalendarIndexService teamLoopCalendarIndexService;
     private final TeamLoopMemberCheckRepository teamLoopMemberCheckRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TeamLoopActivityRepository teamLoopActivityRepository;
+    private final NotificationEventPublisher notificationEventPublisher;
 
     // 팀 루프 리스트 조회
     @Override
@@ -64,21 +69,26 @@ public class TeamLoopServiceImpl implements TeamLoopService {
             CurrentUserDto currentUser) {
         List<TeamLoop> teamLoops = teamLoopRepository.findAllByTeamIdAndDate(teamId, targetDate);
         Long myId = currentUser.id();
+        Map<Long, TeamLoopProgressSummary> summaries = getProgressSummaries(teamLoops, myId);
 
         return teamLoops.stream()
                 .map(loop -> {
+                    TeamLoopProgressSummary summary = summaries.get(loop.getId());
+                    long memberCount = summary == null ? 0 : summary.memberCount();
+                    long checkedSum = summary == null ? 0 : summary.checkedSum();
                     // 참여 여부
-                    boolean isParticipating = loop.isParticipating(myId);
+                    boolean isParticipating = summary != null && summary.isParticipating();
+                    int myCheckedCount = isParticipating ? summary.myCheckedCountOrZero() : 0;
                     // 해당 루프의 내 진행률
-                    double myProgress = isParticipating ? loop.calculatePersonalProgress(myId) : 0.0;
+                    double myProgress = isParticipating ? loop.calculatePersonalProgress(myCheckedCount) : 0.0;
                     // 해당 루프의 팀 진행률
-                    double teamProgress = loop.calculateTeamProgress();
+                    double teamProgress = loop.calculateTeamProgress(memberCount, checkedSum);
                     // 반복 주기 문자열
                     String repeatCycle = formatRepeatCycle(loop.getLoopRule());
                     // 나의 루프 상태
-                    TeamLoopStatus myStatus = loop.calculatePersonalStatus(myId);
+                    TeamLoopStatus myStatus = loop.calculatePersonalStatus(myCheckedCount);
                     // 팀 전체 루프 상태
-                    TeamLoopStatus teamStatus = loop.calculateTeamStatus();
+                    TeamLoopStatus teamStatus = loop.calculateTeamStatus(memberCount);
 
                     // 상태 필터링 (statusFilter가 null이 아닐 때만, 팀 상태 기준)
                     if (statusFilter != null && teamStatus != statusFilter) {
@@ -116,24 +126,29 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 .orElseThrow(() -> new ServiceException(ReturnCode.USER_NOT_FOUND));
 
         LoopRule loopRule;
+        Long teamLoopId;
         switch (requestDTO.scheduleType()) {
-            case NONE -> {
-                return createSingleTeamLoop(team, requestDTO);
-            }
+            case NONE -> teamLoopId = createSingleTeamLoop(team, requestDTO);
             case WEEKLY -> {
                 loopRule = createLoopRule(requestDTO, creator);
-                return createWeeklyTeamLoops(team, requestDTO, loopRule);
+                teamLoopId = saveTeamLoopsAndSubEntities(weeklyDates(loopRule), team, requestDTO, loopRule);
             }
             case MONTHLY -> {
                 loopRule = createLoopRule(requestDTO, creator);
-                return createMonthlyTeamLoops(team, requestDTO, loopRule);
+                teamLoopId = saveTeamLoopsAndSubEntities(monthlyDates(loopRule), team, requestDTO, loopRule);
             }
             case YEARLY -> {
                 loopRule = createLoopRule(requestDTO, creator);
-                return createYearlyTeamLoops(team, requestDTO, loopRule);
+                teamLoopId = saveTeamLoopsAndSubEntities(yearlyDates(loopRule), team, requestDTO, loopRule);
             }
             default -> throw new ServiceException(ReturnCode.UNKNOWN_SCHEDULE_TYPE);
         }
+        // 팀원 전체 알림 이벤트 1건 발행 (커밋 후, 팬아웃은 컨슈머에서)
+        if (teamLoopId != null) {
+            notificationEventPublisher.publishTeamNotification(
+                    NotificationPayloadFactory.teamLoopCreated(creator, team, teamLoopId, requestDTO.title()));
+        }
+        return teamLoopId;
     }
 
     // 내 팀 루프 상세조회
@@ -149,29 +164,22 @@ public class TeamLoopServiceImpl implements TeamLoopService {
             throw new ServiceException(ReturnCode.INVALID_REQUEST_TEAM);
         }
 
-        Long myId = currentUser.id();
+        Member me = memberRepository.getReferenceById(currentUser.id());
 
-        // 참여 여부 확인
-        boolean isParticipating = teamLoop.isParticipating(myId);
-        if (!isParticipating) {
-            throw new ServiceException(ReturnCode.NOT_PARTICIPATING_IN_LOOP);
-        }
+        // 나의 Progress 찾기 (없으면 미참여)
+        TeamLoopMemberProgress myProgress = teamLoopMemberProgressRepository.findByTeamLoopAndMember(teamLoop, me)
+                .orElseThrow(() -> new ServiceException(ReturnCode.NOT_PARTICIPATING_IN_LOOP));
 
         // 나의 진행률 계산
-        double personalProgress = teamLoop.calculatePersonalProgress(myId);
+        double personalProgress = teamLoop.calculatePersonalProgress(myProgress.getCheckedCount());
         // 나의 상태 확인
-        TeamLoopStatus status = teamLoop.calculatePersonalStatus(myId);
+        TeamLoopStatus status = teamLoop.calculatePersonalStatus(myProgress.getCheckedCount());
         // 반복 주기 문자열 변환
         String repeatCycle = formatRepeatCycle(teamLoop.getLoopRule());
 
-        // 나의 Progress 찾기
-        TeamLoopMemberProgress myProgress = teamLoop.getMemberProgress().stream()
-                .filter(p -> p.getMember().getId().equals(myId))
-                .findFirst()
-                .orElseThrow(() -> new ServiceException(ReturnCode.PROGRESS_NOT_FOUND));
-
         // 체크리스트 목록
-        List<TeamLoopMyDetailResponse.ChecklistItem> checklistItems = myProgress.getChecks().stream()
+        List<TeamLoopMyDetailResponse.ChecklistItem> checklistItems = teamLoopMemberCheckRepository
+                .findByMemberProgressIdOrderByIdAsc(myProgress.getId()).stream()
                 .map(check -> TeamLoopMyDetailResponse.ChecklistItem.builder()
                         .checklistId(check.getChecklist().getId())
                         .content(check.getChecklist().getContent())
@@ -188,7 +196,7 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 .importance(teamLoop.getImportance())
                 .status(status)
                 .personalProgress(personalProgress)
-                .totalChecklistCount(teamLoop.getTeamLoopChecklists().size())
+                .totalChecklistCount(teamLoop.getChecklistCount())
                 .checklists(checklistItems)
                 .build();
     }
@@ -206,8 +214,6 @@ public class TeamLoopServiceImpl implements TeamLoopService {
             throw new ServiceException(ReturnCode.INVALID_REQUEST_TEAM);
         }
 
-        // 팀 진행률 계산
-        double teamProgress = teamLoop.calculateTeamProgress();
         // 반복주기 문자열 변환
         String repeatCycle = formatRepeatCycle(teamLoop.getLoopRule());
 
@@ -220,12 +226,14 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 .toList();
 
         // 팀원 진행 상황
-        int totalChecklistCount = teamLoop.getTeamLoopChecklists().size();
-        List<TeamLoopAllDetailResponse.MemberProgress> memberProgresses = teamLoop.getMemberProgress().stream()
+        int totalChecklistCount = teamLoop.getChecklistCount();
+        List<TeamLoopMemberProgress> progresses = teamLoopMemberProgressRepository
+                .findAllWithMemberByTeamLoopIds(List.of(teamLoop.getId()));
+        List<TeamLoopAllDetailResponse.MemberProgress> memberProgresses = progresses.stream()
                 .map(progress -> {
                     Member member = progress.getMember();
                     double memberProgressRate = progress.calculateProgress(totalChecklistCount);
-                    TeamLoopStatus memberStatus = teamLoop.calculatePersonalStatus(member.getId());
+                    TeamLoopStatus memberStatus = teamLoop.calculatePersonalStatus(progress.getCheckedCount());
 
                     return TeamLoopAllDetailResponse.MemberProgress.builder()
                             .memberId(member.getId())
@@ -236,8 +244,10 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 })
                 .toList();
 
-        // 팀 전체 상태 계산
-        TeamLoopStatus teamStatus = teamLoop.calculateTeamStatus();
+        // 팀 진행률/상태 계산
+        long checkedSum = progresses.stream().mapToLong(TeamLoopMemberProgress::getCheckedCount).sum();
+        double teamProgress = teamLoop.calculateTeamProgress(progresses.size(), checkedSum);
+        TeamLoopStatus teamStatus = teamLoop.calculateTeamStatus(progresses.size());
 
         return TeamLoopAllDetailResponse.builder()
                 .id(teamLoop.getId())
@@ -274,19 +284,15 @@ public class TeamLoopServiceImpl implements TeamLoopService {
         LocalDate startDate = targetYearMonth.atDay(1).minusDays(7); // 전월 마지막 주 포함
         LocalDate endDate = targetYearMonth.atEndOfMonth().plusDays(7); // 익월 첫 주 포함
 
-        // 해당 기간 내 팀 루프가 존재하는 날짜들만 조회
-        List<LocalDate> existingTeamLoopDates = teamLoopRepository.findTeamLoopDatesByTeamIdAndDateRange(
-                teamId, startDate, endDate);
-
-        // 빠른 조회를 위해 Set으로 변환
-        Set<LocalDate> hasTeamLoopDateSet = new HashSet<>(existingTeamLoopDates);
+        // 팀 루프 존재 날짜 비트맵에서 조회 구간을 한 번에 읽음 (SQL 없음)
+        BitSet hasTeamLoopDays = teamLoopCalendarIndexService.getHasLoopDays(teamId, startDate, endDate);
 
-        // 시작일부터 종료일까지 하루씩 순회하며 결과 리스트 생성
-        List<TeamLoopCalendarResponse.CalendarDay> calendarDays = new ArrayList<>();
-        startDate.datesUntil(endDate.plusDays(1)).forEach(currentDate -> {
-            boolean hasTeamLoop = hasTeamLoopDateSet.contains(currentDate);
-            calendarDays.add(new TeamLoopCalendarResponse.CalendarDay(currentDate, hasTeamLoop));
-        });
+        // 시작일부터 종료일까지 하루씩 결과 리스트 생성
+        int dayCount = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        List<TeamLoopCalendarResponse.CalendarDay> calendarDays = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            calendarDays.add(new TeamLoopCalendarResponse.CalendarDay(startDate.plusDays(i), hasTeamLoopDays.get(i)));
+        }
 
         return TeamLoopCalendarResponse.builder()
                 .teamName(team.getName())
@@ -308,6 +314,7 @@ public class TeamLoopServiceImpl implements TeamLoopService {
             teamLoopMemberProgressRepository.deleteByTeamIds(teamsToDelete);
             teamLoopChecklistRepository.deleteByTeamIds(teamsToDelete);
             teamLoopRepository.deleteByTeamIds(teamsToDelete);
+            teamLoopCalendarIndexService.clear(teamsToDelete);
 
             // 2) 이제 TeamLoop가 삭제됐으니, 연결됐던 LoopRule 중 "어디에서도 참조되지 않는 것"만 삭제
             if (loopRuleIds != null && !loopRuleIds.isEmpty()) {
@@ -318,6 +325,8 @@ public class TeamLoopServiceImpl implements TeamLoopService {
         if (remainingTeamIds != null && !remainingTeamIds.isEmpty()) {
             teamLoopMemberCheckRepository.deleteByMemberAndTeamIds(memberId, remainingTeamIds);
             teamLoopMemberProgressRepository.deleteByMemberAndTeamIds(memberId, remainingTeamIds);
+            // 참여자가 빠졌으므로 시작/완료 인원 재계산
+            teamLoopRepository.refreshMemberCountsByTeamIds(remainingTeamIds);
         }
     }
 
@@ -345,9 +354,16 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 .map(TeamMember::getMember)
                 .toList();
 
+        // 루프별 참여 행을 한 번에 조회하여 멤버별로 그룹화
+        Map<Long, List<TeamLoopMemberProgress>> progressesByMember = teamLoops.isEmpty() ? Map.of()
+                : teamLoopMemberProgressRepository
+                        .findAllWithMemberByTeamLoopIds(teamLoops.stream().map(TeamLoop::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(p -> p.getMember().getId()));
+
         // 팀원별 활동 정보 생성
         List<MemberActivitiesResponse.MemberActivity> memberActivities = teamMembers.stream()
-                .map(member -> calculateMemberActivity(member, teamLoops, currentUser.id()))
+                .map(member -> calculateMemberActivity(member,
+                        progressesByMember.getOrDefault(member.getId(), List.of()), currentUser.id()))
                 .toList();
 
         // 팀 전체 최근 활동 로그 조회 (최대 10개)
@@ -399,11 +415,16 @@ public class TeamLoopServiceImpl implements TeamLoopService {
         List<TeamLoopMemberCheck> checks = teamLoopMemberCheckRepository
                 .findByMemberProgressIdOrderByIdAsc(myProgress.getId());
 
+        boolean changed = false;
         for (TeamLoopMemberCheck check : checks) {
             if (!check.isChecked()) {
                 check.setChecked(true);
+                changed = true;
             }
         }
+        // 체크 개수 및 루프 카운터 동기화
+        teamLoopMemberProgressRepository.syncCheckedCount(myProgress.getId());
+        teamLoopRepository.refreshCounts(teamLoop.getId());
 
         // 팀 루프 완료 활동 로그 기록
         TeamLoopActivity activity = TeamLoopActivity.builder()
@@ -414,40 +435,40 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 .targetName(teamLoop.getTitle())
                 .build();
         teamLoopActivityRepository.save(activity);
+
+        // 이번 요청으로 완료된 경우에만 팀원 알림 (이미 완료 상태였으면 생략)
+        if (changed) {
+            notificationEventPublisher.publishTeamNotification(
+                    NotificationPayloadFactory.teammateLoopCompleted(member, teamLoop));
+        }
     }
 
     // ========== 비즈니스 로직 메서드 ==========
     private Long createSingleTeamLoop(Team team, TeamLoopCreateRequest requestDTO) {
         LocalDate date = (requestDTO.specificDate() == null) ? LocalDate.now() : requestDTO.specificDate();
 
-        TeamLoop teamLoop = buildTeamLoop(team, requestDTO, date, null);
-        teamLoopRepository.save(teamLoop);
-
-        // 하위 엔티티(체크리스트, 참여자 진행판) 생성
-        createSubEntitiesForLoop(teamLoop, team, requestDTO);
-
-        return teamLoop.getId();
+        // 하위 엔티티(체크리스트, 참여자 진행판)까지 함께 생성
+        return saveTeamLoopsAndSubEntities(List.of(date), team, requestDTO, null);
     }
 
-    // 매주 반복 루프
-    private Long createWeeklyTeamLoops(Team team, TeamLoopCreateRequest requestDTO, LoopRule loopRule) {
-        List<TeamLoop> loopsToCreate = new ArrayList<>();
+    // 매주 반복 날짜
+    private List<LocalDate> weeklyDates(LoopRule loopRule) {
+        List<LocalDate> dates = new ArrayList<>();
 
         // LoopServiceImpl과 동일한 날짜 순회 로직
         for (LocalDate currentDate = loopRule.getStartDate(); !currentDate
                 .isAfter(loopRule.getEndDate()); currentDate = currentDate.plusDays(1)) {
 
             if (loopRule.getDaysOfWeek().contains(currentDate.getDayOfWeek())) {
-                loopsToCreate.add(buildTeamLoop(team, requestDTO, currentDate, loopRule));
+                dates.add(currentDate);
             }
         }
-
-        return saveTeamLoopsAndSubEntities(loopsToCreate, team, requestDTO);
+        return dates;
     }
 
-    // 매월 반복 루프
-    private Long createMonthlyTeamLoops(Team team, TeamLoopCreateRequest requestDTO, LoopRule loopRule) {
-        List<TeamLoop> loopsToCreate = new ArrayList<>();
+    // 매월 반복 날짜
+    private List<LocalDate> monthlyDates(LoopRule loopRule) {
+        List<LocalDate> dates = new ArrayList<>();
         LocalDate currentDate = loopRule.getStartDate();
         int monthsToAdd = 0;
 
@@ -457,17 +478,16 @@ public class TeamLoopServiceImpl implements TeamLoopService {
         }
 
         while (!currentDate.isAfter(loopRule.getEndDate())) {
-            loopsToCreate.add(buildTeamLoop(team, requestDTO, currentDate, loopRule));
+            dates.add(currentDate);
             monthsToAdd++;
             currentDate = loopRule.getStartDate().plusMonths(monthsToAdd);
         }
-
-        return saveTeamLoopsAndSubEntities(loopsToCreate, team, requestDTO);
+        return dates;
     }
 
-    // 매년 반복 루프
-    private Long createYearlyTeamLoops(Team team, TeamLoopCreateRequest requestDTO, LoopRule loopRule) {
-        List<TeamLoop> loopsToCreate = new ArrayList<>();
+    // 매년 반복 날짜
+    private List<LocalDate> yearlyDates(LoopRule loopRule) {
+        List<LocalDate> dates = new ArrayList<>();
         LocalDate currentDate = loopRule.getStartDate();
         int yearsToAdd = 0;
 
@@ -476,12 +496,11 @@ public class TeamLoopServiceImpl implements TeamLoopService {
         }
 
         while (!currentDate.isAfter(loopRule.getEndDate())) {
-            loopsToCreate.add(buildTeamLoop(team, requestDTO, currentDate, loopRule));
+            dates.add(currentDate);
             yearsToAdd++;
             currentDate = loopRule.getStartDate().plusYears(yearsToAdd);
         }
-
-        return saveTeamLoopsAndSubEntities(loopsToCreate, team, requestDTO);
+        return dates;
     }
 
     // LoopRule(규칙) 생성
@@ -503,100 +522,31 @@ public class TeamLoopServiceImpl implements TeamLoopService {
         return loopRule;
     }
 
-    // TeamLoop 객체 빌드 (저장 전 메모리 객체)
-    private TeamLoop buildTeamLoop(Team team, TeamLoopCreateRequest requestDTO, LocalDate date, LoopRule loopRule) {
-        return TeamLoop.builder()
-                .team(team)
-                .loopRule(loopRule)
-                .title(requestDTO.title())
-                .content(requestDTO.content())
-                .loopDate(date)
-                .type(requestDTO.type())
-                .importance(requestDTO.importance())
-                .build();
-    }
-
-    // 리스트 일괄 저장 및 하위 엔티티 처리 헬퍼
-    private Long saveTeamLoopsAndSubEntities(List<TeamLoop> loops, Team team, TeamLoopCreateRequest requestDTO) {
-        if (!loops.isEmpty()) {
-            teamLoopRepository.saveAll(loops); // Batch Insert
-
-            // 각 루프에 대해 체크리스트 및 참여자 생성
-            for (TeamLoop loop : loops) {
-                createSubEntitiesForLoop(loop, team, requestDTO);
-            }
-            return loops.get(0).getId(); // 첫 번째 루프 ID 반환 (LoopServiceImpl 패턴 유지)
+    // 루프, 체크리스트, 참여자 Progress/Check를 set-based SQL로 일괄 생성
+    private Long saveTeamLoopsAndSubEntities(List<LocalDate> dates, Team team, TeamLoopCreateRequest requestDTO,
+            LoopRule loopRule) {
+        if (dates.isEmpty()) {
+            return null;
         }
-        return null;
-    }
-
-    // 체크리스트, 참여자 Progress/Check 생성 로직
-    private void createSubEntitiesForLoop(TeamLoop teamLoop, Team team, TeamLoopCreateRequest requestDTO) {
         // 참여자 결정 (공통/개인)
-        List<Member> participants = getParticipants(team, requestDTO);
-        List<TeamLoopMemberProgress> savedProgresses = new ArrayList<>();
-
-        // 참여자별 데이터 생성
-        for (Member member : participants) {
-            // Progress 생성
-            TeamLoopMemberProgress progress = TeamLoopMemberProgress.builder()
-                    .teamLoop(teamLoop)
-                    .member(member)
-                    .build();
-            savedProgresses.add(teamLoopMemberProgressRepository.save(progress));
-
-            // 체크리스트 및 체크 현황 생성
-            if (requestDTO.checklists() != null && !requestDTO.checklists().isEmpty()) {
-                if (teamLoop.getType() == TeamLoopType.COMMON) {
-                    // 공통 루프인 경우 -> 체크리스트를 한 번만 만들고 공유
-                    // 공통 루프는 별도로 처리
-                } else {
-                    // 개인 루프인 경우 -> 각 멤버마다 전용 체크리스트 생성
-                    List<TeamLoopChecklist> myChecklists = requestDTO.checklists().stream()
-                            .map(content -> TeamLoopChecklist.builder()
-                                    .teamLoop(teamLoop)
-                                    .content(content)
-                                    .owner(member) // 체크리스트 주인 지정
-                                    .build())
-                            .collect(Collectors.toList());
-                    teamLoopChecklistRepository.saveAll(myChecklists);
-
-                    // 각 멤버에 대한 체크 현황 생성
-                    List<TeamLoopMemberCheck> myChecks = myChecklists.stream()
-                            .map(cl -> TeamLoopMemberCheck.builder()
-                                    .memberProgress(progress)
-                                    .checklist(cl)
-                                    .isChecked(false)
-                                    .build())
-                            .collect(Collectors.toList());
-                    teamLoopMemberCheckRepository.saveAll(myChecks);
-                }
-            }
-        }
+        List<Long> participantIds = getParticipants(team, requestDTO).stream()
+                .map(Member::getId)
+                .toList();
 
-        // 공통 루프인 경우 체크리스트 생성
-        if (teamLoop.getType() == TeamLoopType.COMMON && requestDTO.checklists() != null) {
-            List<TeamLoopChecklist> commonChecklists = requestDTO.checklists().stream()
-                    .map(content -> TeamLoopChecklist.builder()
-                            .teamLoop(teamLoop)
-                            .content(content)
-                            .owner(null) // 주인 없음 (공용)
-                            .build())
-                    .collect(Collectors.toList());
-            teamLoopChecklistRepository.saveAll(commonChecklists);
-
-            // 모든 참여자의 체크 현황 생성
-            for (TeamLoopMemberProgress progress : savedProgresses) {
-                List<TeamLoopMemberCheck> checks = commonChecklists.stream()
-                        .map(cl -> TeamLoopMemberCheck.builder()
-                                .memberProgress(progress)
-                                .checklist(cl)
-                                .isChecked(false)
-                                .build())
-                        .collect(Collectors.toList());
-                teamLoopMemberCheckRepository.saveAll(checks);
-            }
-        }
+        // 커밋 후 팀 캘린더 비트맵 반영
+        teamLoopCalendarIndexService.markHasLoop(team.getId(), dates);
+
+        // 첫 번째 루프 ID 반환 (LoopServiceImpl 패턴 유지)
+        return teamLoopRepository.bulkInsertTeamLoops(
+                team.getId(),
+                loopRule == null ? null : loopRule.getId(),
+                requestDTO.title(),
+                requestDTO.content(),
+                requestDTO.type(),
+                requestDTO.importance(),
+                dates,
+                participantIds,
+                requestDTO.checklists());
     }
 
     // 참여자 목록 필터링
@@ -635,32 +585,28 @@ public class TeamLoopServiceImpl implements TeamLoopService {
     }
 
     // 개별 팀원의 활동 정보 계산
-    private MemberActivitiesResponse.MemberActivity calculateMemberActivity(Member member, List<TeamLoop> allTeamLoops,
-            Long currentUserId) {
+    private MemberActivitiesResponse.MemberActivity calculateMemberActivity(Member member,
+            List<TeamLoopMemberProgress> participatingProgresses, Long currentUserId) {
         Long memberId = member.getId();
-        // 해당 멤버가 참여하는 팀 루프만 필터링
-        List<TeamLoop> participatingLoops = allTeamLoops.stream()
-                .filter(loop -> loop.isParticipating(memberId))
-                .toList();
         // 상태별 개수
-        Map<TeamLoopStatus, Long> statusCounts = participatingLoops.stream()
+        Map<TeamLoopStatus, Long> statusCounts = participatingProgresses.stream()
                 .collect(Collectors.groupingBy(
-                        loop -> loop.calculatePersonalStatus(memberId),
+                        p -> p.getTeamLoop().calculatePersonalStatus(p.getCheckedCount()),
                         Collectors.counting()));
         Map<TeamLoopStatus, Integer> statusStats = Map.of(
                 TeamLoopStatus.NOT_STARTED, statusCounts.getOrDefault(TeamLoopStatus.NOT_STARTED, 0L).intValue(),
                 TeamLoopStatus.IN_PROGRESS, statusCounts.getOrDefault(TeamLoopStatus.IN_PROGRESS, 0L).intValue(),
                 TeamLoopStatus.COMPLETED, statusCounts.getOrDefault(TeamLoopStatus.COMPLETED, 0L).intValue());
         // 유형별 개수
-        Map<TeamLoopType, Long> typeCounts = participatingLoops.stream()
-                .collect(Collectors.groupingBy(TeamLoop::getType, Collectors.counting()));
+        Map<TeamLoopType, Long> typeCounts = participatingProgresses.stream()
+                .collect(Collectors.groupingBy(p -> p.getTeamLoop().getType(), Collectors.counting()));
         Map<TeamLoopType, Integer> typeStats = Map.of(
                 TeamLoopType.COMMON, typeCounts.getOrDefault(TeamLoopType.COMMON, 0L).intValue(),
                 TeamLoopType.INDIVIDUAL, typeCounts.getOrDefault(TeamLoopType.INDIVIDUAL, 0L).intValue());
         // 전체 진행률 평균
-        double overallProgress = participatingLoops.isEmpty() ? 0.0
-                : participatingLoops.stream()
-                        .mapToDouble(loop -> loop.calculatePersonalProgress(memberId))
+        double overallProgress = participatingProgresses.isEmpty() ? 0.0
+                : participatingProgresses.stream()
+                        .mapToDouble(p -> p.getTeamLoop().calculatePersonalProgress(p.getCheckedCount()))
                         .average()
                         .orElse(0.0);
         // 최근 활동 조회
@@ -683,6 +629,16 @@ public class TeamLoopServiceImpl implements TeamLoopService {
                 .build();
     }
 
+    // 루프별 진행 집계를 단일 쿼리로 조회
+    private Map<Long, TeamLoopProgressSummary> getProgressSummaries(List<TeamLoop> teamLoops, Long memberId) {
+        if (teamLoops.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> teamLoopIds = teamLoops.stream().map(TeamLoop::getId).toList();
+        return teamLoopMemberProgressRepository.findProgressSummaries(teamLoopIds, memberId).stream()
+                .collect(Collectors.toMap(TeamLoopProgressSummary::teamLoopId, summary -> summary));
+    }
+
     // ========== 검증 메서드 ==========
     // 팀원 검증
     private void validateTeamMember(Long teamId, Long memberId) {
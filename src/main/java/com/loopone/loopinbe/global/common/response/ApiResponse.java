@@ -15,7 +15,7 @@ import java.util.List;
 @Builder(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "success", "code", "message", "data", "page", "timestamp", "traceId" })
+@JsonPropertyOrder({ "success", "code", "message", "data", "page", "cursor", "timestamp", "traceId" })
 public class ApiResponse<T> {
     // 비즈니스 성공 여부
     private final boolean success;
@@ -32,6 +32,9 @@ public class ApiResponse<T> {
     // 페이지 메타 정보 (페이지가 아닌 응답이면 null)
     private final PageMeta page;
 
+    // 커서 페이지 메타 정보 (커서 페이지가 아닌 응답이면 null)
+    private final CursorMeta cursor;
+
     // 응답 생성 시각
     private final Instant timestamp;
 
@@ -73,6 +76,18 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    // CursorResponse<T>를 받는 성공 응답
+    public static <T> ApiResponse<List<T>> success(CursorResponse<T> cursorResponse) {
+        return ApiResponse.<List<T>>builder()
+                .success(true)
+                .code(ReturnCode.SUCCESS.getCode())
+                .message(ReturnCode.SUCCESS.getMessage())
+                .data(cursorResponse.getContent())
+                .cursor(cursorResponse.getCursorMeta())
+                .timestamp(Instant.now())
+                .build();
+    }
+
     // 실패 응답
     public static <T> ApiResponse<T> failure(ReturnCode rc) {
         return ApiResponse.<T>builder()
@@ -0,0 +1,22 @@
+package com.loopone.loopinbe.global.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 커서(키셋) 페이지 메타 - total count 없음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorMeta {
+    private int size;           // 이번 응답 건수
+    private boolean hasNext;
+    private String nextCursor;  // 다음 요청의 before 값 (마지막 페이지면 null)
+
+    public static CursorMeta of(int size, boolean hasNext, String nextCursor) {
+        return new CursorMeta(size, hasNext, nextCursor);
+    }
+}
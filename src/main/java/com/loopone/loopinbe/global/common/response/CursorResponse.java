@@ -0,0 +1,28 @@
+package com.loopone.loopinbe.global.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorResponse<T> {
+    private List<T> content;
+    private CursorMeta cursorMeta;
+
+    // limit + 1 건을 조회한 결과로 응답 생성 (초과분이 있으면 다음 페이지 존재)
+    public static <E, T> CursorResponse<T> of(List<E> rows, int limit, Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = (hasNext && !page.isEmpty()) ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorResponse<>(
+                page.stream().map(mapper).toList(),
+                CursorMeta.of(page.size(), hasNext, nextCursor)
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopone.loopinbe.global.common.response;
+
+import com.loopone.loopinbe.global.exception.ReturnCode;
+import com.loopone.loopinbe.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// (createdAt, id) 키셋 커서 - 클라이언트에는 불투명한 문자열로만 노출
+public record KeysetCursor(Instant createdAt, String id) {
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(Instant createdAt, Object id) {
+        return new KeysetCursor(createdAt, String.valueOf(id));
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 값이면 첫 페이지
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            int colon = raw.indexOf(':');
+            if (sep < 0 || colon < 0 || colon > sep || sep == raw.length() - 1) {
+                throw new ServiceException(ReturnCode.INVALID_CURSOR);
+            }
+            Instant createdAt = Instant.ofEpochSecond(
+                    Long.parseLong(raw.substring(0, colon)),
+                    Long.parseLong(raw.substring(colon + 1, sep))
+            );
+            return new KeysetCursor(createdAt, raw.substring(sep + 1));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            throw new ServiceException(ReturnCode.INVALID_CURSOR);
+        }
+    }
+
+    public Long longId() {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new ServiceException(ReturnCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopone.loopinbe.global.concurrency;
+
+// 동시 호출 수를 제한하는 외부 의존성
+public enum Downstream {
+    AI, S3, FCM
+}
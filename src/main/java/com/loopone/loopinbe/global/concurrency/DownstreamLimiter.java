@@ -0,0 +1,91 @@
+package com.loopone.loopinbe.global.concurrency;
+
+import com.loopone.loopinbe.global.config.properties.ConcurrencyProperties;
+import com.loopone.loopinbe.global.exception.ReturnCode;
+import com.loopone.loopinbe.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 외부 의존성별 동시 호출 제한 (세마포어)
+// - 가상 스레드 모드에서는 스레드 수가 더 이상 동시성 상한이 아니므로, 하류 보호는 여기서 담당
+// - 대기 중인 호출은 (가상 스레드라면) 캐리어 스레드를 점유하지 않음
+@Slf4j
+@Component
+public class DownstreamLimiter {
+    private final Map<Downstream, Semaphore> permits = new EnumMap<>(Downstream.class);
+    private final long acquireTimeoutMillis;
+
+    public DownstreamLimiter(ConcurrencyProperties properties) {
+        permits.put(Downstream.AI, new Semaphore(properties.ai()));
+        permits.put(Downstream.S3, new Semaphore(properties.s3()));
+        permits.put(Downstream.FCM, new Semaphore(properties.fcm()));
+        this.acquireTimeoutMillis = properties.acquireTimeout().toMillis();
+    }
+
+    public <T, E extends Exception> T call(Downstream downstream, LimitedCall<T, E> call) throws E {
+        Semaphore semaphore = permits.get(downstream);
+        acquire(downstream, semaphore);
+        try {
+            return call.call();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public <E extends Exception> void run(Downstream downstream, LimitedRun<E> run) throws E {
+        call(downstream, () -> {
+            run.run();
+            return null;
+        });
+    }
+
+    // 논블로킹 호출용: 슬롯이 바로 있으면 호출 스레드에서 그대로 진행, 없을 때만 boundedElastic 에서 대기
+    // 슬롯은 완료/에러/취소 시 반환
+    // - 대기 중 취소되어 획득한 슬롯이 버려지는 경우(doOnDiscard)도 반환
+    public <T> Mono<T> limit(Downstream downstream, Supplier<Mono<T>> source) {
+        Semaphore semaphore = permits.get(downstream);
+        Mono<Semaphore> acquired = Mono.defer(() -> semaphore.tryAcquire()
+                ? Mono.just(semaphore)
+                : Mono.fromCallable(() -> {
+                    acquire(downstream, semaphore);
+                    return semaphore;
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .doOnDiscard(Semaphore.class, Semaphore::release);
+        return Mono.usingWhen(acquired, s -> source.get(), s -> Mono.fromRunnable(s::release));
+    }
+
+    public int availablePermits(Downstream downstream) {
+        return permits.get(downstream).availablePermits();
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private void acquire(Downstream downstream, Semaphore semaphore) {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Downstream busy. downstream={}, waitedMs={}", downstream, acquireTimeoutMillis);
+                throw new ServiceException(ReturnCode.DOWNSTREAM_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException(ReturnCode.DOWNSTREAM_BUSY);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LimitedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    @FunctionalInterface
+    public interface LimitedRun<E extends Exception> {
+        void run() throws E;
+    }
+}
@@ -1,7 +1,10 @@
 package com.loopone.loopinbe.global.config;
 
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
@@ -10,8 +13,13 @@ import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class AiExecutorConfig {
+    // spring.threads.virtual.enabled=true 이면 요청마다 가상 스레드 (동시 호출 수는 DownstreamLimiter 가 제한)
+    // false 이면 기존 플랫폼 스레드 풀
     @Bean(name = "openAiExecutor")
-    public Executor openAiExecutor() {
+    public Executor openAiExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("open-ai-");
+        }
         return new ThreadPoolExecutor(
                 5,
                 10,
@@ -0,0 +1,32 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.ai")
+public record AiProperties(
+        Boolean streaming,   // true: 스트리밍 호출 + 부분 추천 SSE 전송, false: 기존 블로킹 호출
+        Cache cache          // 루프 생성 추천 응답 캐시
+) {
+    public AiProperties {
+        if (streaming == null) streaming = true;
+        if (cache == null) cache = new Cache(null, null, null, null, null);
+    }
+
+    public record Cache(
+            Boolean enabled,
+            Long maximumSize,             // 정규화 프롬프트 키 기준 최대 엔트리 수
+            Duration ttl,                 // 쓰기 후 만료 시간 (날짜 버킷이 바뀌면 키도 바뀜)
+            Boolean semanticEnabled,      // 유사 프롬프트(로컬 임베딩) 조회 사용 여부
+            Double similarityThreshold    // 코사인 유사도 임계값 (이상이면 같은 요청으로 간주)
+    ) {
+        public Cache {
+            if (enabled == null) enabled = true;
+            if (maximumSize == null || maximumSize < 1) maximumSize = 10_000L;
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) ttl = Duration.ofHours(6);
+            if (semanticEnabled == null) semanticEnabled = false;
+            if (similarityThreshold == null || similarityThreshold <= 0 || similarityThreshold > 1) similarityThreshold = 0.92;
+        }
+    }
+}
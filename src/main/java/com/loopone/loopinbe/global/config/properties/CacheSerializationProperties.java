@@ -0,0 +1,26 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.cache.serialization")
+public record CacheSerializationProperties(
+        Map<String, Format> formats,  // 캐시 이름별 Redis 값 직렬화 방식 (미지정 시 JSON)
+        DataSize compressThreshold    // BINARY 값이 이 크기 이상이면 압축 (0이면 압축 안 함)
+) {
+    public CacheSerializationProperties {
+        if (formats == null) formats = Map.of();
+        if (compressThreshold == null || compressThreshold.isNegative()) compressThreshold = DataSize.ofKilobytes(1);
+    }
+
+    public Format formatOf(String cacheName) {
+        return formats.getOrDefault(cacheName, Format.JSON);
+    }
+
+    public enum Format {
+        JSON,   // Jackson (기존 방식)
+        BINARY  // 스키마 기반 바이너리 (CompactRedisSerializer)
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.cache.tag")
+public record CacheTagProperties(
+        String channel,           // 태그 버전 변경 브로드캐스트 채널 (Redis pub/sub)
+        Duration versionTtl,      // Redis 태그 버전 키 TTL (캐시 TTL보다 길게, 무효화 시 연장)
+        Long localMaximumSize,    // 노드 로컬 태그 버전 캐시 최대 개수
+        Duration localTtl         // 노드 로컬 태그 버전 캐시 TTL (브로드캐스트 유실 대비)
+) {
+    public CacheTagProperties {
+        if (channel == null || channel.isBlank()) channel = "cache:tag-invalidate";
+        if (versionTtl == null || versionTtl.isNegative() || versionTtl.isZero()) versionTtl = Duration.ofDays(1);
+        if (localMaximumSize == null || localMaximumSize < 1) localMaximumSize = 10_000L;
+        if (localTtl == null || localTtl.isNegative() || localTtl.isZero()) localTtl = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.concurrency")
+public record ConcurrencyProperties(
+        Integer ai,               // AI 제공자 동시 호출 수
+        Integer s3,               // S3 동시 호출 수
+        Integer fcm,              // FCM 동시 호출 수
+        Duration acquireTimeout   // 슬롯 대기 최대 시간 (초과 시 DOWNSTREAM_BUSY)
+) {
+    public ConcurrencyProperties {
+        if (ai == null || ai < 1) ai = 10;
+        if (s3 == null || s3 < 1) s3 = 32;
+        if (fcm == null || fcm < 1) fcm = 64;
+        if (acquireTimeout == null || acquireTimeout.isNegative() || acquireTimeout.isZero()) acquireTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.deny-list")
+public record DenyListProperties(
+        Long expectedInsertions,    // 로컬 Bloom filter 기준 크기 (활성 deny jti 수, 초과 시 재구성 때 자동 확장)
+        Double falsePositiveRate    // 오탐률 (오탐이면 Redis 조회로 확인)
+) {
+    public DenyListProperties {
+        if (expectedInsertions == null || expectedInsertions < 1) expectedInsertions = 100_000L;
+        if (falsePositiveRate == null || falsePositiveRate <= 0 || falsePositiveRate >= 1) falsePositiveRate = 0.001;
+    }
+}
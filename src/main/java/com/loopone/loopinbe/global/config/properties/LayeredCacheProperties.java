@@ -0,0 +1,33 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.cache")
+public record LayeredCacheProperties(
+        String invalidationChannel, // L1 무효화 브로드캐스트 채널 (Redis pub/sub)
+        Spec defaults,              // 캐시별 설정이 없을 때의 L1 설정
+        Map<String, Spec> l1        // 캐시 이름별 L1 설정
+) {
+    public LayeredCacheProperties {
+        if (invalidationChannel == null || invalidationChannel.isBlank()) invalidationChannel = "cache:l1-invalidate";
+        if (defaults == null) defaults = new Spec(null, null);
+        if (l1 == null) l1 = Map.of();
+    }
+
+    public Spec specOf(String cacheName) {
+        return l1.getOrDefault(cacheName, defaults);
+    }
+
+    public record Spec(
+            Long maximumSize, // 최대 엔트리 수
+            Duration ttl      // 쓰기 후 만료 시간 (L2 TTL보다 짧게)
+    ) {
+        public Spec {
+            if (maximumSize == null || maximumSize < 1) maximumSize = 1_000L;
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) ttl = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.loop.materialize")
+public record LoopMaterializeProperties(
+        Integer horizonWeeks, // 실제 Loop 행을 미리 생성해 둘 기간(주)
+        Integer batchSize     // 스케줄러가 한 번에 조회하는 LoopRule 수
+) {
+    public LoopMaterializeProperties {
+        if (horizonWeeks == null || horizonWeeks < 1) horizonWeeks = 8;
+        if (batchSize == null || batchSize < 1) batchSize = 500;
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.loop.rollup")
+public record LoopRollupProperties(
+        Integer refreshThreshold, // 한 번의 변경에서 즉시 재계산할 최대 날짜 수 (초과분은 stale 표시 후 조회 시 재계산)
+        Integer batchSize,        // 백필 시 한 번에 처리하는 회원 수/날짜 수
+        Boolean backfill          // true면 기동 시 기존 루프 데이터로 집계 테이블 백필
+) {
+    public LoopRollupProperties {
+        if (refreshThreshold == null || refreshThreshold < 1) refreshThreshold = 31;
+        if (batchSize == null || batchSize < 1) batchSize = 200;
+        if (backfill == null) backfill = false;
+    }
+}
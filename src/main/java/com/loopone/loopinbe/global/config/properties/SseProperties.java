@@ -0,0 +1,22 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.sse")
+public record SseProperties(
+        Integer replaySize,           // 채팅방별 재전송용 이벤트 보관 개수 (링 버퍼)
+        Long maxReplayRooms,          // 재전송 버퍼/sink 를 유지하는 최대 채팅방 수 (초과 시 오래된 방부터 정리)
+        Duration replayIdleTtl,       // 구독자/이벤트가 없는 채팅방 sink 유지 시간
+        Integer subscriberBufferSize, // 구독자별 미전송 이벤트 버퍼 (초과 시 오래된 것부터 버림)
+        Duration heartbeatInterval    // heartbeat 주석 전송 주기 (프록시 idle 타임아웃/끊긴 연결 감지)
+) {
+    public SseProperties {
+        if (replaySize == null || replaySize < 1) replaySize = 100;
+        if (maxReplayRooms == null || maxReplayRooms < 1) maxReplayRooms = 10_000L;
+        if (replayIdleTtl == null || replayIdleTtl.isNegative() || replayIdleTtl.isZero()) replayIdleTtl = Duration.ofHours(1);
+        if (subscriberBufferSize == null || subscriberBufferSize < 1) subscriberBufferSize = 256;
+        if (heartbeatInterval == null || heartbeatInterval.isNegative() || heartbeatInterval.isZero()) heartbeatInterval = Duration.ofSeconds(15);
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopone.loopinbe.global.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.websocket.outbound")
+public record WsOutboundProperties(
+        Integer queueCapacity,    // 세션별 송신 대기열 최대 프레임 수 (초과 시 느린 클라이언트로 보고 연결 종료)
+        Duration sendTimeLimit    // 한 프레임 전송이 이 시간 이상 진행되지 않으면 연결 종료
+) {
+    public WsOutboundProperties {
+        if (queueCapacity == null || queueCapacity < 1) queueCapacity = 256;
+        if (sendTimeLimit == null || sendTimeLimit.isNegative() || sendTimeLimit.isZero()) sendTimeLimit = Duration.ofSeconds(10);
+    }
+}
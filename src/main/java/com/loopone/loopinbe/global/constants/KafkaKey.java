@@ -7,6 +7,7 @@ public class KafkaKey {
     public static final String LOGOUT_TOPIC = "logout-topic";
     public static final String FOLLOW_NOTIFICATION_TOPIC = "follow-topic";
     public static final String INVITE_TOPIC = "invite-topic";
+    public static final String TEAM_NOTIFICATION_TOPIC = "team-notification-topic";
     public static final String FCM_SEND_TOPIC =  "fcm-send-topic";
     public static final String CHAT_MESSAGE_TOPIC = "chat-message-topic";
     public static final String CHAT_READ_UP_TO_TOPIC =  "chat-read-up-to-topic";
@@ -17,4 +18,5 @@ public class KafkaKey {
     public static final String OPEN_AI_GROUP_ID = "ai-worker-group";
     public static final String AUTH_GROUP_ID =  "auth-group";
     public static final String KAFKA_LISTENER_CONTAINER = "kafkaListenerContainerFactory";
+    public static final String KAFKA_BATCH_LISTENER_CONTAINER = "kafkaBatchListenerContainerFactory";
 }
@@ -12,9 +12,11 @@ public enum ReturnCode {
     FORBIDDEN(403, "COMMON_403", "권한이 없습니다."),
     NOT_FOUND(404, "COMMON_404", "대상을 찾을 수 없습니다."),
     CONFLICT(409, "COMMON_409", "요청이 현재 리소스 상태와 충돌합니다."),
+    DOWNSTREAM_BUSY(503, "COMMON_503", "요청이 많아 잠시 후 다시 시도해주세요."),
 
     // Page
     PAGE_REQUEST_FAIL(400, "PAGE_001", "적절하지 않은 페이지 요청입니다."),
+    INVALID_CURSOR(400, "PAGE_002", "유효하지 않은 커서입니다."),
 
     // Auth
     INVALID_AUTH_TOKEN(401, "AUTH_001", "유효하지 않은 토큰입니다."),
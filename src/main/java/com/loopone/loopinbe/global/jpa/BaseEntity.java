@@ -10,7 +10,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 import java.time.LocalDateTime;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 @MappedSuperclass
@@ -23,8 +23,9 @@ import static lombok.AccessLevel.PROTECTED;
 @ToString
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class BaseEntity {
+  // IDENTITY는 Hibernate JDBC 배치를 비활성화하므로 엔티티별 시퀀스(<entity>_seq, pooled-lo 50개 단위 할당) 사용
   @Id
-  @GeneratedValue(strategy = IDENTITY)
+  @GeneratedValue(strategy = SEQUENCE)
   @EqualsAndHashCode.Include
   private Long id;
 
@@ -1,8 +1,11 @@
 package com.loopone.loopinbe.global.kafka.config;
 
 import com.loopone.loopinbe.global.exception.ServiceException;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -32,12 +35,38 @@ public class KafkaConsumerConfig {
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
             ConsumerFactory<String, String> consumerFactory,
-            DefaultErrorHandler errorHandler
+            DefaultErrorHandler errorHandler,
+            Environment environment
     ) {
         var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
         factory.setConsumerFactory(consumerFactory);
         factory.setCommonErrorHandler(errorHandler);
+        applyVirtualThreads(factory, environment);
         // 필요시 ack 모드, 동시성, 배치 소비 등 추가 설정
         return factory;
     }
+
+    // 배치 소비용 (poll 단위로 List<ConsumerRecord> 전달)
+    // - 리스너가 BatchListenerFailedException 으로 실패 레코드를 알려주면 그 앞까지 커밋하고 해당 레코드부터 재시도/DLT
+    // - 그 외 예외는 배치 전체 재시도 (저장 로직이 멱등이어야 함)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaBatchListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            DefaultErrorHandler errorHandler,
+            Environment environment
+    ) {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(errorHandler);
+        factory.setBatchListener(true);
+        applyVirtualThreads(factory, environment);
+        return factory;
+    }
+
+    // spring.threads.virtual.enabled=true 이면 컨슈머 스레드를 가상 스레드로 (직접 만든 팩토리는 부트 자동설정이 적용되지 않음)
+    private void applyVirtualThreads(ConcurrentKafkaListenerContainerFactory<String, String> factory, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            factory.getContainerProperties().setListenerTaskExecutor(new VirtualThreadTaskExecutor("kafka-listener-"));
+        }
+    }
 }
@@ -2,7 +2,7 @@ package com.loopone.loopinbe.global.kafka.event.ai;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
 import com.loopone.loopinbe.domain.chat.chatMessage.converter.ChatMessageConverter;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.res.ChatMessageResponse;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
@@ -11,18 +11,25 @@ import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
 import com.loopone.loopinbe.domain.chat.chatMessage.service.ChatMessageService;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomService;
 import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
+import com.loopone.loopinbe.domain.loop.ai.dto.res.AiStreamChunk;
 import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
+import com.loopone.loopinbe.domain.loop.ai.service.AiStreamListener;
 import com.loopone.loopinbe.domain.loop.ai.service.LoopAIService;
-import com.loopone.loopinbe.domain.sse.service.SseEmitterService;
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+import com.loopone.loopinbe.domain.sse.service.SseStreamService;
+import com.loopone.loopinbe.global.config.properties.AiProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.loopone.loopinbe.global.constants.Constant.AI_CREATE_MESSAGE;
 import static com.loopone.loopinbe.global.constants.Constant.AI_UPDATE_SUCCESS_MESSAGE;
@@ -34,10 +41,11 @@ import static com.loopone.loopinbe.global.constants.KafkaKey.*;
 public class AiEventConsumer {
     private final ObjectMapper objectMapper;
     private final LoopAIService loopAIService;
-    private final SseEmitterService sseEmitterService;
+    private final SseStreamService sseStreamService;
     private final ChatMessageService chatMessageService;
     private final ChatMessageConverter chatMessageConverter;
     private final ChatRoomService chatRoomService;
+    private final AiProperties aiProperties;
 
     @KafkaListener(topics = OPEN_AI_CREATE_TOPIC, groupId = OPEN_AI_GROUP_ID, containerFactory = KAFKA_LISTENER_CONTAINER)
     public void consumeAiCreateLoop(ConsumerRecord<String, String> rec) {
@@ -53,6 +61,10 @@ public class AiEventConsumer {
         try {
             AiPayload req = objectMapper.readValue(rec.value(), AiPayload.class);
 
+            if (aiProperties.streaming()) {
+                streamAiResponse(req, defaultMessage);
+                return;
+            }
             loopAIService.chat(req)
                     .thenAccept(recommendations -> processAiResponse(req, recommendations, defaultMessage))
                     .exceptionally(ex -> {
@@ -67,6 +79,52 @@ public class AiEventConsumer {
         }
     }
 
+    // 스트리밍: 첫 토큰/완성된 부분 추천을 바로 SSE 로 보내고, 최종 결과는 기존과 같이 처리
+    // - 시작 이벤트를 보낸 뒤 최종 결과 전에 실패하면 AI_STREAM_ERROR 로 스트림을 닫음
+    private void streamAiResponse(AiPayload req, String defaultMessage) {
+        AtomicBoolean streamOpen = new AtomicBoolean();
+        loopAIService.chatStream(req, sseStreamListener(req, streamOpen))
+                // 최종 처리(DB 저장)는 블로킹이므로 HTTP 클라이언트 이벤트 루프에서 분리
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        recommendations -> {
+                            streamOpen.set(false);
+                            processAiResponse(req, recommendations, defaultMessage);
+                        },
+                        ex -> {
+                            log.error("AI 스트리밍 응답 처리 중 오류 발생: {}", ex.getMessage(), ex);
+                            if (streamOpen.compareAndSet(true, false)) {
+                                sendStreamEvent(req, MessageType.AI_STREAM_ERROR, new AiStreamChunk(req.clientMessageId(), null, null));
+                            }
+                        }
+                );
+    }
+
+    private AiStreamListener sseStreamListener(AiPayload req, AtomicBoolean streamOpen) {
+        AtomicInteger index = new AtomicInteger();
+        return new AiStreamListener() {
+            @Override
+            public void onStart() {
+                streamOpen.set(true);
+                sendStreamEvent(req, MessageType.AI_STREAM_START, new AiStreamChunk(req.clientMessageId(), null, null));
+            }
+
+            @Override
+            public void onRecommendation(LoopCreateRequest recommendation) {
+                sendStreamEvent(req, MessageType.AI_STREAM_CHUNK,
+                        new AiStreamChunk(req.clientMessageId(), index.getAndIncrement(), recommendation));
+            }
+        };
+    }
+
+    private void sendStreamEvent(AiPayload req, MessageType eventName, AiStreamChunk chunk) {
+        try {
+            sseStreamService.sendToClient(req.chatRoomId(), eventName, chunk);
+        } catch (Exception e) {
+            log.warn("SSE 스트리밍 이벤트 전송 실패 (ChatRoomId: {}): {}", req.chatRoomId(), e.getMessage());
+        }
+    }
+
     private void processAiResponse(AiPayload req, RecommendationsLoop recommendations, String message) {
         // 1) AI 결과 기반 Inbound 메시지 생성
         ChatMessagePayload inbound = createBotPayload(req, recommendations, message);
@@ -101,9 +159,9 @@ public class AiEventConsumer {
 
     private void sendSseEvent(ChatMessagePayload inbound) {
         try {
-            Map<Long, Member> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(inbound));
+            Map<Long, MemberCard> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(inbound));
             ChatMessageResponse response = chatMessageConverter.toChatMessageResponse(inbound, memberMap);
-            sseEmitterService.sendToClient(inbound.chatRoomId(), MessageType.MESSAGE, response);
+            sseStreamService.sendToClient(inbound.chatRoomId(), MessageType.MESSAGE, response);
         } catch (Exception e) {
             // SSE 전송 실패가 로직 전체 실패로 이어지지 않도록 로그만 기록
             log.warn("SSE 이벤트 전송 실패 (ChatRoomId: {}): {}", inbound.chatRoomId(), e.getMessage());
@@ -1,7 +1,7 @@
 package com.loopone.loopinbe.global.kafka.event.chatMessage;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.account.member.dto.MemberCard;
 import com.loopone.loopinbe.domain.chat.chatMessage.converter.ChatMessageConverter;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatMessagePayload;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.res.ChatMessageResponse;
@@ -9,15 +9,18 @@ import com.loopone.loopinbe.domain.chat.chatMessage.entity.ChatMessage;
 import com.loopone.loopinbe.domain.chat.chatMessage.entity.type.MessageType;
 import com.loopone.loopinbe.domain.chat.chatMessage.service.ChatMessageService;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomMemberService;
-import com.loopone.loopinbe.global.webSocket.handler.ChatWebSocketHandler;
+import com.loopone.loopinbe.global.webSocket.cluster.ChatClusterBroadcaster;
 import com.loopone.loopinbe.global.webSocket.payload.ChatWebSocketPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -29,115 +32,166 @@ import static com.loopone.loopinbe.global.constants.KafkaKey.*;
 @RequiredArgsConstructor
 public class ChatMessageEventConsumer {
     private final ObjectMapper objectMapper;
-    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatClusterBroadcaster chatClusterBroadcaster;
     private final ChatRoomMemberService chatRoomMemberService;
     private final ChatMessageService chatMessageService;
     private final ChatMessageConverter chatMessageConverter;
 
+    // poll 단위 배치 처리
+    // - MESSAGE 는 배치 전체를 bulk upsert 1회 + 채팅방별 lastMessageAt 1회 + 멤버 조회 1회로 저장
+    // - 이후 원래 순서대로 브로드캐스트 (같은 배치의 DELETE 가 저장 이후에 처리되도록)
     @KafkaListener(
             topics = {CHAT_MESSAGE_TOPIC, CHAT_READ_UP_TO_TOPIC, CHAT_DELETE_TOPIC},
             groupId = CHAT_GROUP_ID,
-            containerFactory = KAFKA_LISTENER_CONTAINER
+            containerFactory = KAFKA_BATCH_LISTENER_CONTAINER,
+            properties = {"max.poll.records=500"}
     )
-    public void consumeWsEvent(ConsumerRecord<String, String> rec) {
-        try {
-            ChatWebSocketPayload event = objectMapper.readValue(rec.value(), ChatWebSocketPayload.class);
-            Long chatRoomId = event.getChatRoomId();
-            if (chatRoomId == null) {
+    public void consumeWsEvents(List<ConsumerRecord<String, String>> records) {
+        // 1) 역직렬화 + MESSAGE 검증/수집
+        List<ChatWebSocketPayload> events = new ArrayList<>(records.size());
+        List<ChatMessagePayload> inbound = new ArrayList<>();
+        Exception parseError = null;
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> rec = records.get(i);
+            ChatWebSocketPayload event;
+            try {
+                event = objectMapper.readValue(rec.value(), ChatWebSocketPayload.class);
+            } catch (Exception e) {
+                // 앞 레코드까지만 처리한 뒤 이 레코드를 실패로 알림 (재시도 후 DLT)
+                log.error("Failed to parse WS event. topic={}, key={}", rec.topic(), rec.key(), e);
+                parseError = e;
+                break;
+            }
+            if (event.getChatRoomId() == null) {
                 log.warn("WS event missing chatRoomId. topic={}, key={}", rec.topic(), rec.key());
-                return;
+                event = null;
+            } else if (event.getMessageType() == MessageType.MESSAGE) {
+                ChatMessagePayload payload = toInbound(event);
+                if (payload == null) event = null;
+                else inbound.add(payload);
             }
-            switch (event.getMessageType()) {
-                case MESSAGE -> {
-                    // 1) validate
-                    Long memberId = event.getMemberId();
-                    UUID clientMessageId = event.getClientMessageId();
-                    String content = (event.getChatMessageResponse() != null)
-                            ? event.getChatMessageResponse().getContent()
-                            : null;
-                    if (memberId == null || clientMessageId == null || content == null || content.isBlank()) {
-                        log.warn("Invalid MESSAGE event. roomId={}, memberId={}, clientMessageId={}, hasContent={}",
-                                chatRoomId, memberId, clientMessageId, content != null);
-                        return;
-                    }
-                    // 2) inbound payload 생성 (idempotent key)
-                    Instant now = Instant.now();
-                    ChatMessagePayload inbound = new ChatMessagePayload(
-                            "u:" + clientMessageId,
-                            clientMessageId,
-                            chatRoomId,
-                            memberId,
-                            content,
-                            null,
-                            null,
-                            null,
-                            null,
-                            ChatMessage.AuthorType.USER,
-                            false,
-                            now,
-                            now
-                    );
-                    // 3) Mongo upsert (멱등 저장)
-                    ChatMessagePayload saved = chatMessageService.processInbound(inbound);
-                    // 4) WS 응답 DTO로 매핑 (저장된 결과 기준)
-                    Map<Long, Member> memberMap = chatMessageConverter.loadMembersFromPayload(List.of(saved));
-                    ChatMessageResponse savedResp = chatMessageConverter.toChatMessageResponse(saved, memberMap);
-                    ChatWebSocketPayload out = ChatWebSocketPayload.builder()
-                            .messageType(MessageType.MESSAGE)
-                            .chatRoomId(chatRoomId)
-                            .memberId(memberId)
-                            .clientMessageId(saved.clientMessageId())
-                            .chatMessageResponse(savedResp)
-                            .build();
-                    String payloadJson = objectMapper.writeValueAsString(out);
-                    chatWebSocketHandler.broadcastToRoom(chatRoomId, payloadJson);
-                }
-                case READ_UP_TO -> {
-                    Long memberId = event.getMemberId();
-                    Instant lastReadAt = event.getLastReadAt();
-                    if (memberId == null || lastReadAt == null) {
-                        log.warn("Invalid READ_UP_TO event. roomId={}, memberId={}, lastReadAt={}",
-                                chatRoomId, memberId, lastReadAt);
-                        return;
-                    }
-                    // 동기 업데이트
-                    Instant updated = chatRoomMemberService.updateLastReadAt(chatRoomId, memberId, lastReadAt);
-                    ChatWebSocketPayload out = ChatWebSocketPayload.builder()
-                            .messageType(MessageType.READ_UP_TO)
-                            .chatRoomId(chatRoomId)
-                            .memberId(memberId)
-                            .lastReadAt(updated)
-                            .build();
-                    String payloadJson = objectMapper.writeValueAsString(out);
-                    chatWebSocketHandler.broadcastToRoom(chatRoomId, payloadJson);
-                }
-                case DELETE -> {
-                    Long memberId = event.getMemberId();
-                    String messageId = event.getDeleteId();
-                    if (memberId == null || messageId == null) {
-                        log.warn("Invalid DELETE event. roomId={}, memberId={}, messageId={}",
-                                chatRoomId, memberId, messageId);
-                        return;
-                    }
-                    // 동기 삭제
-                    chatMessageService.deleteChatMessage(messageId, memberId);
-                    ChatWebSocketPayload out = ChatWebSocketPayload.builder()
-                            .messageType(MessageType.DELETE)
-                            .chatRoomId(chatRoomId)
-                            .memberId(memberId)
-                            .deleteId(messageId)
-                            .build();
-                    String payloadJson = objectMapper.writeValueAsString(out);
-                    chatWebSocketHandler.broadcastToRoom(chatRoomId, payloadJson);
+            events.add(event);
+        }
+
+        // 2) MESSAGE 일괄 저장 (멱등이라 실패 시 배치 전체 재시도)
+        Map<String, ChatMessagePayload> savedMap = new HashMap<>();
+        Map<Long, MemberCard> memberMap = Map.of();
+        if (!inbound.isEmpty()) {
+            List<ChatMessagePayload> saved = chatMessageService.processInboundBatch(inbound);
+            for (ChatMessagePayload p : saved) savedMap.put(p.id(), p);
+            memberMap = chatMessageConverter.loadMembersFromPayload(saved);
+        }
+
+        // 3) 원래 순서대로 처리/브로드캐스트
+        for (int i = 0; i < events.size(); i++) {
+            ChatWebSocketPayload event = events.get(i);
+            if (event == null) continue;
+            ConsumerRecord<String, String> rec = records.get(i);
+            try {
+                switch (event.getMessageType()) {
+                    case MESSAGE -> broadcastSaved(event, savedMap, memberMap);
+                    case READ_UP_TO -> handleReadUpTo(event);
+                    case DELETE -> handleDelete(event);
+                    default -> log.warn("Unhandled event type: {} topic={}, key={}",
+                            event.getMessageType(), rec.topic(), rec.key());
                 }
-                default -> log.warn("Unhandled event type: {} topic={}, key={}",
-                        event.getMessageType(), rec.topic(), rec.key());
+            } catch (Exception e) {
+                // 여기서 throw 하면 Kafka가 재시도/리밸런싱 걸 수 있음.
+                // 실패 레코드 앞까지는 커밋되고, 이후 레코드는 재전달(저장은 멱등, 클라이언트는 clientMessageId로 중복 제거)
+                log.error("Failed to handle WS event. topic={}, key={}", rec.topic(), rec.key(), e);
+                throw new BatchListenerFailedException("Failed to handle WS event", e, i);
             }
-        } catch (Exception e) {
-            // 여기서 throw 하면 Kafka가 재시도/리밸런싱 걸 수 있음.
-            // "일시적 장애"면 throw가 맞고, "데이터 오류"면 return이 맞음.
-            log.error("Failed to handle WS event. topic={}, key={}", rec.topic(), rec.key(), e);
-            throw new RuntimeException(e);
         }
+        if (parseError != null) {
+            throw new BatchListenerFailedException("Failed to parse WS event", parseError, events.size());
+        }
+    }
+
+    // ========== 비즈니스 로직 메서드 ==========
+    // inbound payload 생성 (idempotent key)
+    private ChatMessagePayload toInbound(ChatWebSocketPayload event) {
+        Long chatRoomId = event.getChatRoomId();
+        Long memberId = event.getMemberId();
+        UUID clientMessageId = event.getClientMessageId();
+        String content = (event.getChatMessageResponse() != null)
+                ? event.getChatMessageResponse().getContent()
+                : null;
+        if (memberId == null || clientMessageId == null || content == null || content.isBlank()) {
+            log.warn("Invalid MESSAGE event. roomId={}, memberId={}, clientMessageId={}, hasContent={}",
+                    chatRoomId, memberId, clientMessageId, content != null);
+            return null;
+        }
+        Instant now = Instant.now();
+        return new ChatMessagePayload(
+                "u:" + clientMessageId,
+                clientMessageId,
+                chatRoomId,
+                memberId,
+                content,
+                null,
+                null,
+                null,
+                null,
+                ChatMessage.AuthorType.USER,
+                false,
+                now,
+                now
+        );
+    }
+
+    // WS 응답 DTO로 매핑 (저장된 결과 기준)
+    private void broadcastSaved(ChatWebSocketPayload event, Map<String, ChatMessagePayload> savedMap,
+                                Map<Long, MemberCard> memberMap) throws Exception {
+        ChatMessagePayload saved = savedMap.get("u:" + event.getClientMessageId());
+        if (saved == null) return; // 존재하지 않는 채팅방 등으로 저장 제외된 메시지
+        ChatMessageResponse savedResp = chatMessageConverter.toChatMessageResponse(saved, memberMap);
+        ChatWebSocketPayload out = ChatWebSocketPayload.builder()
+                .messageType(MessageType.MESSAGE)
+                .chatRoomId(event.getChatRoomId())
+                .memberId(event.getMemberId())
+                .clientMessageId(saved.clientMessageId())
+                .chatMessageResponse(savedResp)
+                .build();
+        chatClusterBroadcaster.broadcast(event.getChatRoomId(), objectMapper.writeValueAsString(out));
+    }
+
+    private void handleReadUpTo(ChatWebSocketPayload event) throws Exception {
+        Long chatRoomId = event.getChatRoomId();
+        Long memberId = event.getMemberId();
+        Instant lastReadAt = event.getLastReadAt();
+        if (memberId == null || lastReadAt == null) {
+            log.warn("Invalid READ_UP_TO event. roomId={}, memberId={}, lastReadAt={}",
+                    chatRoomId, memberId, lastReadAt);
+            return;
+        }
+        // 동기 업데이트
+        Instant updated = chatRoomMemberService.updateLastReadAt(chatRoomId, memberId, lastReadAt);
+        ChatWebSocketPayload out = ChatWebSocketPayload.builder()
+                .messageType(MessageType.READ_UP_TO)
+                .chatRoomId(chatRoomId)
+                .memberId(memberId)
+                .lastReadAt(updated)
+                .build();
+        chatClusterBroadcaster.broadcast(chatRoomId, objectMapper.writeValueAsString(out));
+    }
+
+    private void handleDelete(ChatWebSocketPayload event) throws Exception {
+        Long chatRoomId = event.getChatRoomId();
+        Long memberId = event.getMemberId();
+        String messageId = event.getDeleteId();
+        if (memberId == null || messageId == null) {
+            log.warn("Invalid DELETE event. roomId={}, memberId={}, messageId={}",
+                    chatRoomId, memberId, messageId);
+            return;
+        }
+        // 동기 삭제
+        chatMessageService.deleteChatMessage(messageId, memberId);
+        ChatWebSocketPayload out = ChatWebSocketPayload.builder()
+                .messageType(MessageType.DELETE)
+                .chatRoomId(chatRoomId)
+                .memberId(memberId)
+                .deleteId(messageId)
+                .build();
+        chatClusterBroadcaster.broadcast(chatRoomId, objectMapper.writeValueAsString(out));
     }
 }
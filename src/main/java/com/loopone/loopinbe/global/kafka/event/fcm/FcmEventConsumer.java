@@ -1,58 +1,188 @@
 package com.loopone.loopinbe.global.kafka.event.fcm;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopone.loopinbe.domain.fcm.dto.res.FcmMessageResponse;
+import com.loopone.loopinbe.domain.fcm.enums.FcmSendStatus;
 import com.loopone.loopinbe.domain.fcm.service.FcmIdempotencyService;
 import com.loopone.loopinbe.domain.fcm.service.FcmService;
+import com.loopone.loopinbe.domain.fcm.service.FcmTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static com.loopone.loopinbe.global.constants.KafkaKey.*;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FcmEventConsumer {
+    // poll 1회에 펼치는 최대 메시지 수 (배치 커맨드 1건은 최대 500건이라 첫 레코드는 항상 포함됨)
+    static final int MAX_MESSAGES_PER_POLL = 1_000;
+
     private final ObjectMapper objectMapper;
     private final FcmService fcmService;
     private final FcmIdempotencyService fcmIdempotencyService;
+    private final FcmTokenService fcmTokenService;
+
+    // poll 단위 배치 처리
+    // - 레코드는 단건 메시지 또는 배치 커맨드(메시지 JSON 배열), 모두 펼쳐서 함께 처리
+    // - 멱등 선점은 파이프라인 SET NX 1회, 전송은 sendEach(최대 500건) 단위
+    // - 무효 토큰은 레지스트리에서 정리
+    // - 일시 오류 메시지는 락 해제 후 첫 실패 레코드부터 재전달 (이미 보낸 메시지는 멱등 키로 스킵)
+    // - 펼친 메시지가 MAX_MESSAGES_PER_POLL 에 닿으면 남은 레코드는 다음 poll 로 넘김
+    @KafkaListener(
+            topics = FCM_SEND_TOPIC,
+            groupId = FCM_GROUP_ID,
+            containerFactory = KAFKA_BATCH_LISTENER_CONTAINER,
+            properties = {"max.poll.records=500"}
+    )
+    public void consumeFcm(List<ConsumerRecord<String, String>> records) {
+        // 1) 역직렬화 + 검증 (잘못된 레코드 앞까지만 처리한 뒤 해당 레코드를 실패로 알림)
+        List<FcmMessageResponse> messages = new ArrayList<>(records.size());
+        List<Integer> recordIndexes = new ArrayList<>(records.size()); // 메시지별 원본 레코드 위치
+        IllegalArgumentException invalid = null;
+        int parsedRecords = 0;
+        for (; parsedRecords < records.size() && messages.size() < MAX_MESSAGES_PER_POLL; parsedRecords++) {
+            try {
+                for (FcmMessageResponse msg : parse(records.get(parsedRecords))) {
+                    messages.add(msg);
+                    recordIndexes.add(parsedRecords);
+                }
+            } catch (IllegalArgumentException e) {
+                invalid = e;
+                break;
+            }
+        }
+
+        // 2) 멱등 선점 (이미 처리했으면 스킵)
+        List<Boolean> acquired = fcmIdempotencyService.tryAcquireAll(
+                messages.stream().map(FcmMessageResponse::getEventId).toList());
+        List<Integer> indexes = new ArrayList<>();
+        List<FcmMessageResponse> toSend = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            ConsumerRecord<String, String> rec = records.get(recordIndexes.get(i));
+            if (acquired.get(i)) {
+                indexes.add(recordIndexes.get(i));
+                toSend.add(messages.get(i));
+            } else {
+                log.info("Duplicate FCM event skipped. eventId={}, topic={}, offset={}",
+                        messages.get(i).getEventId(), rec.topic(), rec.offset());
+            }
+        }
+
+        // 3) 배치 전송 후 결과별 완료 기록 / 락 해제
+        List<FcmSendStatus> statuses;
+        try {
+            statuses = toSend.isEmpty() ? List.of() : fcmService.sendAll(toSend);
+        } catch (Exception e) {
+            // 재시도 가능하도록 락 해제 후 선점한 첫 레코드부터 재전달
+            fcmIdempotencyService.releaseAll(toSend.stream().map(FcmMessageResponse::getEventId).toList());
+            log.error("Failed to send FCM batch. size={}", toSend.size(), e);
+            throw new BatchListenerFailedException("Failed to send FCM batch", e, indexes.get(0));
+        }
+        List<String> done = new ArrayList<>();
+        List<String> retry = new ArrayList<>();
+        Map<Long, Set<String>> invalidTokens = new HashMap<>();
+        int firstRetryIndex = -1;
+        for (int i = 0; i < statuses.size(); i++) {
+            FcmMessageResponse msg = toSend.get(i);
+            String eventId = msg.getEventId();
+            if (statuses.get(i) == FcmSendStatus.INVALID_TOKEN && msg.getMemberId() != null) {
+                invalidTokens.computeIfAbsent(msg.getMemberId(), k -> new HashSet<>()).add(msg.getTargetToken());
+            }
+            if (statuses.get(i).isDone()) {
+                done.add(eventId);
+            } else {
+                retry.add(eventId);
+                if (firstRetryIndex < 0) firstRetryIndex = indexes.get(i);
+            }
+        }
+        fcmIdempotencyService.markSuccessAll(done);
+        pruneInvalidTokens(invalidTokens);
+        if (!retry.isEmpty()) {
+            fcmIdempotencyService.releaseAll(retry);
+            ConsumerRecord<String, String> rec = records.get(firstRetryIndex);
+            log.warn("FCM batch partially failed, will retry. retry={}, topic={}, offset={}",
+                    retry.size(), rec.topic(), rec.offset());
+            throw new BatchListenerFailedException("FCM temporarily unavailable", firstRetryIndex);
+        }
+        if (invalid != null) {
+            throw new BatchListenerFailedException("Invalid FCM message", invalid, parsedRecords);
+        }
+        if (parsedRecords < records.size()) {
+            // 처리한 레코드까지 커밋하고 나머지는 다시 받음
+            log.info("FCM poll message cap reached, deferring records. messages={}, deferred={}",
+                    messages.size(), records.size() - parsedRecords);
+            throw new BatchListenerFailedException("FCM poll message cap reached", parsedRecords);
+        }
+    }
 
-    @KafkaListener(topics = FCM_SEND_TOPIC, groupId = FCM_GROUP_ID, containerFactory = KAFKA_LISTENER_CONTAINER)
-    public void consumeFcm(ConsumerRecord<String, String> rec) {
+    // ========== 헬퍼 메서드 ==========
+    // 무효 토큰 정리 실패는 전송 결과에 영향 없음 (다음 전송에서 다시 무효 판정되면 재정리)
+    private void pruneInvalidTokens(Map<Long, Set<String>> invalidTokens) {
+        if (invalidTokens.isEmpty()) return;
+        try {
+            fcmTokenService.pruneInvalidTokens(invalidTokens);
+        } catch (Exception e) {
+            log.warn("Failed to prune invalid FCM tokens. members={}", invalidTokens.size(), e);
+        }
+    }
+
+    // 단건 메시지 또는 배치 커맨드(JSON 배열) 역직렬화 + 검증
+    // - 배치 커맨드 안의 잘못된 메시지는 로그만 남기고 제외 (나머지는 전송)
+    // - 레코드 자체가 깨졌거나 유효한 메시지가 하나도 없으면 레코드 실패 (DLT)
+    private List<FcmMessageResponse> parse(ConsumerRecord<String, String> rec) {
         String json = rec.value();
-        final FcmMessageResponse msg;
+        JsonNode node;
         try {
-            msg = objectMapper.readValue(json, FcmMessageResponse.class);
+            node = objectMapper.readTree(json);
         } catch (Exception e) {
             log.error("Failed to deserialize FCM message: {}", json, e);
             throw new IllegalArgumentException("Invalid FCM message payload", e);
         }
-        if (!StringUtils.hasText(msg.getEventId())) {
-            throw new IllegalArgumentException("FCM eventId is blank");
+        if (!node.isArray()) {
+            return List.of(toValidMessage(node));
         }
-        if (!StringUtils.hasText(msg.getTargetToken())) {
-            throw new IllegalArgumentException("FCM targetToken is blank");
+        List<FcmMessageResponse> msgs = new ArrayList<>(node.size());
+        for (int i = 0; i < node.size(); i++) {
+            try {
+                msgs.add(toValidMessage(node.get(i)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid FCM message dropped from batch. topic={}, offset={}, position={}, reason={}",
+                        rec.topic(), rec.offset(), i, e.getMessage());
+            }
         }
-        // 멱등 선점(이미 처리했으면 스킵)
-        boolean first = fcmIdempotencyService.tryAcquire(msg.getEventId());
-        if (!first) {
-            log.info("Duplicate FCM event skipped. eventId={}, topic={}, offset={}",
-                    msg.getEventId(), rec.topic(), rec.offset());
-            return;
+        if (msgs.isEmpty()) {
+            throw new IllegalArgumentException("FCM batch has no valid message");
         }
+        return msgs;
+    }
+
+    private FcmMessageResponse toValidMessage(JsonNode node) {
+        FcmMessageResponse msg;
         try {
-            fcmService.sendMessageTo(msg);
-            fcmIdempotencyService.markSuccess(msg.getEventId());
+            msg = objectMapper.treeToValue(node, FcmMessageResponse.class);
         } catch (Exception e) {
-            // 재시도 가능하도록 락 해제 후 throw
-            fcmIdempotencyService.release(msg.getEventId());
-            log.error("Failed to send FCM. eventId={}, topic={}, key={}, offset={}",
-                    msg.getEventId(), rec.topic(), rec.key(), rec.offset(), e);
-            throw e;
+            throw new IllegalArgumentException("Invalid FCM message payload", e);
+        }
+        if (msg == null || !StringUtils.hasText(msg.getEventId())) {
+            throw new IllegalArgumentException("FCM eventId is blank");
+        }
+        if (!StringUtils.hasText(msg.getTargetToken())) {
+            throw new IllegalArgumentException("FCM targetToken is blank");
         }
+        return msg;
     }
 }
@@ -8,12 +8,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 import static com.loopone.loopinbe.global.constants.KafkaKey.FCM_SEND_TOPIC;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FcmEventPublisher {
+    // 배치 커맨드 1건당 최대 메시지 수 (sendEach 1회 분량)
+    private static final int MAX_BATCH_COMMAND_SIZE = 500;
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
 
@@ -25,4 +29,17 @@ public class FcmEventPublisher {
             throw new RuntimeException("Failed to serialize FCM message", e);
         }
     }
+
+    // 여러 메시지를 배치 커맨드(JSON 배열 레코드)로 발행, 500건 단위로 나눔
+    public void publishFcmBatch(List<FcmMessageResponse> messages) {
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_COMMAND_SIZE) {
+            List<FcmMessageResponse> chunk = messages.subList(from, Math.min(from + MAX_BATCH_COMMAND_SIZE, messages.size()));
+            try {
+                String json = objectMapper.writeValueAsString(chunk);
+                kafkaTemplate.send(FCM_SEND_TOPIC, chunk.get(0).getEventId(), json);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize FCM batch", e);
+            }
+        }
+    }
 }
@@ -34,4 +34,13 @@ public class NotificationEventConsumer {
         // 메시지 저장 + 커밋 후 FCM 발송은 서비스에서 처리
         notificationService.createAndNotifyFromMessage(rec.value(), title);
     }
+
+    // 팀 단위 이벤트 1건 → 팀원 N명 알림 (저장/토큰 조회/FCM 발행 모두 일괄)
+    @KafkaListener(
+            topics = TEAM_NOTIFICATION_TOPIC,
+            groupId = NOTIFICATION_GROUP_ID, containerFactory = KAFKA_LISTENER_CONTAINER
+    )
+    public void consumeTeamNotification(ConsumerRecord<String, String> rec) {
+        notificationService.createAndNotifyTeamFromMessage(rec.value());
+    }
 }
@@ -3,13 +3,14 @@ package com.loopone.loopinbe.global.kafka.event.notification;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopone.loopinbe.domain.notification.dto.NotificationPayload;
-import com.loopone.loopinbe.domain.notification.entity.Notification;
+import com.loopone.loopinbe.domain.notification.dto.TeamNotificationPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
-import static com.loopone.loopinbe.global.constants.KafkaKey.FOLLOW_NOTIFICATION_TOPIC;
+import static com.loopone.loopinbe.global.constants.KafkaKey.TEAM_NOTIFICATION_TOPIC;
+import static com.loopone.loopinbe.global.jpa.util.TransactionUtils.afterCommit;
 
 @Slf4j
 @Component
@@ -26,4 +27,21 @@ public class NotificationEventPublisher {
             throw new RuntimeException("Failed to serialize notification payload", e);
         }
     }
+
+    // 팀 단위 알림 이벤트 1건 발행 (수신자 팬아웃은 컨슈머에서)
+    // 커밋 이후에만 발행 (롤백 시 이벤트 발행 방지), 트랜잭션 밖이면 바로 발행
+    public void publishTeamNotification(TeamNotificationPayload payload) {
+        afterCommit(() -> sendTeamNotification(payload));
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private void sendTeamNotification(TeamNotificationPayload payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            kafkaTemplate.send(TEAM_NOTIFICATION_TOPIC, String.valueOf(payload.teamId()), json);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize team notification payload. teamId={}, type={}",
+                    payload.teamId(), payload.type(), e);
+        }
+    }
 }
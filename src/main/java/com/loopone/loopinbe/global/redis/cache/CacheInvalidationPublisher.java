@@ -0,0 +1,8 @@
+package com.loopone.loopinbe.global.redis.cache;
+
+public interface CacheInvalidationPublisher {
+    // 특정 키의 L1 무효화 브로드캐스트
+    void publishEvict(String cacheName, String key);
+    // 캐시 전체 L1 무효화 브로드캐스트
+    void publishClear(String cacheName);
+}
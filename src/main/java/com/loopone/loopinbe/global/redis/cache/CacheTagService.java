@@ -0,0 +1,125 @@
+package com.loopone.loopinbe.global.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopone.loopinbe.global.config.properties.CacheTagProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+// 태그 버전 기반 캐시 무효화 (versioned namespace)
+// - 캐시 키 = 기본 키 + 의존 태그들의 현재 버전 -> 태그 버전을 올리면 해당 태그에 의존하는 키는 더 이상 조회되지 않음
+// - 무효화는 태그 수만큼의 INCR 을 한 번의 파이프라인으로 처리 (키 SCAN/개별 삭제 없음), 이전 버전 키는 TTL로 만료
+// - 태그 버전은 노드 로컬에 짧게 캐시하고, 변경 시 pub/sub 으로 다른 노드의 로컬 버전을 정리
+@Slf4j
+@Component
+public class CacheTagService implements MessageListener {
+    private static final String VERSION_KEY_PREFIX = "cacheTag:";
+    private static final String SEPARATOR = "|";
+    private static final String TAG_DELIMITER = ",";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheTagProperties properties;
+    private final Cache<String, Long> localVersions;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheTagService(StringRedisTemplate stringRedisTemplate, CacheTagProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.localVersions = Caffeine.newBuilder()
+                .maximumSize(properties.localMaximumSize())
+                .expireAfterWrite(properties.localTtl())
+                .build();
+    }
+
+    // 태그 버전을 붙인 캐시 키 (ex. "12:345#3.0")
+    public String key(Object baseKey, String... tags) {
+        long[] versions = versions(tags);
+        StringBuilder key = new StringBuilder().append(baseKey).append('#');
+        for (int i = 0; i < versions.length; i++) {
+            if (i > 0) key.append('.');
+            key.append(versions[i]);
+        }
+        return key.toString();
+    }
+
+    // 태그 무효화 (버전 증가), 트랜잭션 안이라면 호출 측에서 커밋 후 호출
+    public void invalidate(Collection<String> tags) {
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(tags));
+        if (targets.isEmpty()) return;
+
+        long ttlSeconds = properties.versionTtl().toSeconds();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String tag : targets) {
+                byte[] rawKey = versionKey(tag).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incr(rawKey);
+                connection.keyCommands().expire(rawKey, ttlSeconds);
+            }
+            return null;
+        });
+        for (int i = 0; i < targets.size(); i++) {
+            if (results.get(i * 2) instanceof Long version) {
+                localVersions.put(targets.get(i), version);
+            } else {
+                localVersions.invalidate(targets.get(i));
+            }
+        }
+        publish(targets);
+    }
+
+    // 다른 노드에서 변경된 태그의 로컬 버전 정리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(SEPARATOR);
+        if (idx < 0 || nodeId.equals(body.substring(0, idx))) return;
+        localVersions.invalidateAll(List.of(body.substring(idx + 1).split(TAG_DELIMITER)));
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    // 로컬에 없는 태그 버전만 MGET 한 번으로 조회 (없으면 0)
+    private long[] versions(String[] tags) {
+        long[] versions = new long[tags.length];
+        List<Integer> missing = new ArrayList<>(tags.length);
+        for (int i = 0; i < tags.length; i++) {
+            Long version = localVersions.getIfPresent(tags[i]);
+            if (version == null) missing.add(i);
+            else versions[i] = version;
+        }
+        if (missing.isEmpty()) return versions;
+
+        List<String> keys = missing.stream().map(i -> versionKey(tags[i])).toList();
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        for (int j = 0; j < missing.size(); j++) {
+            String value = (values == null) ? null : values.get(j);
+            long version = (value == null) ? 0L : Long.parseLong(value);
+            int i = missing.get(j);
+            versions[i] = version;
+            localVersions.put(tags[i], version);
+        }
+        return versions;
+    }
+
+    private String versionKey(String tag) {
+        return VERSION_KEY_PREFIX + tag;
+    }
+
+    private void publish(List<String> tags) {
+        try {
+            stringRedisTemplate.convertAndSend(properties.channel(), nodeId + SEPARATOR + String.join(TAG_DELIMITER, tags));
+        } catch (Exception e) {
+            // 브로드캐스트 실패 시 다른 노드의 로컬 버전은 localTtl 후 갱신됨
+            log.warn("Cache tag publish failed. tags={}, reason={}", tags, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.loopone.loopinbe.global.redis.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+// 프로세스 내 L1(Caffeine) + Redis L2 캐시
+// - 조회: L1 -> L2 -> (loader) 순서, L2 히트 시 L1 채움
+// - 무효화: L2 삭제 + 로컬 L1 삭제 + 다른 노드에 L1 무효화 브로드캐스트
+public class TwoLevelCache implements Cache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationPublisher publisher;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                         Cache l2,
+                         CacheInvalidationPublisher publisher) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object local = l1.getIfPresent(localKey);
+        if (local != null) {
+            return new SimpleValueWrapper(fromStore(local));
+        }
+        ValueWrapper remote = l2.get(key);
+        if (remote != null) {
+            l1.put(localKey, toStore(remote.get()));
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper == null) ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object local = l1.getIfPresent(localKey);
+        if (local != null) {
+            return (T) fromStore(local);
+        }
+        T value = l2.get(key, valueLoader);
+        l1.put(localKey, toStore(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(localKey(key), toStore(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        Object stored = (existing == null) ? value : existing.get();
+        l1.put(localKey(key), toStore(stored));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        evictLocal(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        evictLocal(localKey(key));
+        publisher.publishEvict(name, localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        clearLocal();
+        publisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l2.invalidate();
+        clearLocal();
+        publisher.publishClear(name);
+        return invalidated;
+    }
+
+    // 다른 노드의 브로드캐스트 수신 시 로컬 L1만 정리
+    public void evictLocal(String localKey) {
+        l1.invalidate(localKey);
+    }
+
+    public void clearLocal() {
+        l1.invalidateAll();
+    }
+
+    // RedisCache와 동일하게 키를 문자열로 정규화 (브로드캐스트 메시지와 일치)
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Object toStore(Object value) {
+        return value == null ? NullValue.INSTANCE : value;
+    }
+
+    private Object fromStore(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopone.loopinbe.global.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopone.loopinbe.global.config.properties.LayeredCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// L1(Caffeine) + L2(Redis) 계층형 CacheManager
+// - 캐시별 L1 크기/TTL은 app.cache.l1.{cacheName}
+// - 무효화는 Redis pub/sub 으로 모든 노드에 전파 (자기 노드가 보낸 메시지는 무시)
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, CacheInvalidationPublisher, MessageListener {
+    private static final String SEPARATOR = "|";
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    private final CacheManager redisCacheManager;
+    private final LayeredCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager,
+                                LayeredCacheProperties properties,
+                                StringRedisTemplate stringRedisTemplate) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = decorated.get(name);
+        if (cache != null) return cache;
+        TwoLevelCache twoLevelCache = caches.computeIfAbsent(name, this::createCache);
+        if (twoLevelCache == null) return null;
+        // @CachePut/@CacheEvict 는 커밋 이후 반영 (기존 transactionAware 동작 유지)
+        return decorated.computeIfAbsent(name, n -> new TransactionAwareCacheDecorator(twoLevelCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache l2 = redisCacheManager.getCache(name);
+        if (l2 == null) return null;
+        LayeredCacheProperties.Spec spec = properties.specOf(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .build();
+        return new TwoLevelCache(name, l1, l2, this);
+    }
+
+    // ========== 브로드캐스트 발행 ==========
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(SEPARATOR, nodeId, OP_EVICT, cacheName, key));
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, nodeId, OP_CLEAR, cacheName));
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(properties.invalidationChannel(), message);
+        } catch (Exception e) {
+            // 브로드캐스트 실패 시 다른 노드의 L1은 TTL 만료로 정리됨
+            log.warn("Cache invalidation publish failed. message={}, reason={}", message, e.getMessage());
+        }
+    }
+
+    // ========== 브로드캐스트 수신 ==========
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) return; // 이 노드에서 아직 사용하지 않은 캐시
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (OP_EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
@@ -8,6 +8,18 @@ import com.loopone.loopinbe.domain.loop.loop.dto.res.DailyLoopsResponse;
 import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopCalendarResponse;
 import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
 import com.loopone.loopinbe.domain.loop.loopReport.dto.res.LoopReportResponse;
+import com.loopone.loopinbe.global.config.properties.CacheSerializationProperties;
+import com.loopone.loopinbe.global.config.properties.CacheTagProperties;
+import com.loopone.loopinbe.global.config.properties.LayeredCacheProperties;
+import com.loopone.loopinbe.global.redis.cache.CacheTagService;
+import com.loopone.loopinbe.global.redis.cache.TwoLevelCacheManager;
+import com.loopone.loopinbe.global.redis.serializer.BinaryCodec;
+import com.loopone.loopinbe.global.redis.serializer.CompactRedisSerializer;
+import com.loopone.loopinbe.global.redis.serializer.codec.DailyLoopsCodec;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopCalendarCodec;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopDetailCodec;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopReportCodec;
+import com.loopone.loopinbe.global.redis.serializer.codec.MemberResponseCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
@@ -22,6 +34,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -60,10 +74,14 @@ public class RedisConfig {
         return om;
     }
 
+    // L1(Caffeine) + L2(Redis) 계층형 캐시, 트랜잭션 인식은 TwoLevelCacheManager가 담당
     @Bean
-    public RedisCacheManager cacheManager(
+    public TwoLevelCacheManager cacheManager(
             RedisConnectionFactory connectionFactory,
-            @Qualifier("baseObjectMapper") ObjectMapper baseOm
+            @Qualifier("baseObjectMapper") ObjectMapper baseOm,
+            LayeredCacheProperties layeredCacheProperties,
+            CacheSerializationProperties serializationProperties,
+            StringRedisTemplate stringRedisTemplate
     ) {
         RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
@@ -73,8 +91,7 @@ public class RedisConfig {
                         new GenericJackson2JsonRedisSerializer(baseOm)
                 ));
         RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(base)
-                .transactionAware();
+                .cacheDefaults(base);
         // 여기만 추가/관리하면 됨
         Map<String, Class<?>> typed = Map.of(
                 "myInfo", MemberResponse.class,
@@ -83,8 +100,44 @@ public class RedisConfig {
                 "loopCalendar", LoopCalendarResponse.class,
                 "loopReport", LoopReportResponse.class
         );
-        typed.forEach((name, type) -> builder.withCacheConfiguration(name, typedCache(base, baseOm, type)));
-        return builder.build();
+        // BINARY 로 지정된 캐시는 바이너리 코덱 사용 (app.cache.serialization.formats)
+        Map<String, BinaryCodec<?>> codecs = Map.of(
+                "myInfo", new MemberResponseCodec(),
+                "loopDetail", new LoopDetailCodec(),
+                "dailyLoops", new DailyLoopsCodec(),
+                "loopCalendar", new LoopCalendarCodec(),
+                "loopReport", new LoopReportCodec()
+        );
+        int compressThreshold = (int) serializationProperties.compressThreshold().toBytes();
+        typed.forEach((name, type) -> {
+            BinaryCodec<?> codec = codecs.get(name);
+            RedisCacheConfiguration config =
+                    (serializationProperties.formatOf(name) == CacheSerializationProperties.Format.BINARY && codec != null)
+                            ? binaryCache(base, codec, compressThreshold)
+                            : typedCache(base, baseOm, type);
+            builder.withCacheConfiguration(name, config);
+        });
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet(); // 빈이 아니므로 캐시별 설정 초기화를 직접 호출
+        return new TwoLevelCacheManager(redisCacheManager, layeredCacheProperties, stringRedisTemplate);
+    }
+
+    // Redis pub/sub 수신 컨테이너
+    // - 다른 노드에서 발생한 캐시 무효화(L1 키, 태그 버전)를 수신해 로컬 캐시 정리
+    // - 노드별 WebSocket 팬아웃 채널은 ChatClusterBroadcaster 가 직접 등록
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            LayeredCacheProperties layeredCacheProperties,
+            CacheTagService cacheTagService,
+            CacheTagProperties cacheTagProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(layeredCacheProperties.invalidationChannel()));
+        container.addMessageListener(cacheTagService, new ChannelTopic(cacheTagProperties.channel()));
+        return container;
     }
 
     // Object 전용 RedisTemplate
@@ -136,4 +189,14 @@ public class RedisConfig {
                 RedisSerializationContext.SerializationPair.fromSerializer(ser)
         );
     }
+
+    private <T> RedisCacheConfiguration binaryCache(
+            RedisCacheConfiguration base,
+            BinaryCodec<T> codec,
+            int compressThreshold
+    ) {
+        return base.serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(new CompactRedisSerializer<>(codec, compressThreshold))
+        );
+    }
 }
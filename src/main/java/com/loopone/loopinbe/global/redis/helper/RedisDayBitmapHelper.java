@@ -0,0 +1,140 @@
+package com.loopone.loopinbe.global.redis.helper;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 날짜별 존재 여부를 Redis 비트맵(offset = epoch day)으로 관리
+// - offset 0(1970-01-01) 비트는 "DB 기준으로 초기화 완료" 표시로 사용
+// - 초기화되지 않은 키는 조회 시 null -> 호출 측에서 DB로 초기화
+// - 변경/삭제마다 {key}:ver 를 올리고, 초기화는 DB 조회 전 버전이 그대로일 때만 반영
+//   (조회와 초기화 사이에 반영된 변경을 오래된 DB 스냅샷으로 되살리지 않도록)
+@Component
+@RequiredArgsConstructor
+public class RedisDayBitmapHelper {
+    private static final long READY_OFFSET = 0L;
+    private static final String VERSION_SUFFIX = ":ver";
+    private static final Duration VERSION_TTL = Duration.ofHours(1); // 조회~초기화 사이 경합만 막으면 되므로 짧게
+    private static final String NO_VERSION = "0";
+
+    // KEYS[1]: 비트맵, KEYS[2]: 버전 / ARGV[1]: TTL(초), ARGV[2]: DB 조회 전 버전, ARGV[3..]: 날짜 offset
+    // 이미 초기화되었거나 그 사이 변경이 있었으면 반영하지 않음 (0 반환)
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GETBIT', KEYS[1], 0) == 1 then return 0 end
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end
+            redis.call('SETBIT', KEYS[1], 0, 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 비트맵, KEYS[2]: 버전 / ARGV[1]: 버전 TTL(초), ARGV[2k], ARGV[2k+1]: 날짜 offset, 0|1
+    // 버전은 항상 올리고, 비트는 초기화된 키에만 반영
+    private static final RedisScript<Long> SET_DAYS_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            if redis.call('GETBIT', KEYS[1], 0) == 0 then return 0 end
+            for i = 2, #ARGV, 2 do redis.call('SETBIT', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // [start, end] 구간 비트 조회 (한 번의 왕복), 초기화 전이면 null
+    // 반환 BitSet 의 i 번째 비트 = start.plusDays(i)
+    public BitSet readRange(String key, LocalDate start, LocalDate end) {
+        long from = start.toEpochDay();
+        long to = end.toEpochDay();
+        byte[] rawKey = rawKey(key);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().getRange(rawKey, READY_OFFSET >> 3, READY_OFFSET >> 3);
+            connection.stringCommands().getRange(rawKey, from >> 3, to >> 3);
+            return null;
+        }, RedisSerializer.byteArray());
+
+        byte[] head = (byte[]) results.get(0);
+        if (head == null || head.length == 0 || !isSet(head, 0, READY_OFFSET)) return null;
+
+        byte[] range = (byte[]) results.get(1);
+        BitSet days = new BitSet((int) (to - from + 1));
+        if (range == null) return days;
+        long base = (from >> 3) << 3; // range[0] 의 첫 비트 offset
+        for (long offset = from; offset <= to; offset++) {
+            if (isSet(range, base, offset)) days.set((int) (offset - from));
+        }
+        return days;
+    }
+
+    // 초기화 전 버전 (DB 조회 전에 읽어서 initialize 에 전달)
+    public String version(String key) {
+        String version = stringRedisTemplate.opsForValue().get(versionKey(key));
+        return version != null ? version : NO_VERSION;
+    }
+
+    // DB 기준 전체 날짜로 초기화 (원자적), 그 사이 변경이 있었으면 건너뛰고 다음 조회 시 재구성
+    public boolean initialize(String key, String version, Collection<LocalDate> dates, Duration ttl) {
+        List<String> args = new ArrayList<>(dates.size() + 2);
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(version);
+        dates.forEach(date -> args.add(String.valueOf(date.toEpochDay())));
+        Long applied = stringRedisTemplate.execute(INITIALIZE_SCRIPT, List.of(key, versionKey(key)), args.toArray());
+        return Long.valueOf(1L).equals(applied);
+    }
+
+    // 초기화된 키에만 날짜별 비트 반영 (초기화 전이면 다음 조회 시 DB에서 재구성)
+    public void setDays(String key, Map<LocalDate, Boolean> days) {
+        if (days.isEmpty()) return;
+        List<String> args = new ArrayList<>(days.size() * 2 + 1);
+        args.add(String.valueOf(VERSION_TTL.toSeconds()));
+        days.forEach((date, value) -> {
+            args.add(String.valueOf(date.toEpochDay()));
+            args.add(Boolean.TRUE.equals(value) ? "1" : "0");
+        });
+        stringRedisTemplate.execute(SET_DAYS_SCRIPT, List.of(key, versionKey(key)), args.toArray());
+    }
+
+    // 버전을 먼저 올린 뒤 삭제 (진행 중인 초기화가 삭제 이후에 되살리지 않도록)
+    public void delete(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] rawVersionKey = rawKey(versionKey(key));
+                connection.stringCommands().incr(rawVersionKey);
+                connection.keyCommands().expire(rawVersionKey, VERSION_TTL.toSeconds());
+                connection.keyCommands().del(rawKey(key));
+            }
+            return null;
+        });
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private String versionKey(String key) {
+        return key + VERSION_SUFFIX;
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Redis 비트 순서: 각 바이트의 최상위 비트가 낮은 offset
+    private boolean isSet(byte[] bytes, long baseOffset, long offset) {
+        long index = offset - baseOffset;
+        int byteIndex = (int) (index >> 3);
+        if (byteIndex < 0 || byteIndex >= bytes.length) return false;
+        return (bytes[byteIndex] & (0x80 >>> (int) (index & 7))) != 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopone.loopinbe.global.redis.serializer;
+
+import java.io.IOException;
+
+// 캐시 값 타입별 바이너리 스키마
+// - 필드 순서/인코딩을 바꾸면 version()을 올려야 함 (이전 버전 값은 캐시 미스로 처리)
+public interface BinaryCodec<T> {
+    int version();
+
+    void write(T value, CompactOutput out) throws IOException;
+
+    T read(CompactInput in) throws IOException;
+}
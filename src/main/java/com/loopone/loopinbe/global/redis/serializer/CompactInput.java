@@ -0,0 +1,87 @@
+package com.loopone.loopinbe.global.redis.serializer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// CompactOutput 으로 기록한 값을 읽는 도구
+public class CompactInput {
+    private final byte[] buf;
+    private int pos;
+
+    public CompactInput(byte[] buf, int offset) {
+        this.buf = buf;
+        this.pos = offset;
+    }
+
+    public int readByte() throws IOException {
+        if (pos >= buf.length) throw new EOFException();
+        return buf[pos++] & 0xFF;
+    }
+
+    public byte[] readBytes(int length) throws IOException {
+        if (pos + length > buf.length) throw new EOFException();
+        byte[] bytes = new byte[length];
+        System.arraycopy(buf, pos, bytes, 0, length);
+        pos += length;
+        return bytes;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public Boolean readNullableBoolean() throws IOException {
+        int v = readByte();
+        return v == 0 ? null : v == 2;
+    }
+
+    public int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    public long readVarLong() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Long readNullableLong() throws IOException {
+        long raw = readVarLong();
+        if (raw == 0) return null;
+        raw -= 1;
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public double readDouble() throws IOException {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) bits = (bits << 8) | readByte();
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() throws IOException {
+        int length = readVarInt();
+        if (length == 0) return null;
+        return new String(readBytes(length - 1), StandardCharsets.UTF_8);
+    }
+
+    public LocalDate readDate() throws IOException {
+        Long epochDay = readNullableLong();
+        return epochDay == null ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+}
@@ -0,0 +1,91 @@
+package com.loopone.loopinbe.global.redis.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// 가변 길이 정수(varint) 기반 바이너리 쓰기 도구
+// - null 허용 필드는 0을 null 로 예약하고 실제 값은 +1 해서 기록
+public class CompactOutput {
+    private final ByteArrayOutputStream buf;
+
+    public CompactOutput(int initialSize) {
+        this.buf = new ByteArrayOutputStream(initialSize);
+    }
+
+    public void writeByte(int v) {
+        buf.write(v);
+    }
+
+    public void writeBytes(byte[] bytes) {
+        buf.write(bytes, 0, bytes.length);
+    }
+
+    public void writeBoolean(boolean v) {
+        buf.write(v ? 1 : 0);
+    }
+
+    // null=0, false=1, true=2
+    public void writeNullableBoolean(Boolean v) {
+        buf.write(v == null ? 0 : (v ? 2 : 1));
+    }
+
+    public void writeVarInt(int v) {
+        writeVarLong(v & 0xFFFFFFFFL);
+    }
+
+    public void writeVarLong(long v) {
+        while ((v & ~0x7FL) != 0) {
+            buf.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.write((int) v);
+    }
+
+    // 음수도 짧게 기록 (zigzag)
+    public void writeSignedVarLong(long v) {
+        writeVarLong((v << 1) ^ (v >> 63));
+    }
+
+    // Long.MIN_VALUE 는 null 과 겹치므로 사용하지 않음 (id/개수/퍼센트/epoch day 전용)
+    public void writeNullableLong(Long v) {
+        if (v == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(((v << 1) ^ (v >> 63)) + 1);
+    }
+
+    public void writeDouble(double v) {
+        long bits = Double.doubleToLongBits(v);
+        for (int i = 56; i >= 0; i -= 8) buf.write((int) (bits >>> i));
+    }
+
+    public void writeString(String v) {
+        if (v == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    // 날짜는 epoch day 정수로 기록
+    public void writeDate(LocalDate v) {
+        writeNullableLong(v == null ? null : v.toEpochDay());
+    }
+
+    // enum은 ordinal 대신 이름으로 기록 (선언 순서 변경에 안전)
+    public void writeEnum(Enum<?> v) {
+        writeString(v == null ? null : v.name());
+    }
+
+    public int size() {
+        return buf.size();
+    }
+
+    public byte[] toByteArray() {
+        return buf.toByteArray();
+    }
+}
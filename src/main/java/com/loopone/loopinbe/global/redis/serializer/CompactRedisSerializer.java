@@ -0,0 +1,111 @@
+package com.loopone.loopinbe.global.redis.serializer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 타입별 BinaryCodec 기반 RedisSerializer
+// - 헤더: [MAGIC][codec version][flags] + payload
+// - payload 가 compressThreshold 바이트 이상이면 Deflate 압축 (flags 의 COMPRESSED 비트)
+// - 헤더가 맞지 않는 값(기존 JSON 값, 이전 스키마 버전)은 null 반환 -> 캐시 미스로 처리되어 재적재
+@Slf4j
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+    private static final int MAGIC = 0xB7;
+    private static final int HEADER_SIZE = 3;
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private final BinaryCodec<T> codec;
+    private final int compressThreshold;
+
+    public CompactRedisSerializer(BinaryCodec<T> codec, int compressThreshold) {
+        this.codec = codec;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) return new byte[0];
+        try {
+            CompactOutput out = new CompactOutput(256);
+            codec.write(value, out);
+            byte[] payload = out.toByteArray();
+
+            int flags = 0;
+            if (compressThreshold > 0 && payload.length >= compressThreshold) {
+                byte[] compressed = deflate(payload);
+                // 압축 이득이 없으면 원본 유지
+                if (compressed.length < payload.length) {
+                    payload = compressed;
+                    flags |= FLAG_COMPRESSED;
+                }
+            }
+            byte[] bytes = new byte[HEADER_SIZE + payload.length];
+            bytes[0] = (byte) MAGIC;
+            bytes[1] = (byte) codec.version();
+            bytes[2] = (byte) flags;
+            System.arraycopy(payload, 0, bytes, HEADER_SIZE, payload.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write compact cache value", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes.length < HEADER_SIZE || (bytes[0] & 0xFF) != MAGIC || (bytes[1] & 0xFF) != codec.version()) {
+            log.debug("Skip incompatible cache value. codecVersion={}, length={}", codec.version(), bytes.length);
+            return null;
+        }
+        try {
+            CompactInput in = ((bytes[2] & FLAG_COMPRESSED) != 0)
+                    ? new CompactInput(inflate(bytes, HEADER_SIZE), 0)
+                    : new CompactInput(bytes, HEADER_SIZE);
+            return codec.read(in);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read compact cache value", e);
+        }
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 16);
+            byte[] chunk = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] bytes, int offset) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((bytes.length - offset) * 3);
+            byte[] chunk = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed cache value");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.loopone.loopinbe.global.redis.serializer.codec;
+
+import com.loopone.loopinbe.domain.loop.loop.dto.res.DailyLoopsResponse;
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopSimpleResponse;
+import com.loopone.loopinbe.global.redis.serializer.BinaryCodec;
+import com.loopone.loopinbe.global.redis.serializer.CompactInput;
+import com.loopone.loopinbe.global.redis.serializer.CompactOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DailyLoopsCodec implements BinaryCodec<DailyLoopsResponse> {
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(DailyLoopsResponse value, CompactOutput out) {
+        out.writeDouble(value.totalProgress());
+        List<LoopSimpleResponse> loops = (value.loops() == null) ? List.of() : value.loops();
+        out.writeVarInt(loops.size());
+        for (LoopSimpleResponse loop : loops) {
+            out.writeNullableLong(loop.id());
+            out.writeString(loop.title());
+            out.writeDate(loop.loopDate());
+            out.writeBoolean(loop.completed());
+            out.writeVarInt(loop.totalChecklists());
+            out.writeVarInt(loop.completedChecklists());
+        }
+    }
+
+    @Override
+    public DailyLoopsResponse read(CompactInput in) throws IOException {
+        double totalProgress = in.readDouble();
+        int size = in.readVarInt();
+        List<LoopSimpleResponse> loops = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            loops.add(new LoopSimpleResponse(
+                    in.readNullableLong(),
+                    in.readString(),
+                    in.readDate(),
+                    in.readBoolean(),
+                    in.readVarInt(),
+                    in.readVarInt()
+            ));
+        }
+        return new DailyLoopsResponse(totalProgress, loops);
+    }
+}
@@ -0,0 +1,76 @@
+package com.loopone.loopinbe.global.redis.serializer.codec;
+
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopCalendarResponse;
+import com.loopone.loopinbe.global.redis.serializer.BinaryCodec;
+import com.loopone.loopinbe.global.redis.serializer.CompactInput;
+import com.loopone.loopinbe.global.redis.serializer.CompactOutput;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 캘린더 캐시: 연속된 날짜 구간이면 [시작일, 일수, hasLoop 비트셋] 으로 기록 (6주 기준 약 10바이트)
+public class LoopCalendarCodec implements BinaryCodec<LoopCalendarResponse> {
+    private static final int MODE_RANGE = 0; // 시작일 + 비트셋
+    private static final int MODE_LIST = 1;  // (날짜, 여부) 목록 (연속이 아닌 경우)
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(LoopCalendarResponse value, CompactOutput out) {
+        List<LoopCalendarResponse.CalendarDay> days = (value.days() == null) ? List.of() : value.days();
+        if (isContiguous(days)) {
+            out.writeByte(MODE_RANGE);
+            out.writeVarInt(days.size());
+            if (days.isEmpty()) return;
+            out.writeDate(days.get(0).date());
+            byte[] bits = new byte[(days.size() + 7) / 8];
+            for (int i = 0; i < days.size(); i++) {
+                if (days.get(i).hasLoop()) bits[i >> 3] |= (byte) (1 << (i & 7));
+            }
+            out.writeBytes(bits);
+            return;
+        }
+        out.writeByte(MODE_LIST);
+        out.writeVarInt(days.size());
+        for (LoopCalendarResponse.CalendarDay day : days) {
+            out.writeDate(day.date());
+            out.writeBoolean(day.hasLoop());
+        }
+    }
+
+    @Override
+    public LoopCalendarResponse read(CompactInput in) throws IOException {
+        int mode = in.readByte();
+        int size = in.readVarInt();
+        List<LoopCalendarResponse.CalendarDay> days = new ArrayList<>(size);
+        if (mode == MODE_RANGE) {
+            if (size > 0) {
+                LocalDate start = in.readDate();
+                byte[] bits = in.readBytes((size + 7) / 8);
+                for (int i = 0; i < size; i++) {
+                    boolean hasLoop = (bits[i >> 3] & (1 << (i & 7))) != 0;
+                    days.add(new LoopCalendarResponse.CalendarDay(start.plusDays(i), hasLoop));
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                days.add(new LoopCalendarResponse.CalendarDay(in.readDate(), in.readBoolean()));
+            }
+        }
+        return new LoopCalendarResponse(days);
+    }
+
+    private boolean isContiguous(List<LoopCalendarResponse.CalendarDay> days) {
+        for (int i = 0; i < days.size(); i++) {
+            LocalDate date = days.get(i).date();
+            if (date == null) return false;
+            if (i > 0 && !date.equals(days.get(i - 1).date().plusDays(1))) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package com.loopone.loopinbe.global.redis.serializer.codec;
+
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.domain.loop.loopChecklist.dto.res.LoopChecklistResponse;
+import com.loopone.loopinbe.global.redis.serializer.BinaryCodec;
+import com.loopone.loopinbe.global.redis.serializer.CompactInput;
+import com.loopone.loopinbe.global.redis.serializer.CompactOutput;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoopDetailCodec implements BinaryCodec<LoopDetailResponse> {
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(LoopDetailResponse value, CompactOutput out) {
+        out.writeNullableLong(value.id());
+        out.writeString(value.title());
+        out.writeString(value.content());
+        out.writeDate(value.loopDate());
+        out.writeDouble(value.progress());
+        List<LoopChecklistResponse> checklists = (value.checklists() == null) ? List.of() : value.checklists();
+        out.writeVarInt(checklists.size());
+        for (LoopChecklistResponse checklist : checklists) {
+            out.writeNullableLong(checklist.id());
+            out.writeString(checklist.content());
+            out.writeNullableBoolean(checklist.completed());
+        }
+        writeRule(value.loopRule(), out);
+    }
+
+    @Override
+    public LoopDetailResponse read(CompactInput in) throws IOException {
+        Long id = in.readNullableLong();
+        String title = in.readString();
+        String content = in.readString();
+        LocalDate loopDate = in.readDate();
+        double progress = in.readDouble();
+        int size = in.readVarInt();
+        List<LoopChecklistResponse> checklists = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            checklists.add(new LoopChecklistResponse(in.readNullableLong(), in.readString(), in.readNullableBoolean()));
+        }
+        return new LoopDetailResponse(id, title, content, loopDate, progress, checklists, readRule(in));
+    }
+
+    // 반복 규칙 (리포트 캐시에서도 사용)
+    static void writeRule(LoopDetailResponse.LoopRuleDTO rule, CompactOutput out) {
+        out.writeBoolean(rule != null);
+        if (rule == null) return;
+        out.writeNullableLong(rule.ruleId());
+        out.writeEnum(rule.scheduleType());
+        out.writeBoolean(rule.daysOfWeek() != null);
+        if (rule.daysOfWeek() != null) {
+            // 순서를 보존하기 위해 요일 목록을 그대로 기록 (최대 7바이트)
+            out.writeVarInt(rule.daysOfWeek().size());
+            for (DayOfWeek day : rule.daysOfWeek()) out.writeByte(day.getValue());
+        }
+        out.writeDate(rule.startDate());
+        out.writeDate(rule.endDate());
+    }
+
+    static LoopDetailResponse.LoopRuleDTO readRule(CompactInput in) throws IOException {
+        if (!in.readBoolean()) return null;
+        Long ruleId = in.readNullableLong();
+        RepeatType scheduleType = in.readEnum(RepeatType.class);
+        List<DayOfWeek> daysOfWeek = null;
+        if (in.readBoolean()) {
+            int size = in.readVarInt();
+            daysOfWeek = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) daysOfWeek.add(DayOfWeek.of(in.readByte()));
+        }
+        return new LoopDetailResponse.LoopRuleDTO(ruleId, scheduleType, daysOfWeek, in.readDate(), in.readDate());
+    }
+}
@@ -0,0 +1,131 @@
+package com.loopone.loopinbe.global.redis.serializer.codec;
+
+import com.loopone.loopinbe.domain.loop.loopReport.dto.MonthReportDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.ProgressLoopDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.WeekReportDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.res.LoopReportResponse;
+import com.loopone.loopinbe.domain.loop.loopReport.enums.DetailReportState;
+import com.loopone.loopinbe.domain.loop.loopReport.enums.ReportState;
+import com.loopone.loopinbe.global.redis.serializer.BinaryCodec;
+import com.loopone.loopinbe.global.redis.serializer.CompactInput;
+import com.loopone.loopinbe.global.redis.serializer.CompactOutput;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 리포트 캐시: 날짜별 카드(Map<LocalDate, Long>)는 [첫 날짜 + 날짜 간격 + 값] 으로 기록
+public class LoopReportCodec implements BinaryCodec<LoopReportResponse> {
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(LoopReportResponse value, CompactOutput out) {
+        out.writeEnum(value.loopReportState());
+        out.writeString(value.reportStateMessage());
+        out.writeNullableLong(value.sevenDayDoneCount());
+        out.writeNullableLong(value.sevenDayTotalCount());
+        out.writeNullableLong(value.tenDayAvgPercent());
+
+        WeekReportDto week = value.weekReportDto();
+        out.writeBoolean(week != null);
+        if (week != null) {
+            out.writeEnum(week.detailReportState());
+            out.writeNullableLong(week.weekAvgPercent());
+            writeCard(week.weekCard(), out);
+            writeProgressLoop(week.goodProgressLoopDto(), out);
+            writeProgressLoop(week.badProgressLoopDto(), out);
+        }
+
+        MonthReportDto month = value.monthReportDto();
+        out.writeBoolean(month != null);
+        if (month != null) {
+            out.writeEnum(month.detailReportState());
+            writeCard(month.monthCard(), out);
+            writeProgressLoop(month.goodProgressLoopDto(), out);
+            writeProgressLoop(month.badProgressLoopDto(), out);
+        }
+    }
+
+    @Override
+    public LoopReportResponse read(CompactInput in) throws IOException {
+        ReportState state = in.readEnum(ReportState.class);
+        String message = in.readString();
+        Long sevenDayDoneCount = in.readNullableLong();
+        Long sevenDayTotalCount = in.readNullableLong();
+        Long tenDayAvgPercent = in.readNullableLong();
+
+        WeekReportDto week = null;
+        if (in.readBoolean()) {
+            week = new WeekReportDto(
+                    in.readEnum(DetailReportState.class),
+                    in.readNullableLong(),
+                    readCard(in),
+                    readProgressLoop(in),
+                    readProgressLoop(in)
+            );
+        }
+        MonthReportDto month = null;
+        if (in.readBoolean()) {
+            month = new MonthReportDto(
+                    in.readEnum(DetailReportState.class),
+                    readCard(in),
+                    readProgressLoop(in),
+                    readProgressLoop(in)
+            );
+        }
+        return new LoopReportResponse(state, message, sevenDayDoneCount, sevenDayTotalCount, tenDayAvgPercent, week, month);
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    // 크기(+1, 0=null) / 첫 날짜 / 이후 날짜는 직전 날짜와의 간격
+    private void writeCard(Map<LocalDate, Long> card, CompactOutput out) {
+        if (card == null) {
+            out.writeVarInt(0);
+            return;
+        }
+        out.writeVarInt(card.size() + 1);
+        LocalDate prev = null;
+        for (Map.Entry<LocalDate, Long> entry : card.entrySet()) {
+            LocalDate date = entry.getKey();
+            if (prev == null) {
+                out.writeDate(date);
+            } else {
+                out.writeSignedVarLong(date.toEpochDay() - prev.toEpochDay());
+            }
+            out.writeNullableLong(entry.getValue());
+            prev = date;
+        }
+    }
+
+    private Map<LocalDate, Long> readCard(CompactInput in) throws IOException {
+        int size = in.readVarInt();
+        if (size == 0) return null;
+        size -= 1;
+        Map<LocalDate, Long> card = new LinkedHashMap<>(size * 2);
+        LocalDate prev = null;
+        for (int i = 0; i < size; i++) {
+            LocalDate date = (prev == null) ? in.readDate() : prev.plusDays(in.readSignedVarLong());
+            card.put(date, in.readNullableLong());
+            prev = date;
+        }
+        return card;
+    }
+
+    private void writeProgressLoop(ProgressLoopDto dto, CompactOutput out) {
+        out.writeBoolean(dto != null);
+        if (dto == null) return;
+        out.writeString(dto.loopTitle());
+        LoopDetailCodec.writeRule(dto.loopRule(), out);
+        out.writeNullableLong(dto.loopAchievePercent());
+        out.writeString(dto.message());
+    }
+
+    private ProgressLoopDto readProgressLoop(CompactInput in) throws IOException {
+        if (!in.readBoolean()) return null;
+        return new ProgressLoopDto(in.readString(), LoopDetailCodec.readRule(in), in.readNullableLong(), in.readString());
+    }
+}
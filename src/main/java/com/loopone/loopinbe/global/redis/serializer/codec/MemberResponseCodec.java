@@ -0,0 +1,28 @@
+package com.loopone.loopinbe.global.redis.serializer.codec;
+
+import com.loopone.loopinbe.domain.account.member.dto.res.MemberResponse;
+import com.loopone.loopinbe.global.redis.serializer.BinaryCodec;
+import com.loopone.loopinbe.global.redis.serializer.CompactInput;
+import com.loopone.loopinbe.global.redis.serializer.CompactOutput;
+
+import java.io.IOException;
+
+public class MemberResponseCodec implements BinaryCodec<MemberResponse> {
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(MemberResponse value, CompactOutput out) {
+        out.writeNullableLong(value.getId());
+        out.writeString(value.getEmail());
+        out.writeString(value.getNickname());
+        out.writeString(value.getProfileImageUrl());
+    }
+
+    @Override
+    public MemberResponse read(CompactInput in) throws IOException {
+        return new MemberResponse(in.readNullableLong(), in.readString(), in.readString(), in.readString());
+    }
+}
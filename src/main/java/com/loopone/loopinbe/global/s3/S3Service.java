@@ -2,6 +2,8 @@ package com.loopone.loopinbe.global.s3;
 
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
 import com.loopone.loopinbe.domain.chat.chatMessage.enums.AttachmentType;
+import com.loopone.loopinbe.global.concurrency.Downstream;
+import com.loopone.loopinbe.global.concurrency.DownstreamLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ import java.util.UUID;
 public class S3Service {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final DownstreamLimiter downstreamLimiter;
     private static final String REGION_ENDPOINT = "s3.ap-northeast-2.amazonaws.com";
 
     @Value("${spring.aws.credentials.s3.bucket}")
@@ -40,7 +43,7 @@ public class S3Service {
                 .contentType(file.getContentType())
                 .contentDisposition("inline")
                 .build();
-        s3Client.putObject(req, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        putObject(req, file);
 
         return new ChatAttachment(
                 AttachmentType.IMAGE,
@@ -62,7 +65,7 @@ public class S3Service {
                 .contentType(file.getContentType())
                 .contentDisposition(disposition) // 객체 메타데이터로 저장(직접 URL 접근 시에도 도움)
                 .build();
-        s3Client.putObject(req, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        putObject(req, file);
 
         return new ChatAttachment(
                 AttachmentType.FILE,
@@ -79,7 +82,7 @@ public class S3Service {
                 .bucket(BUCKET_NAME)
                 .key(key)
                 .build();
-        s3Client.deleteObject(req);
+        downstreamLimiter.run(Downstream.S3, () -> s3Client.deleteObject(req));
     }
 
     public void deleteAllByKeys(List<String> keys) {
@@ -110,6 +113,11 @@ public class S3Service {
 
     // ----------------- 헬퍼 메서드 -----------------
 
+    private void putObject(PutObjectRequest req, MultipartFile file) throws IOException {
+        downstreamLimiter.run(Downstream.S3, () ->
+                s3Client.putObject(req, RequestBody.fromInputStream(file.getInputStream(), file.getSize())));
+    }
+
     // public url 형태가 필요하면 사용
     public String toPublicUrl(String key) {
         return "https://" + BUCKET_NAME + "." + REGION_ENDPOINT + "/" + key;
@@ -0,0 +1,22 @@
+package com.loopone.loopinbe.global.security;
+
+import com.loopone.loopinbe.domain.account.member.entity.Member;
+
+import java.time.Instant;
+
+// Access Token 한 번 파싱한 결과 (서명/만료/타입 검증 완료)
+public record AccessTokenClaims(
+        String email,                 // subject
+        String jti,                   // 과거 토큰은 null 가능
+        Long memberId,                // 과거 토큰은 null
+        String nickname,
+        Member.MemberRole role,
+        Integer claimsVersion,        // 클레임 구성 버전 (JwtTokenProvider.CLAIMS_VERSION)
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    // 클레임만으로 CurrentUserDto 를 만들 수 있는지 (현재 버전으로 발급된 토큰인지)
+    public boolean hasPrincipalClaims() {
+        return memberId != null && Integer.valueOf(JwtTokenProvider.CLAIMS_VERSION).equals(claimsVersion);
+    }
+}
@@ -1,6 +1,8 @@
 package com.loopone.loopinbe.global.security;
 
+import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
 import com.loopone.loopinbe.domain.account.auth.service.AccessTokenDenyListService;
+import com.loopone.loopinbe.domain.account.auth.service.CurrentUserService;
 import com.loopone.loopinbe.domain.account.auth.service.RefreshTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,9 +12,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,13 +22,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final CurrentUserService currentUserService;
     private final RefreshTokenService refreshTokenService;
     private final AccessTokenDenyListService accessTokenDenyListService;
     private final TokenResolver tokenResolver;
@@ -68,31 +70,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             responseUnauthorized(response, "인증 실패");
             return;
         }
+        AccessTokenClaims claims = null;
         try {
-            // 토큰 유효성 검사
-            if (!jwtTokenProvider.validateAccessToken(accessToken)) {
+            // 토큰 유효성 검사 + 클레임 추출 (서명 검증 1회)
+            claims = jwtTokenProvider.parseAccessToken(accessToken);
+            if (claims == null) {
                 log.warn("유효하지 않은 Access Token");
                 responseUnauthorized(response, "유효하지 않은 Access Token 입니다.");
                 return;
             }
-            // Deny-list(즉시 무효화) 체크
-            String jti = null;
-            try {
-                jti = jwtTokenProvider.getJti(accessToken); // jti 없는 과거 토큰 대비
-            } catch (Exception ignore) {} // 과거 토큰 호환
+            // Deny-list(즉시 무효화) 체크 (jti 없는 과거 토큰 호환)
+            String jti = claims.jti();
             if (jti != null && accessTokenDenyListService.isDenied(jti)) {
                 log.warn("Deny-list에 등록된 토큰입니다. jti={}", jti);
                 responseUnauthorized(response, "이미 로그아웃된 토큰입니다.");
                 return;
             }
-            // 이메일 추출
-            String email = jwtTokenProvider.getEmailFromToken(accessToken);
-            log.info("정상적으로 사용자 정보를 토큰으로부터 가져왔습니다. Email: {}", email);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            // 클레임으로 현재 사용자 구성 (과거 토큰/회원 정보 변경 시에만 캐시된 회원 조회)
+            CurrentUserDto currentUser = currentUserService.resolve(claims);
+            if (currentUser == null) {
+                throw new IllegalStateException("사용자를 찾을 수 없습니다: " + claims.email());
+            }
+            log.debug("정상적으로 사용자 정보를 토큰으로부터 가져왔습니다. memberId: {}", currentUser.id());
 
             // JWT 기반 인증 객체 생성 (비밀번호 없이)
+            String role = currentUser.role() != null ? currentUser.role().name() : "ROLE_USER";
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    new UsernamePasswordAuthenticationToken(currentUser, null, List.of(new SimpleGrantedAuthority(role)));
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             // SecurityContextHolder에 직접 세팅
@@ -100,10 +104,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             log.error("JWT 인증 처리 실패: {}", e.getMessage(), e);
             SecurityContextHolder.clearContext();
-            try {
-                String email = jwtTokenProvider.getEmailFromToken(accessToken);
-                refreshTokenService.deleteRefreshToken(email);
-            } catch (Exception ignored) {
+            if (claims != null) {
+                try {
+                    refreshTokenService.deleteRefreshToken(claims.email());
+                } catch (Exception ignored) {
+                }
             }
         }
         filterChain.doFilter(request, response);
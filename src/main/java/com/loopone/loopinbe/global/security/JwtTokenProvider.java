@@ -1,5 +1,6 @@
 package com.loopone.loopinbe.global.security;
 
+import com.loopone.loopinbe.domain.account.member.entity.Member;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -19,12 +20,21 @@ import java.util.UUID;
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    // Access Token 클레임 구성이 바뀌면 올림 (이전 버전 토큰은 회원 조회로 대체)
+    public static final int CLAIMS_VERSION = 1;
+    private static final String CLAIM_MEMBER_ID = "mid";
+    private static final String CLAIM_NICKNAME = "nickname";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_VERSION = "cv";
+
     private final SecretKey key;
+    private final JwtParser parser;
 
-    // SecretKey 초기화 (한 번만 생성)
+    // SecretKey, 파서 초기화 (한 번만 생성)
     public JwtTokenProvider(@Value("${custom.jwt.secretKey}") String secretKey) {
         byte[] keyBytes = Base64.getDecoder().decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     // JWT 생성
@@ -40,6 +50,51 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // ACCESS Token 생성 (요청마다 회원 조회 없이 CurrentUserDto 를 만들 수 있도록 식별 정보 포함)
+    public String generateAccessToken(Member member, Duration expiration) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(member.getEmail())
+                .id(UUID.randomUUID().toString())
+                .claim("tokenType", "ACCESS")
+                .claim(CLAIM_MEMBER_ID, member.getId())
+                .claim(CLAIM_NICKNAME, member.getNickname())
+                .claim(CLAIM_ROLE, member.getRole() != null ? member.getRole().name() : null)
+                .claim(CLAIM_VERSION, CLAIMS_VERSION)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(expiration)))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    // ACCESS Token 한 번만 파싱/검증 (만료·타입 불일치면 null, 서명 오류 등은 예외)
+    public AccessTokenClaims parseAccessToken(String token) {
+        Claims claims;
+        try {
+            claims = parse(token);
+        } catch (ExpiredJwtException e) {
+            log.warn("토큰이 만료되었습니다: {}", e.getMessage());
+            return null;
+        }
+        String tokenType = claims.get("tokenType", String.class);
+        if (!"ACCESS".equals(tokenType)) {
+            log.warn("토큰 타입 불일치: expected=ACCESS, actual={}", tokenType);
+            return null;
+        }
+        Number memberId = claims.get(CLAIM_MEMBER_ID, Number.class);
+        Number claimsVersion = claims.get(CLAIM_VERSION, Number.class);
+        return new AccessTokenClaims(
+                claims.getSubject(),
+                claims.getId(),
+                memberId != null ? memberId.longValue() : null,
+                claims.get(CLAIM_NICKNAME, String.class),
+                parseRole(claims.get(CLAIM_ROLE, String.class)),
+                claimsVersion != null ? claimsVersion.intValue() : null,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
     // ACCESS Token 검증
     public boolean validateAccessToken(String token) {
         return validateToken(token, "ACCESS");
@@ -53,11 +108,7 @@ public class JwtTokenProvider {
     // JWT 검증
     private boolean validateToken(String token, String expectedType) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parse(token);
 
             String tokenType = claims.get("tokenType", String.class);
             if (!expectedType.equals(tokenType)) {
@@ -73,12 +124,7 @@ public class JwtTokenProvider {
 
     // 이메일 추출
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parse(token).getSubject();
     }
 
     // jti/TTL 헬퍼
@@ -94,10 +140,15 @@ public class JwtTokenProvider {
 
     // 공통 파서
     private Claims parse(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private Member.MemberRole parseRole(String role) {
+        if (role == null) return null;
+        try {
+            return Member.MemberRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.loopone.loopinbe.global.webSocket.auth;
 
+import com.loopone.loopinbe.global.security.AccessTokenClaims;
 import com.loopone.loopinbe.global.security.JwtTokenProvider;
 import com.loopone.loopinbe.domain.account.auth.service.AccessTokenDenyListService;
 import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
@@ -37,29 +38,32 @@ public class JwtWsHandshakeInterceptor implements HandshakeInterceptor {
 
             // 1) 토큰 추출: Cookie only
             String accessToken = resolveAccessTokenFromCookieOnly(servletReq);
-            if (!hasText(accessToken) || !jwtTokenProvider.validateAccessToken(accessToken)) {
+            AccessTokenClaims claims = hasText(accessToken) ? jwtTokenProvider.parseAccessToken(accessToken) : null;
+            if (claims == null) {
                 log.warn("[WS] invalid/missing token (cookie only)");
                 setStatus(res, HttpStatus.UNAUTHORIZED);
                 return false;
             }
 
             // 2) deny-list (즉시 무효화) 체크 ← 추가 포인트
-            String jti = null;
-            try { jti = jwtTokenProvider.getJti(accessToken); } catch (Exception ignore) {}
+            String jti = claims.jti();
             if (jti != null && accessTokenDenyListService.isDenied(jti)) {
                 log.info("[WS] denied by logout. jti={}", jti);
                 setStatus(res, HttpStatus.UNAUTHORIZED);
                 return false;
             }
 
-            // 3) 이메일/subject 파싱 → memberId 조회
-            String email = jwtTokenProvider.getEmailFromToken(accessToken);
+            // 3) 이메일/memberId
+            String email = claims.email();
             if (email == null) {
                 log.warn("[WS] email not found in token");
                 setStatus(res, HttpStatus.UNAUTHORIZED);
                 return false;
             }
-            Long memberId = memberRepository.findIdByEmail(email).orElse(null);
+            // 현재 버전 토큰은 클레임의 memberId 사용, 과거 토큰만 조회
+            Long memberId = claims.hasPrincipalClaims()
+                    ? claims.memberId()
+                    : memberRepository.findIdByEmail(email).orElse(null);
             if (memberId == null) {
                 log.warn("[WS] member not found by email={}", email);
                 setStatus(res, HttpStatus.UNAUTHORIZED);
@@ -0,0 +1,82 @@
+package com.loopone.loopinbe.global.webSocket.cluster;
+
+import com.loopone.loopinbe.global.webSocket.handler.ChatWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 채팅 이벤트 클러스터 팬아웃
+// - 저장은 Kafka 컨슈머 그룹에서 한 번만 처리하고, 결과 payload 는 방에 세션을 가진 노드에만 전달
+// - 노드별 채널(ws:node:{nodeId})로 Redis pub/sub 발행 -> 각 노드는 자기 로컬 세션에만 전송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatClusterBroadcaster implements MessageListener {
+    private static final String NODE_CHANNEL_PREFIX = "ws:node:";
+    private static final char SEPARATOR = '\n';
+
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatRoomPresenceRegistry chatRoomPresenceRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel(chatRoomPresenceRegistry.nodeId())));
+    }
+
+    // 방 전체(모든 노드)로 브로드캐스트
+    public void broadcast(Long chatRoomId, String payload) {
+        // 자기 노드는 pub/sub 없이 바로 전송
+        chatWebSocketHandler.broadcastToRoom(chatRoomId, payload);
+
+        String self = chatRoomPresenceRegistry.nodeId();
+        List<String> remotes = chatRoomPresenceRegistry.nodes(chatRoomId).stream()
+                .filter(nodeId -> !nodeId.equals(self))
+                .toList();
+        if (remotes.isEmpty()) return;
+
+        byte[] body = (chatRoomId + String.valueOf(SEPARATOR) + payload).getBytes(StandardCharsets.UTF_8);
+        List<Object> receivers = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String nodeId : remotes) {
+                connection.publish(channel(nodeId).getBytes(StandardCharsets.UTF_8), body);
+            }
+            return null;
+        });
+        // 구독자가 없는 노드는 종료된 노드로 보고 방 목록에서 제거
+        for (int i = 0; i < remotes.size(); i++) {
+            if (receivers.get(i) instanceof Long count && count == 0L) {
+                log.info("Remove stale WS node from room. roomId={}, nodeId={}", chatRoomId, remotes.get(i));
+                chatRoomPresenceRegistry.removeNode(chatRoomId, remotes.get(i));
+            }
+        }
+    }
+
+    // 다른 노드가 보낸 payload 를 로컬 세션에 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(SEPARATOR);
+        if (idx <= 0) return;
+        try {
+            Long chatRoomId = Long.parseLong(body.substring(0, idx));
+            chatWebSocketHandler.broadcastToRoom(chatRoomId, body.substring(idx + 1));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid cluster broadcast message. length={}", body.length());
+        }
+    }
+
+    private String channel(String nodeId) {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+}
@@ -0,0 +1,110 @@
+package com.loopone.loopinbe.global.webSocket.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+// 채팅방 -> 세션을 가진 노드 목록 (Redis Set: ws:room:{chatRoomId}:nodes)
+// - 노드에 방의 첫 세션이 붙으면 등록, 마지막 세션이 끊기면 해제
+// - 죽은 노드는 브로드캐스트 시 수신자 0으로 감지되어 제거, 살아 있는 노드는 주기적으로 재등록
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomPresenceRegistry {
+    private static final String ROOM_NODES_PREFIX = "ws:room:";
+    private static final String ROOM_NODES_SUFFIX = ":nodes";
+    private static final int LOCK_STRIPES = 64;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> localRooms = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] locks = newLocks();
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // 로컬 세션 변화 후 호출: hasLocalSessions 를 잠금 안에서 평가해 등록/해제 순서가 꼬이지 않도록 함
+    public void sync(Long chatRoomId, BooleanSupplier hasLocalSessions) {
+        // synchronized 대신 ReentrantLock: 잠금 안의 Redis I/O 가 가상 스레드 캐리어를 고정(pinning)하지 않도록
+        ReentrantLock lock = locks[(int) Math.floorMod(chatRoomId, (long) LOCK_STRIPES)];
+        lock.lock();
+        try {
+            if (hasLocalSessions.getAsBoolean()) {
+                if (localRooms.add(chatRoomId)) {
+                    stringRedisTemplate.opsForSet().add(key(chatRoomId), nodeId);
+                }
+            } else if (localRooms.remove(chatRoomId)) {
+                stringRedisTemplate.opsForSet().remove(key(chatRoomId), nodeId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Set<String> nodes(Long chatRoomId) {
+        Set<String> nodes = stringRedisTemplate.opsForSet().members(key(chatRoomId));
+        return nodes == null ? Set.of() : nodes;
+    }
+
+    // 응답하지 않는 노드 제거
+    public void removeNode(Long chatRoomId, String staleNodeId) {
+        stringRedisTemplate.opsForSet().remove(key(chatRoomId), staleNodeId);
+    }
+
+    // 잘못 제거된 경우(구독 재연결 중 수신자 0 등)를 대비해 로컬 방 목록 재등록
+    @Scheduled(fixedDelayString = "30000")
+    public void refresh() {
+        List<Long> rooms = List.copyOf(localRooms);
+        if (rooms.isEmpty()) return;
+        byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long chatRoomId : rooms) {
+                connection.setCommands().sAdd(key(chatRoomId).getBytes(StandardCharsets.UTF_8), member);
+            }
+            return null;
+        });
+    }
+
+    // 정상 종료 시 이 노드를 모든 방에서 해제
+    @PreDestroy
+    public void leaveAll() {
+        List<Long> rooms = List.copyOf(localRooms);
+        localRooms.clear();
+        if (rooms.isEmpty()) return;
+        try {
+            byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long chatRoomId : rooms) {
+                    connection.setCommands().sRem(key(chatRoomId).getBytes(StandardCharsets.UTF_8), member);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to leave chat rooms on shutdown. nodeId={}, rooms={}", nodeId, rooms.size());
+        }
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private String key(Long chatRoomId) {
+        return ROOM_NODES_PREFIX + chatRoomId + ROOM_NODES_SUFFIX;
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new ReentrantLock();
+        return locks;
+    }
+}
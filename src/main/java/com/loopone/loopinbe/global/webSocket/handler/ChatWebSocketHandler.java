@@ -11,7 +11,10 @@ import com.loopone.loopinbe.domain.chat.chatMessage.service.ChatMessageService;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomMemberService;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomService;
 import com.loopone.loopinbe.global.kafka.event.chatMessage.ChatMessageEventPublisher;
+import com.loopone.loopinbe.global.webSocket.cluster.ChatRoomPresenceRegistry;
 import com.loopone.loopinbe.global.webSocket.payload.ChatWebSocketPayload;
+import com.loopone.loopinbe.global.webSocket.util.WsOutboundDispatcher;
+import com.loopone.loopinbe.global.webSocket.util.WsOutboundQueue;
 import com.loopone.loopinbe.global.webSocket.util.WsSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,10 +44,13 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     private final ChatMessageConverter chatMessageConverter;
     private final ObjectMapper objectMapper;
     private final ChatMessageEventPublisher chatMessageEventPublisher;
-    private final Map<Long, CopyOnWriteArrayList<WebSocketSession>> chatRoomSessions = new ConcurrentHashMap<>();
+    private final Map<Long, CopyOnWriteArrayList<WsOutboundQueue>> chatRoomSessions = new ConcurrentHashMap<>(); // 방 -> 세션 송신 대기열
     private final Map<WebSocketSession, Long> sessionRoomMap = new ConcurrentHashMap<>(); // 세션 -> 방 매핑
     private final WsSessionRegistry wsSessionRegistry;
     private final Map<WebSocketSession, Long> sessionMemberMap = new ConcurrentHashMap<>(); // 세션 → 멤버 매핑
+    private final ChatRoomPresenceRegistry chatRoomPresenceRegistry; // 방 -> 노드 매핑 (클러스터 팬아웃용)
+    private final WsOutboundDispatcher wsOutboundDispatcher;
+    private final Map<WebSocketSession, WsOutboundQueue> sessionQueueMap = new ConcurrentHashMap<>(); // 세션 -> 송신 대기열
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -72,7 +78,9 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             sendWsErrorAndClose(session, "FORBIDDEN", "You can connect only to non-bot rooms you joined.");
             return;
         }
-        chatRoomSessions.computeIfAbsent(chatRoomId, k -> new CopyOnWriteArrayList<>()).add(session);
+        WsOutboundQueue outbound = wsOutboundDispatcher.open(session);
+        sessionQueueMap.put(session, outbound);
+        addRoomSession(chatRoomId, outbound);
         sessionRoomMap.put(session, chatRoomId);
         sessionMemberMap.put(session, memberId);
         wsSessionRegistry.add(memberId, session);
@@ -172,7 +180,14 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     private void sendWsError(WebSocketSession s, String code, String msg) {
         try {
             var err = java.util.Map.of("type", "ERROR", "code", code, "message", msg);
-            s.sendMessage(new TextMessage(objectMapper.writeValueAsString(err)));
+            TextMessage frame = new TextMessage(objectMapper.writeValueAsString(err));
+            // 등록된 세션은 브로드캐스트와 동시 전송되지 않도록 대기열 경유
+            WsOutboundQueue outbound = sessionQueueMap.get(s);
+            if (outbound != null) {
+                outbound.offer(frame);
+                return;
+            }
+            s.sendMessage(frame);
         } catch (IOException ignore) {
         }
     }
@@ -186,24 +201,19 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     }
 
     // 실시간 메시지 채팅방에 브로드캐스트
+    // - 프레임은 한 번만 만들어 모든 세션이 공유, 각 세션 대기열에 넣기만 하므로 느린 소켓이 호출 스레드를 막지 않음
     public void broadcastToRoom(Long chatRoomId, String payload) {
-        CopyOnWriteArrayList<WebSocketSession> sessions = chatRoomSessions.get(chatRoomId);
+        CopyOnWriteArrayList<WsOutboundQueue> sessions = chatRoomSessions.get(chatRoomId);
         if (sessions == null)
             return;
-        for (WebSocketSession s : sessions) {
-            try {
-                if (s.isOpen()) {
-                    s.sendMessage(new TextMessage(payload));
-                } else {
-                    sessions.remove(s); // COW 리스트라 안전
-                }
-            } catch (IOException e) {
-                log.error("Failed to send message", e);
-                sessions.remove(s);
+        TextMessage frame = new TextMessage(payload);
+        for (WsOutboundQueue outbound : sessions) {
+            if (!outbound.offer(frame)) {
+                sessions.remove(outbound); // 닫혔거나 뒤처져서 종료된 세션 (COW 리스트라 안전)
             }
         }
         if (sessions.isEmpty())
-            chatRoomSessions.remove(chatRoomId);
+            removeRoomIfEmpty(chatRoomId);
     }
 
     // 60초마다 Ping 프레임 전송 (조용한 방 keepalive 목적)
@@ -214,16 +224,9 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
         for (var entry : chatRoomSessions.entrySet()) {
             var sessions = entry.getValue();
-            for (WebSocketSession s : sessions) {
-                if (!s.isOpen()) {
-                    sessions.remove(s);
-                    continue;
-                }
-                try {
-                    s.sendMessage(ping);
-                } catch (Exception e) { // 보내기 실패 = 사실상 죽은 세션일 확률 높음
-                    sessions.remove(s);
-                    try { s.close(); } catch (Exception ignore) {}
+            for (WsOutboundQueue outbound : sessions) {
+                if (!outbound.offer(ping)) { // 닫혔거나 뒤처진 세션 (대기열에서 연결 종료 처리)
+                    sessions.remove(outbound);
                 }
             }
         }
@@ -232,12 +235,13 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         Long chatRoomId = sessionRoomMap.remove(session);
-        if (chatRoomId != null) {
+        WsOutboundQueue outbound = sessionQueueMap.remove(session);
+        if (chatRoomId != null && outbound != null) {
             var sessions = chatRoomSessions.get(chatRoomId);
             if (sessions != null) {
-                sessions.remove(session);
+                sessions.remove(outbound);
                 if (sessions.isEmpty())
-                    chatRoomSessions.remove(chatRoomId);
+                    removeRoomIfEmpty(chatRoomId);
             }
         }
         // 멤버 세션 해제
@@ -249,4 +253,21 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             log.info("WS disconnected: {} (no member mapping) room={}", session.getId(), chatRoomId);
         }
     }
+
+    // ========== 헬퍼 메서드 ==========
+    // 방의 첫 로컬 세션이면 이 노드를 방 노드 목록에 등록
+    private void addRoomSession(Long chatRoomId, WsOutboundQueue outbound) {
+        chatRoomSessions.compute(chatRoomId, (k, sessions) -> {
+            if (sessions == null) sessions = new CopyOnWriteArrayList<>();
+            sessions.add(outbound);
+            return sessions;
+        });
+        chatRoomPresenceRegistry.sync(chatRoomId, () -> chatRoomSessions.containsKey(chatRoomId));
+    }
+
+    // 비어 있는 경우에만 원자적으로 제거 (동시에 들어온 세션 유실 방지) 후 노드 등록 해제
+    private void removeRoomIfEmpty(Long chatRoomId) {
+        chatRoomSessions.computeIfPresent(chatRoomId, (k, sessions) -> sessions.isEmpty() ? null : sessions);
+        chatRoomPresenceRegistry.sync(chatRoomId, () -> chatRoomSessions.containsKey(chatRoomId));
+    }
 }
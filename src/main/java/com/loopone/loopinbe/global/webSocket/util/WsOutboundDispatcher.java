@@ -0,0 +1,27 @@
+package com.loopone.loopinbe.global.webSocket.util;
+
+import com.loopone.loopinbe.global.config.properties.WsOutboundProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 세션별 송신 대기열 생성 (드레이너는 가상 스레드 - 느린 소켓이 블로킹돼도 플랫폼 스레드를 점유하지 않음)
+@Component
+@RequiredArgsConstructor
+public class WsOutboundDispatcher {
+    private final WsOutboundProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public WsOutboundQueue open(WebSocketSession session) {
+        return new WsOutboundQueue(session, properties.queueCapacity(), properties.sendTimeLimit().toNanos(), executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopone.loopinbe.global.webSocket.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 세션별 송신 대기열
+// - 호출 스레드(Kafka 리스너 등)는 enqueue 만 하고 즉시 반환, 실제 전송은 드레이너(가상 스레드) 하나가 순서대로 처리
+// - 대기열이 가득 차거나 전송이 sendTimeLimit 이상 멈춰 있으면 느린 클라이언트로 보고 연결 종료
+//   (close 도 블로킹될 수 있으므로 호출 스레드가 아닌 executor 에서 수행)
+@Slf4j
+public class WsOutboundQueue {
+    private final WebSocketSession session;
+    private final BlockingQueue<WebSocketMessage<?>> queue;
+    private final Executor executor;
+    private final long sendTimeLimitNanos;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean terminated = new AtomicBoolean();
+    private volatile long sendStartedAt;  // 0 = 전송 중 아님
+
+    public WsOutboundQueue(WebSocketSession session, int capacity, long sendTimeLimitNanos, Executor executor) {
+        this.session = session;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.executor = executor;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    // 프레임 적재 (false = 연결이 닫혔거나 뒤처져서 종료됨)
+    public boolean offer(WebSocketMessage<?> message) {
+        if (terminated.get() || !session.isOpen()) return false;
+        long started = sendStartedAt;
+        if (started != 0 && System.nanoTime() - started > sendTimeLimitNanos) {
+            terminate("send stalled");
+            return false;
+        }
+        if (!queue.offer(message)) {
+            terminate("outbound queue full");
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            WebSocketMessage<?> message;
+            while ((message = queue.poll()) != null) {
+                if (terminated.get() || !session.isOpen()) {
+                    queue.clear();
+                    return;
+                }
+                sendStartedAt = System.nanoTime();
+                try {
+                    session.sendMessage(message);
+                } catch (Exception e) {
+                    log.debug("WS send failed: {} {}", session.getId(), e.getMessage());
+                    terminate("send failed");
+                    return;
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        } finally {
+            draining.set(false);
+            // 드레이너 종료 직전에 들어온 프레임 처리
+            if (!queue.isEmpty() && !terminated.get() && session.isOpen()) scheduleDrain();
+        }
+    }
+
+    // 종료 표시와 대기열 비우기는 즉시, 실제 close 는 executor 로 넘김
+    private void terminate(String reason) {
+        if (!terminated.compareAndSet(false, true)) return;
+        queue.clear();
+        log.warn("WS slow consumer disconnected: {} reason={}", session.getId(), reason);
+        executor.execute(() -> {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception ignore) {
+            }
+        });
+    }
+}
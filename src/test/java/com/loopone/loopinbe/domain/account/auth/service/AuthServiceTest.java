@@ -84,7 +84,7 @@ class AuthServiceTest {
 
         given(memberRepository.findByEmail(email))
                 .willReturn(Optional.of(m));
-        given(jwtTokenProvider.generateToken(eq(email), eq("ACCESS"), any()))
+        given(jwtTokenProvider.generateAccessToken(eq(m), any()))
                 .willReturn("access-token-123");
         given(jwtTokenProvider.generateToken(eq(email), eq("REFRESH"), any()))
                 .willReturn("refresh-token-456");
@@ -101,7 +101,7 @@ class AuthServiceTest {
         assertThat(resp.getRefreshToken()).isEqualTo("refresh-token-456");
 
         verify(memberRepository).findByEmail(email);
-        verify(jwtTokenProvider).generateToken(eq(email), eq("ACCESS"), any());
+        verify(jwtTokenProvider).generateAccessToken(eq(m), any());
         verify(jwtTokenProvider).generateToken(eq(email), eq("REFRESH"), any());
         verify(refreshTokenService).saveRefreshToken(
                 eq("jun@loop.in"),
@@ -128,6 +128,7 @@ class AuthServiceTest {
                 .hasMessageContaining(ReturnCode.USER_NOT_FOUND.getMessage());
 
         verify(memberRepository).findByEmail(email);
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), any());
         verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), any());
         verify(refreshTokenService, never()).saveRefreshToken(anyString(), anyString(), any());
     }
@@ -0,0 +1,191 @@
+package com.loopone.loopinbe.domain.account.auth.service;
+
+import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
+import com.loopone.loopinbe.domain.account.auth.serviceImpl.CurrentUserServiceImpl;
+import com.loopone.loopinbe.domain.account.member.converter.MemberConverter;
+import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.account.member.service.MemberCardService;
+import com.loopone.loopinbe.global.config.properties.LayeredCacheProperties;
+import com.loopone.loopinbe.global.security.AccessTokenClaims;
+import com.loopone.loopinbe.global.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserServiceTest {
+    private static final Long MEMBER_ID = 7L;
+    private static final String EMAIL = "jun@loop.in";
+
+    @Mock MemberRepository memberRepository;
+    @Mock MemberConverter memberConverter;
+    @Mock StringRedisTemplate stringRedisTemplate;
+    @Mock ValueOperations<String, String> valueOperations;
+    @Mock RedisMessageListenerContainer redisMessageListenerContainer;
+
+    CurrentUserServiceImpl currentUserService;
+
+    @BeforeEach
+    void setUp() {
+        currentUserService = new CurrentUserServiceImpl(memberRepository, memberConverter, stringRedisTemplate,
+                redisMessageListenerContainer, new LayeredCacheProperties(null, null, null), Duration.ofMinutes(30));
+    }
+
+    // ====== 헬퍼 ======
+    private AccessTokenClaims claims(Integer claimsVersion, Instant issuedAt) {
+        return new AccessTokenClaims(EMAIL, "jti-1", claimsVersion != null ? MEMBER_ID : null, "jun",
+                Member.MemberRole.ROLE_USER, claimsVersion, issuedAt, issuedAt.plus(Duration.ofMinutes(30)));
+    }
+
+    private CurrentUserDto cu() {
+        return new CurrentUserDto(MEMBER_ID, EMAIL, null, "jun-renamed", null, null, null, null,
+                Member.State.NORMAL, Member.MemberRole.ROLE_USER, Member.OAuthProvider.GOOGLE, "pid");
+    }
+
+    private void givenMemberFound() {
+        Member member = Member.builder().id(MEMBER_ID).email(EMAIL).nickname("jun-renamed").build();
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+        given(memberConverter.toCurrentUserDto(member)).willReturn(cu());
+    }
+
+    private void givenChangeMarker(String value) {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(MemberCardService.CHANGED_KEY_PREFIX + MEMBER_ID)).willReturn(value);
+    }
+
+    @Test
+    @DisplayName("resolve: 변경 기록이 없는 현재 버전 토큰은 회원 조회 없이 클레임으로 구성")
+    void resolve_ClaimsOnly() {
+        givenChangeMarker(null);
+
+        CurrentUserDto result = currentUserService.resolve(claims(JwtTokenProvider.CLAIMS_VERSION, Instant.now()));
+
+        assertThat(result.id()).isEqualTo(MEMBER_ID);
+        assertThat(result.email()).isEqualTo(EMAIL);
+        assertThat(result.nickname()).isEqualTo("jun");
+        verify(memberRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("resolve: 변경 없음도 로컬에 캐시되어 같은 회원의 다음 요청은 Redis 를 조회하지 않음")
+    void resolve_UnchangedMember_CachedLocally() {
+        givenChangeMarker(null);
+        AccessTokenClaims claims = claims(JwtTokenProvider.CLAIMS_VERSION, Instant.now());
+
+        currentUserService.resolve(claims);
+        currentUserService.resolve(claims);
+
+        verify(valueOperations, times(1)).get(MemberCardService.CHANGED_KEY_PREFIX + MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("resolve: 변경 없음으로 캐시된 뒤에도 변경 브로드캐스트를 받으면 회원 조회로 폴백")
+    void resolve_ChangeBroadcastOverridesUnchanged() {
+        givenChangeMarker(null);
+        givenMemberFound();
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        currentUserService.resolve(claims(JwtTokenProvider.CLAIMS_VERSION, issuedAt));
+
+        currentUserService.onMessage(new DefaultMessage(
+                MemberCardService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(MEMBER_ID).getBytes(StandardCharsets.UTF_8)), null);
+        CurrentUserDto result = currentUserService.resolve(claims(JwtTokenProvider.CLAIMS_VERSION, issuedAt));
+
+        assertThat(result.nickname()).isEqualTo("jun-renamed");
+    }
+
+    @Test
+    @DisplayName("resolve: Redis 조회가 실패하면 변경 없음으로 보고 클레임으로 구성 (다음 요청도 Redis 재조회 안 함)")
+    void resolve_RedisFailure_TreatedAsUnchanged() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willThrow(new IllegalStateException("redis down"));
+        AccessTokenClaims claims = claims(JwtTokenProvider.CLAIMS_VERSION, Instant.now());
+
+        assertThat(currentUserService.resolve(claims).nickname()).isEqualTo("jun");
+        assertThat(currentUserService.resolve(claims).nickname()).isEqualTo("jun");
+
+        verify(valueOperations, times(1)).get(anyString());
+        verify(memberRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("resolve: cv 클레임이 없는 과거 토큰은 회원 조회로 폴백")
+    void resolve_LegacyToken_FallsBackToLookup() {
+        givenMemberFound();
+
+        CurrentUserDto result = currentUserService.resolve(claims(null, Instant.now()));
+
+        assertThat(result).isEqualTo(cu());
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("resolve: 회원 변경과 같은 초에 발급된 토큰은 변경 이전으로 보고 회원 조회로 폴백")
+    void resolve_IssuedInSameSecondAsChange_FallsBackToLookup() {
+        givenMemberFound();
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        currentUserService.onMessage(new DefaultMessage(
+                MemberCardService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(MEMBER_ID).getBytes(StandardCharsets.UTF_8)), null);
+
+        CurrentUserDto result = currentUserService.resolve(claims(JwtTokenProvider.CLAIMS_VERSION, issuedAt));
+
+        assertThat(result.nickname()).isEqualTo("jun-renamed");
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("resolve: 브로드캐스트를 놓쳐도 Redis 변경 시각이 발급 이후면 회원 조회로 폴백")
+    void resolve_ChangeMarkerInRedis_FallsBackToLookup() {
+        givenMemberFound();
+        Instant issuedAt = Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.SECONDS);
+        givenChangeMarker(String.valueOf(issuedAt.plusSeconds(10).toEpochMilli()));
+
+        CurrentUserDto result = currentUserService.resolve(claims(JwtTokenProvider.CLAIMS_VERSION, issuedAt));
+
+        assertThat(result.nickname()).isEqualTo("jun-renamed");
+    }
+
+    @Test
+    @DisplayName("resolve: 변경 이후 발급된 토큰은 다시 클레임으로 구성")
+    void resolve_IssuedAfterChange_ClaimsOnly() {
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        givenChangeMarker(String.valueOf(issuedAt.minusSeconds(10).toEpochMilli()));
+
+        CurrentUserDto result = currentUserService.resolve(claims(JwtTokenProvider.CLAIMS_VERSION, issuedAt));
+
+        assertThat(result.nickname()).isEqualTo("jun");
+        verify(memberRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("resolve: 폴백 조회에서 회원이 없으면 null")
+    void resolve_UnknownMember_ReturnsNull() {
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+
+        assertThat(currentUserService.resolve(claims(null, Instant.now()))).isNull();
+        verify(memberConverter, never()).toCurrentUserDto(any());
+    }
+}
@@ -15,6 +15,7 @@ import com.loopone.loopinbe.domain.account.member.enums.ProfileImageState;
 import com.loopone.loopinbe.domain.account.member.repository.MemberFollowRepository;
 import com.loopone.loopinbe.domain.account.member.repository.MemberFollowReqRepository;
 import com.loopone.loopinbe.domain.account.member.repository.MemberRepository;
+import com.loopone.loopinbe.domain.account.member.service.MemberCardService;
 import com.loopone.loopinbe.domain.account.member.serviceImpl.MemberServiceImpl;
 import com.loopone.loopinbe.domain.chat.chatMessage.dto.ChatAttachment;
 import com.loopone.loopinbe.domain.chat.chatRoom.service.ChatRoomService;
@@ -77,6 +78,7 @@ class MemberServiceTest {
     @MockitoBean LoopService loopService;
     @MockitoBean NotificationEventPublisher notificationEventPublisher;
     @MockitoBean AuthEventPublisher authEventPublisher;
+    @MockitoBean MemberCardService memberCardService;
 
     @AfterEach
     void cleanup() {
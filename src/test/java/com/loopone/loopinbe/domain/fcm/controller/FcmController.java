@@ -28,9 +28,13 @@ public class FcmController {
 
     // FCM Token 삭제
     @DeleteMapping
-    @Operation(summary = "FCM Token 삭제", description = "FCM Token을 삭제합니다.")
-    public ApiResponse<Void> deleteFcmToken(@CurrentUser CurrentUserDto currentUser) {
-        fcmTokenService.deleteFcmToken(currentUser.id());
+    @Operation(summary = "FCM Token 삭제", description = "FCM Token을 삭제합니다. fcmToken 을 주면 해당 기기만, 없으면 모든 기기의 토큰을 삭제합니다.")
+    public ApiResponse<Void> deleteFcmToken(@RequestParam(required = false) String fcmToken, @CurrentUser CurrentUserDto currentUser) {
+        if (fcmToken == null) {
+            fcmTokenService.deleteFcmToken(currentUser.id());
+        } else {
+            fcmTokenService.deleteFcmToken(currentUser.id(), fcmToken);
+        }
         return ApiResponse.success();
     }
 }
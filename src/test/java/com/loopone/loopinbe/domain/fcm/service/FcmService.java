@@ -1,7 +1,13 @@
 package com.loopone.loopinbe.domain.fcm.service;
 
 import com.loopone.loopinbe.domain.fcm.dto.res.FcmMessageResponse;
+import com.loopone.loopinbe.domain.fcm.enums.FcmSendStatus;
+
+import java.util.List;
 
 public interface FcmService {
     void sendMessageTo(FcmMessageResponse message);
+
+    // 배치 전송 (sendEach, 최대 500건씩), 입력 순서대로 메시지별 결과 반환
+    List<FcmSendStatus> sendAll(List<FcmMessageResponse> messages);
 }
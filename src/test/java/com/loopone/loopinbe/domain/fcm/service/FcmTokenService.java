@@ -1,12 +1,25 @@
 package com.loopone.loopinbe.domain.fcm.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface FcmTokenService {
-    // FCM Token 조회
-    String getFcmToken(Long memberId);
+    // 멤버의 유효한 FCM Token 목록 조회 (기기별)
+    List<String> getTokens(Long memberId);
+
+    // 여러 멤버의 유효한 FCM Token 일괄 조회 (파이프라인 1회), 토큰 없는 멤버는 결과에서 제외
+    Map<Long, List<String>> getTokens(Collection<Long> memberIds);
 
-    // FCM Token 저장
+    // FCM Token 저장 (새 기기 등록 또는 lastSeen 갱신)
     void saveFcmToken(Long memberId, String fcmToken);
 
-    // FCM Token 삭제
+    // FCM Token 삭제 (멤버의 모든 기기)
     void deleteFcmToken(Long memberId);
+
+    // FCM Token 삭제 (단일 기기)
+    void deleteFcmToken(Long memberId, String fcmToken);
+
+    // FCM 이 무효 판정한 토큰 정리 (memberId → 토큰 목록)
+    void pruneInvalidTokens(Map<Long, ? extends Collection<String>> invalidTokens);
 }
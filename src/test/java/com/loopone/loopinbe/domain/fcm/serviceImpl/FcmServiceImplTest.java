@@ -0,0 +1,129 @@
+package com.loopone.loopinbe.domain.fcm.serviceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.loopone.loopinbe.domain.fcm.dto.res.FcmMessageResponse;
+import com.loopone.loopinbe.domain.fcm.enums.FcmSendStatus;
+import com.loopone.loopinbe.global.concurrency.DownstreamLimiter;
+import com.loopone.loopinbe.global.config.properties.ConcurrencyProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 가짜 FCM 엔드포인트(HttpTransport)로 sendEach 배치 전송과 메시지별 결과 매핑 검증
+// - 토큰 접두사로 응답 결정: bad- → UNREGISTERED(404), busy- → QUOTA_EXCEEDED(429), 그 외 성공
+class FcmServiceImplTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final AtomicInteger requests = new AtomicInteger();
+    private static FirebaseApp app;
+
+    private final FcmServiceImpl fcmService =
+            new FcmServiceImpl(new DownstreamLimiter(new ConcurrencyProperties(null, null, null, null)));
+
+    @BeforeAll
+    static void setUp() {
+        FirebaseOptions options = FirebaseOptions.builder()
+                .setProjectId("test-project")
+                .setCredentials(GoogleCredentials.create(
+                        new AccessToken("test-token", new Date(System.currentTimeMillis() + 3_600_000))))
+                .setHttpTransport(new FakeFcmTransport())
+                .build();
+        app = FirebaseApp.initializeApp(options);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        app.delete();
+    }
+
+    @Test
+    @DisplayName("메시지별 실패 사유를 입력 순서대로 성공/재시도/토큰 만료로 매핑")
+    void sendAll_MapsPerMessageResults() {
+        List<FcmMessageResponse> messages = List.of(
+                message("e1", "ok-1"),
+                message("e2", "bad-2"),
+                message("e3", "busy-3"),
+                message("e4", "ok-4"));
+
+        List<FcmSendStatus> statuses = fcmService.sendAll(messages);
+
+        assertThat(statuses).containsExactly(
+                FcmSendStatus.SENT, FcmSendStatus.INVALID_TOKEN, FcmSendStatus.RETRYABLE, FcmSendStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("500건 초과는 sendEach 여러 번으로 나누어 보내고 결과 수/순서 유지")
+    void sendAll_SplitsIntoProviderBatches() {
+        int size = FcmServiceImpl.MAX_BATCH_SIZE + 20;
+        List<FcmMessageResponse> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(message("e" + i, (i == size - 1 ? "bad-" : "ok-") + i));
+        }
+        int before = requests.get();
+
+        List<FcmSendStatus> statuses = fcmService.sendAll(messages);
+
+        assertThat(requests.get() - before).isEqualTo(size);
+        assertThat(statuses).hasSize(size);
+        assertThat(statuses.subList(0, size - 1)).containsOnly(FcmSendStatus.SENT);
+        assertThat(statuses.get(size - 1)).isEqualTo(FcmSendStatus.INVALID_TOKEN);
+    }
+
+    // ========== 헬퍼 메서드 ==========
+    private static FcmMessageResponse message(String eventId, String token) {
+        return FcmMessageResponse.builder()
+                .eventId(eventId)
+                .targetToken(token)
+                .title("title")
+                .body("body")
+                .build();
+    }
+
+    private static class FakeFcmTransport extends HttpTransport {
+        @Override
+        protected LowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws IOException {
+                    requests.incrementAndGet();
+                    JsonNode body = objectMapper.readTree(getContentAsString());
+                    String token = body.path("message").path("token").asText();
+                    if (token.startsWith("bad-")) return error(404, "NOT_FOUND", "UNREGISTERED");
+                    if (token.startsWith("busy-")) return error(429, "RESOURCE_EXHAUSTED", "QUOTA_EXCEEDED");
+                    return json(200, "{\"name\":\"projects/test-project/messages/" + token + "\"}");
+                }
+            };
+        }
+
+        private static MockLowLevelHttpResponse error(int status, String grpcStatus, String fcmErrorCode) {
+            return json(status, "{\"error\":{\"code\":" + status + ",\"message\":\"fake\",\"status\":\"" + grpcStatus
+                    + "\",\"details\":[{\"@type\":\"type.googleapis.com/google.firebase.fcm.v1.FcmError\","
+                    + "\"errorCode\":\"" + fcmErrorCode + "\"}]}}");
+        }
+
+        private static MockLowLevelHttpResponse json(int status, String content) {
+            return new MockLowLevelHttpResponse()
+                    .setStatusCode(status)
+                    .setContentType("application/json; charset=UTF-8")
+                    .setContent(content);
+        }
+    }
+}
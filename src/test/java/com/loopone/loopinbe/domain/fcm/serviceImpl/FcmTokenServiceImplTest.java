@@ -0,0 +1,147 @@
+package com.loopone.loopinbe.domain.fcm.serviceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FcmTokenServiceImplTest {
+    private static final Duration REFRESH_TOKEN_EXPIRATION = Duration.ofDays(30);
+
+    @Mock StringRedisTemplate stringRedisTemplate;
+
+    FcmTokenServiceImpl fcmTokenService;
+
+    @BeforeEach
+    void setUp() {
+        fcmTokenService = new FcmTokenServiceImpl(stringRedisTemplate);
+        ReflectionTestUtils.setField(fcmTokenService, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("staleTokens: lastSeen 이 refreshToken 만료보다 오래되었거나 읽을 수 없는 토큰은 정리 대상")
+    void staleTokens_ExpiredLastSeen() {
+        long now = System.currentTimeMillis();
+        Map<String, String> entries = Map.of(
+                "fresh", String.valueOf(now - 1_000),
+                "edge", String.valueOf(now - REFRESH_TOKEN_EXPIRATION.toMillis()),
+                "old", String.valueOf(now - REFRESH_TOKEN_EXPIRATION.toMillis() - 1),
+                "broken", "not-a-number");
+
+        assertThat(fcmTokenService.staleTokens(entries, now)).containsExactlyInAnyOrder("old", "broken");
+    }
+
+    @Test
+    @DisplayName("staleTokens: 기기 수가 MAX_DEVICES 를 넘으면 가장 오래 사용하지 않은 토큰부터 정리 대상")
+    void staleTokens_OverMaxDevices() {
+        long now = System.currentTimeMillis();
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < FcmTokenServiceImpl.MAX_DEVICES + 2; i++) {
+            entries.put("t" + i, String.valueOf(now - i * 1_000L));
+        }
+
+        List<String> stale = fcmTokenService.staleTokens(entries, now);
+
+        assertThat(stale).containsExactlyInAnyOrder(
+                "t" + FcmTokenServiceImpl.MAX_DEVICES, "t" + (FcmTokenServiceImpl.MAX_DEVICES + 1));
+    }
+
+    @Test
+    @DisplayName("getTokens: 기기별 해시가 없으면 예전 fcm:{memberId} 토큰을 읽고 해시로 이전")
+    @SuppressWarnings("unchecked")
+    void getTokens_LegacyReadThrough() {
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(List.of(Map.of(), "\"legacy-token\""), List.of());
+
+        Map<Long, List<String>> tokens = fcmTokenService.getTokens(List.of(1L));
+
+        assertThat(tokens).isEqualTo(Map.of(1L, List.of("legacy-token")));
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("getTokens: 기기별 해시가 있으면 예전 key 는 무시하고 이전하지 않음")
+    @SuppressWarnings("unchecked")
+    void getTokens_HashWins() {
+        String lastSeen = String.valueOf(System.currentTimeMillis());
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(List.of(Map.of("device-token", lastSeen), "\"legacy-token\""));
+
+        Map<Long, List<String>> tokens = fcmTokenService.getTokens(List.of(1L));
+
+        assertThat(tokens).isEqualTo(Map.of(1L, List.of("device-token")));
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("deleteFcmToken(전체): 기기별 해시와 예전 fcm:{memberId} key 를 함께 삭제")
+    @SuppressWarnings("unchecked")
+    void deleteAll_AlsoDeletesLegacyKey() {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        given(connection.keyCommands()).willReturn(keyCommands);
+
+        fcmTokenService.deleteFcmToken(1L);
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+        verify(keyCommands).del(bytes("fcm:tokens:1"));
+        verify(keyCommands).del(bytes("fcm:1"));
+    }
+
+    @Test
+    @DisplayName("deleteFcmToken(단일): 예전 key 값이 같은 토큰이면 예전 key 도 삭제")
+    @SuppressWarnings("unchecked")
+    void deleteOne_LegacyKeyMatches() {
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(1L, "\"device-token\""));
+
+        fcmTokenService.deleteFcmToken(1L, "device-token");
+
+        verify(stringRedisTemplate).delete("fcm:1");
+    }
+
+    @Test
+    @DisplayName("deleteFcmToken(단일): 예전 key 가 없거나 다른 토큰이면 그대로 둠")
+    @SuppressWarnings("unchecked")
+    void deleteOne_LegacyKeyDiffers() {
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(1L, "\"other-token\""), Arrays.asList(1L, null));
+
+        fcmTokenService.deleteFcmToken(1L, "device-token");
+        fcmTokenService.deleteFcmToken(1L, "device-token");
+
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    // ====== 헬퍼 ======
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,57 @@
+package com.loopone.loopinbe.domain.loop.ai.cache;
+
+import com.loopone.loopinbe.domain.loop.ai.dto.AiPayload;
+import com.loopone.loopinbe.domain.loop.ai.dto.res.RecommendationsLoop;
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.global.config.properties.AiProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiRecommendationCacheTest {
+    private static final RecommendationsLoop RESPONSE = new RecommendationsLoop("토익 루틴", null, List.of(
+            new LoopCreateRequest("단어 암기", null, RepeatType.NONE, null, null, null, null, List.of("30개"), null)));
+
+    @Test
+    @DisplayName("정확 일치 - 띄어쓰기/문장부호/대소문자 차이는 같은 키")
+    void exactHit_IgnoresFormatting() {
+        AiRecommendationCache cache = cache(false);
+        cache.put(payload("토익 공부 루프 만들어줘!"), RESPONSE);
+
+        assertThat(cache.get(payload("  토익공부 루프   만들어줘"))).isEqualTo(RESPONSE);
+        assertThat(cache.get(payload("토익 공부 루프 만들어 줄래?"))).isNull();
+    }
+
+    @Test
+    @DisplayName("유사 일치 - 임계값 이상이면 적중, 무관한 입력은 미스")
+    void semanticHit_AboveThreshold() {
+        AiRecommendationCache cache = cache(true);
+        cache.put(payload("토익 공부 루프 만들어줘"), RESPONSE);
+
+        assertThat(cache.get(payload("토익 공부 루프 좀 만들어줘"))).isEqualTo(RESPONSE);
+        assertThat(cache.get(payload("아침 운동 루틴 추천해줘"))).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 추천은 캐시하지 않음")
+    void emptyResponse_NotCached() {
+        AiRecommendationCache cache = cache(true);
+        cache.put(payload("토익 공부"), new RecommendationsLoop(null, null, List.of()));
+
+        assertThat(cache.get(payload("토익 공부"))).isNull();
+    }
+
+    private AiRecommendationCache cache(boolean semantic) {
+        return new AiRecommendationCache(new AiProperties(true, new AiProperties.Cache(true, 100L, null, semantic, 0.85)));
+    }
+
+    private AiPayload payload(String content) {
+        return new AiPayload(UUID.randomUUID(), 1L, null, 1L, content, null, Instant.now());
+    }
+}
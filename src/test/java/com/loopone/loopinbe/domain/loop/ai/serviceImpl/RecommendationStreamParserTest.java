@@ -0,0 +1,37 @@
+package com.loopone.loopinbe.domain.loop.ai.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopone.loopinbe.domain.loop.loop.dto.req.LoopCreateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationStreamParserTest {
+    private final ObjectMapper om = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("토큰 단위로 나뉜 응답 - 추천이 완성되는 시점마다 하나씩 반환")
+    void append_EmitsEachCompletedRecommendation() {
+        String raw = """
+                ```json
+                {"title": "아침 {루틴}", "recommendations": [
+                  {"title": "물 마시기 \\"}\\"", "scheduleType": "WEEKLY", "daysOfWeek": ["MONDAY"], "checklists": ["500ml"]},
+                  {"title": "스트레칭", "scheduleType": "NONE", "specificDate": "2026-10-19", "checklists": []}
+                ]}
+                ```""";
+        RecommendationStreamParser parser = new RecommendationStreamParser(om);
+
+        List<LoopCreateRequest> emitted = new ArrayList<>();
+        for (int i = 0; i < raw.length(); i += 3) {
+            emitted.addAll(parser.append(raw.substring(i, Math.min(i + 3, raw.length()))));
+        }
+
+        assertThat(emitted).extracting(LoopCreateRequest::title).containsExactly("물 마시기 \"}\"", "스트레칭");
+        assertThat(parser.text()).isEqualTo(raw);
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopone.loopinbe.domain.loop.loop.repository;
+
+import com.loopone.loopinbe.domain.account.member.entity.Member;
+import com.loopone.loopinbe.domain.loop.loop.entity.Loop;
+import com.loopone.loopinbe.domain.loop.loop.entity.LoopRule;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.domain.loop.loopChecklist.entity.LoopChecklist;
+import com.loopone.loopinbe.support.TestContainersConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 반복 루프 저장이 단건 INSERT가 아닌 JDBC 배치로 나가는지 검증
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LoopBatchInsertTest {
+    private static final List<String> CHECKLISTS = List.of("체크1", "체크2", "체크3");
+
+    @Autowired
+    private LoopRepository loopRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Member testMember;
+
+    @BeforeEach
+    void setUp() {
+        testMember = Member.builder().email("batch@loop.in").nickname("batch").build();
+        em.persist(testMember);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("1년 WEEKLY 루프 저장 - 루프/체크리스트 INSERT가 배치로 묶여 PreparedStatement 수가 행 수보다 훨씬 적다")
+    void weeklyRuleOneYear_InsertsInJdbcBatches() {
+        //given
+        LocalDate start = LocalDate.now();
+        LoopRule rule = LoopRule.builder()
+                .member(testMember)
+                .scheduleType(RepeatType.WEEKLY)
+                .daysOfWeek(EnumSet.allOf(DayOfWeek.class))
+                .startDate(start)
+                .endDate(start.plusYears(1))
+                .build();
+        em.persist(rule);
+        em.flush();
+
+        List<Loop> loops = new ArrayList<>();
+        for (LocalDate d = rule.getStartDate(); !d.isAfter(rule.getEndDate()); d = d.plusDays(1)) {
+            Loop loop = Loop.builder().member(testMember).title("배치").loopDate(d).loopRule(rule).build();
+            CHECKLISTS.forEach(c -> loop.addChecklist(LoopChecklist.builder().content(c).build()));
+            loops.add(loop);
+        }
+        int rows = loops.size() * (1 + CHECKLISTS.size());
+
+        Statistics statistics = em.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        //when
+        loopRepository.saveAll(loops);
+        em.flush();
+
+        //then
+        // 단건 INSERT라면 행마다 PreparedStatement가 하나씩 준비된다.
+        // 배치(batch_size 50) + pooled-lo 시퀀스라면 50행당 INSERT 1개 + 시퀀스 조회 1개 수준이다.
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(rows / 10);
+    }
+}
@@ -0,0 +1,209 @@
+package com.loopone.loopinbe.global.kafka.event.fcm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopone.loopinbe.domain.fcm.dto.res.FcmMessageResponse;
+import com.loopone.loopinbe.domain.fcm.enums.FcmSendStatus;
+import com.loopone.loopinbe.domain.fcm.service.FcmIdempotencyService;
+import com.loopone.loopinbe.domain.fcm.service.FcmService;
+import com.loopone.loopinbe.domain.fcm.service.FcmTokenService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.loopone.loopinbe.global.constants.KafkaKey.FCM_SEND_TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 토큰 접두사로 전송 결과 결정: retry- → RETRYABLE, bad- → INVALID_TOKEN, 그 외 SENT
+@ExtendWith(MockitoExtension.class)
+class FcmEventConsumerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock FcmService fcmService;
+    @Mock FcmIdempotencyService fcmIdempotencyService;
+    @Mock FcmTokenService fcmTokenService;
+    @Captor ArgumentCaptor<List<FcmMessageResponse>> sent;
+
+    FcmEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new FcmEventConsumer(objectMapper, fcmService, fcmIdempotencyService, fcmTokenService);
+    }
+
+    // ====== 헬퍼 ======
+    private static FcmMessageResponse message(String eventId, String token) {
+        return FcmMessageResponse.builder()
+                .eventId(eventId)
+                .memberId(7L)
+                .targetToken(token)
+                .title("title")
+                .body("body")
+                .build();
+    }
+
+    private ConsumerRecord<String, String> record(long offset, Object value) throws JsonProcessingException {
+        String json = value instanceof String s ? s : objectMapper.writeValueAsString(value);
+        return new ConsumerRecord<>(FCM_SEND_TOPIC, 0, offset, null, json);
+    }
+
+    private void givenAcquired(Set<String> duplicates) {
+        given(fcmIdempotencyService.tryAcquireAll(anyList())).willAnswer(inv -> {
+            List<String> eventIds = inv.getArgument(0);
+            return eventIds.stream().map(id -> !duplicates.contains(id)).toList();
+        });
+    }
+
+    private void givenSendResults() {
+        given(fcmService.sendAll(anyList())).willAnswer(inv -> {
+            List<FcmMessageResponse> messages = inv.getArgument(0);
+            return messages.stream().map(m -> m.getTargetToken().startsWith("retry-") ? FcmSendStatus.RETRYABLE
+                    : m.getTargetToken().startsWith("bad-") ? FcmSendStatus.INVALID_TOKEN
+                    : FcmSendStatus.SENT).toList();
+        });
+    }
+
+    private List<String> sentEventIds() {
+        verify(fcmService).sendAll(sent.capture());
+        return sent.getValue().stream().map(FcmMessageResponse::getEventId).toList();
+    }
+
+    @Test
+    @DisplayName("단건 레코드와 배치 커맨드 레코드를 펼쳐 한 번에 전송하고 모두 완료 기록")
+    void flattensBatchRecords() throws Exception {
+        givenAcquired(Set.of());
+        givenSendResults();
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, message("e1", "ok-1")),
+                record(1, List.of(message("e2", "ok-2"), message("e3", "ok-3"))));
+
+        consumer.consumeFcm(records);
+
+        assertThat(sentEventIds()).containsExactly("e1", "e2", "e3");
+        verify(fcmIdempotencyService).markSuccessAll(List.of("e1", "e2", "e3"));
+        verify(fcmIdempotencyService, never()).releaseAll(any());
+    }
+
+    @Test
+    @DisplayName("멱등 선점에 실패한(이미 처리한) 메시지는 전송하지 않음")
+    void skipsDuplicates() throws Exception {
+        givenAcquired(Set.of("e2"));
+        givenSendResults();
+
+        consumer.consumeFcm(List.of(record(0, message("e1", "ok-1")), record(1, message("e2", "ok-2"))));
+
+        assertThat(sentEventIds()).containsExactly("e1");
+        verify(fcmIdempotencyService).markSuccessAll(List.of("e1"));
+    }
+
+    @Test
+    @DisplayName("일시 오류 메시지만 락 해제하고 첫 재시도 레코드 위치로 실패 알림, 나머지는 완료 기록")
+    void retryable_ReleasesAndFailsAtFirstRetryRecord() throws Exception {
+        givenAcquired(Set.of());
+        givenSendResults();
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, message("e1", "ok-1")),
+                record(1, message("e2", "retry-2")),
+                record(2, message("e3", "ok-3")));
+
+        assertThatThrownBy(() -> consumer.consumeFcm(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(fcmIdempotencyService).markSuccessAll(List.of("e1", "e3"));
+        verify(fcmIdempotencyService).releaseAll(List.of("e2"));
+    }
+
+    @Test
+    @DisplayName("무효 토큰은 완료로 기록하고 레지스트리에서 정리")
+    void invalidToken_MarkedDoneAndPruned() throws Exception {
+        givenAcquired(Set.of());
+        givenSendResults();
+
+        consumer.consumeFcm(List.of(record(0, List.of(message("e1", "bad-1"), message("e2", "ok-2")))));
+
+        verify(fcmIdempotencyService).markSuccessAll(List.of("e1", "e2"));
+        verify(fcmTokenService).pruneInvalidTokens(Map.of(7L, Set.of("bad-1")));
+        verify(fcmIdempotencyService, never()).releaseAll(any());
+    }
+
+    @Test
+    @DisplayName("전송 자체가 실패하면 선점한 메시지 락을 모두 해제하고 첫 선점 레코드 위치로 실패 알림")
+    void sendException_ReleasesAllAndFailsAtFirstAcquiredRecord() throws Exception {
+        givenAcquired(Set.of("e1"));
+        given(fcmService.sendAll(anyList())).willThrow(new IllegalStateException("firebase down"));
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, message("e1", "ok-1")),
+                record(1, message("e2", "ok-2")),
+                record(2, message("e3", "ok-3")));
+
+        assertThatThrownBy(() -> consumer.consumeFcm(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(fcmIdempotencyService).releaseAll(List.of("e2", "e3"));
+        verify(fcmIdempotencyService, never()).markSuccessAll(any());
+    }
+
+    @Test
+    @DisplayName("깨진 레코드 앞까지만 전송하고 해당 레코드 위치로 실패 알림 (DLT 대상)")
+    void invalidRecord_SendsPrefixAndFailsAtRecord() throws Exception {
+        givenAcquired(Set.of());
+        givenSendResults();
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, message("e1", "ok-1")),
+                record(1, "not-json"),
+                record(2, message("e3", "ok-3")));
+
+        assertThatThrownBy(() -> consumer.consumeFcm(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+        assertThat(sentEventIds()).containsExactly("e1");
+        verify(fcmIdempotencyService).markSuccessAll(List.of("e1"));
+    }
+
+    @Test
+    @DisplayName("배치 커맨드 안의 잘못된 메시지만 제외하고 나머지는 전송")
+    void invalidEntryInBatch_DroppedOnly() throws Exception {
+        givenAcquired(Set.of());
+        givenSendResults();
+        List<FcmMessageResponse> batch = List.of(message("e1", "ok-1"), message("e2", " "), message(null, "ok-3"));
+
+        consumer.consumeFcm(List.of(record(0, batch)));
+
+        assertThat(sentEventIds()).containsExactly("e1");
+    }
+
+    @Test
+    @DisplayName("poll 당 메시지 상한에 닿으면 남은 레코드는 다음 poll 로 넘김")
+    void messageCap_DefersRemainingRecords() throws Exception {
+        givenAcquired(Set.of());
+        givenSendResults();
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            List<FcmMessageResponse> batch = new ArrayList<>();
+            for (int i = 0; i < FcmEventConsumer.MAX_MESSAGES_PER_POLL / 2; i++) {
+                batch.add(message("e" + r + "-" + i, "ok-" + i));
+            }
+            records.add(record(r, batch));
+        }
+
+        assertThatThrownBy(() -> consumer.consumeFcm(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(2));
+        verify(fcmService).sendAll(sent.capture());
+        assertThat(sent.getValue()).hasSize(FcmEventConsumer.MAX_MESSAGES_PER_POLL);
+    }
+}
@@ -0,0 +1,96 @@
+package com.loopone.loopinbe.global.redis.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopCalendarResponse;
+import com.loopone.loopinbe.domain.loop.loop.dto.res.LoopDetailResponse;
+import com.loopone.loopinbe.domain.loop.loop.enums.RepeatType;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.MonthReportDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.ProgressLoopDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.WeekReportDto;
+import com.loopone.loopinbe.domain.loop.loopReport.dto.res.LoopReportResponse;
+import com.loopone.loopinbe.domain.loop.loopReport.enums.DetailReportState;
+import com.loopone.loopinbe.domain.loop.loopReport.enums.ReportState;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopCalendarCodec;
+import com.loopone.loopinbe.global.redis.serializer.codec.LoopReportCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+    private final ObjectMapper om = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("캘린더 - 바이너리 왕복 후 동일한 값, JSON 대비 크기 감소")
+    void calendar_RoundTrip() {
+        CompactRedisSerializer<LoopCalendarResponse> serializer = new CompactRedisSerializer<>(new LoopCalendarCodec(), 1024);
+        LoopCalendarResponse calendar = calendar();
+
+        byte[] bytes = serializer.serialize(calendar);
+
+        assertThat(serializer.deserialize(bytes)).isEqualTo(calendar);
+        assertThat(bytes.length).isLessThan(new Jackson2JsonRedisSerializer<>(om, LoopCalendarResponse.class).serialize(calendar).length / 10);
+    }
+
+    @Test
+    @DisplayName("리포트 - 압축 임계값을 넘는 값도 왕복 후 동일한 값")
+    void report_RoundTripWithCompression() {
+        CompactRedisSerializer<LoopReportResponse> serializer = new CompactRedisSerializer<>(new LoopReportCodec(), 64);
+        LoopReportResponse report = report();
+
+        byte[] bytes = serializer.serialize(report);
+
+        assertThat(serializer.deserialize(bytes)).isEqualTo(report);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 값은 캐시 미스(null)로 처리")
+    void legacyJson_IsCacheMiss() {
+        CompactRedisSerializer<LoopCalendarResponse> serializer = new CompactRedisSerializer<>(new LoopCalendarCodec(), 1024);
+
+        assertThat(serializer.deserialize("{\"days\":[]}".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    // ========== 테스트 데이터 ==========
+    // 6주(42일) 캘린더
+    private LoopCalendarResponse calendar() {
+        LocalDate start = LocalDate.of(2025, 9, 28);
+        List<LoopCalendarResponse.CalendarDay> days = new ArrayList<>();
+        for (int i = 0; i < 42; i++) {
+            days.add(new LoopCalendarResponse.CalendarDay(start.plusDays(i), i % 3 != 0));
+        }
+        return new LoopCalendarResponse(days);
+    }
+
+    private LoopReportResponse report() {
+        LocalDate today = LocalDate.of(2025, 10, 18);
+        TreeMap<LocalDate, Long> weekCard = new TreeMap<>();
+        for (int i = 6; i >= 0; i--) weekCard.put(today.minusDays(i), (long) (i * 13 % 101));
+        TreeMap<LocalDate, Long> monthCard = new TreeMap<>();
+        for (int i = 29; i >= 0; i--) monthCard.put(today.minusDays(i), (long) (i * 7 % 101));
+
+        LoopDetailResponse.LoopRuleDTO rule = new LoopDetailResponse.LoopRuleDTO(
+                1L, RepeatType.WEEKLY, List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+                today.minusMonths(1), today.plusMonths(2));
+        ProgressLoopDto good = new ProgressLoopDto("아침 운동", rule, 92L, "잘하고 있어요!");
+        ProgressLoopDto bad = new ProgressLoopDto("독서", null, 12L, "조금 더 힘내봐요");
+
+        return new LoopReportResponse(
+                ReportState.GOOD, "이번 주도 순항 중이에요", 5L, 7L, 78L,
+                new WeekReportDto(DetailReportState.BOTH_EXIST, 80L, weekCard, good, bad),
+                new MonthReportDto(DetailReportState.ONLY_GOOD, monthCard, good, null)
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package com.loopone.loopinbe.global.security;
+
+import com.loopone.loopinbe.domain.account.auth.currentUser.CurrentUserDto;
+import com.loopone.loopinbe.domain.account.auth.service.AccessTokenDenyListService;
+import com.loopone.loopinbe.domain.account.auth.service.CurrentUserService;
+import com.loopone.loopinbe.domain.account.auth.service.RefreshTokenService;
+import com.loopone.loopinbe.domain.account.member.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    private static final String TOKEN = "access-token";
+
+    @Mock JwtTokenProvider jwtTokenProvider;
+    @Mock CurrentUserService currentUserService;
+    @Mock RefreshTokenService refreshTokenService;
+    @Mock AccessTokenDenyListService accessTokenDenyListService;
+
+    JwtAuthenticationFilter filter;
+    MockHttpServletRequest request;
+    MockHttpServletResponse response;
+    MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, currentUserService, refreshTokenService,
+                accessTokenDenyListService, new TokenResolver());
+        request = new MockHttpServletRequest("GET", "/rest-api/v1/loops");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN);
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ====== 헬퍼 ======
+    private AccessTokenClaims claims() {
+        Instant now = Instant.now();
+        return new AccessTokenClaims("jun@loop.in", "jti-1", 7L, "jun", Member.MemberRole.ROLE_USER,
+                JwtTokenProvider.CLAIMS_VERSION, now, now.plusSeconds(1800));
+    }
+
+    private CurrentUserDto cu() {
+        return new CurrentUserDto(7L, "jun@loop.in", null, "jun", null, null, null, null,
+                null, Member.MemberRole.ROLE_USER, null, null);
+    }
+
+    @Test
+    @DisplayName("클레임으로 사용자를 구성하면 SecurityContext 에 인증 정보 설정")
+    void validToken_Authenticated() throws Exception {
+        AccessTokenClaims claims = claims();
+        given(jwtTokenProvider.parseAccessToken(TOKEN)).willReturn(claims);
+        given(currentUserService.resolve(claims)).willReturn(cu());
+
+        filter.doFilter(request, response, chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isEqualTo(cu());
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("타입 불일치/만료로 파싱 결과가 null 이면 401 응답 후 체인 중단")
+    void invalidToken_Unauthorized() throws Exception {
+        given(jwtTokenProvider.parseAccessToken(TOKEN)).willReturn(null);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        verify(currentUserService, never()).resolve(any());
+    }
+
+    @Test
+    @DisplayName("Deny-list 에 등록된 jti 는 401 응답")
+    void deniedToken_Unauthorized() throws Exception {
+        given(jwtTokenProvider.parseAccessToken(TOKEN)).willReturn(claims());
+        given(accessTokenDenyListService.isDenied("jti-1")).willReturn(true);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("회원을 찾지 못하면 인증 없이 체인 진행 + Refresh Token 삭제")
+    void unknownMember_Unauthenticated() throws Exception {
+        AccessTokenClaims claims = claims();
+        given(jwtTokenProvider.parseAccessToken(TOKEN)).willReturn(claims);
+        given(currentUserService.resolve(claims)).willReturn(null);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(refreshTokenService).deleteRefreshToken("jun@loop.in");
+    }
+}
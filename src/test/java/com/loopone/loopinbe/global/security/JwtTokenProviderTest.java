@@ -0,0 +1,66 @@
+package com.loopone.loopinbe.global.security;
+
+import com.loopone.loopinbe.domain.account.member.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+    private static final String SECRET_KEY = "9pX/bR/ofnyarJIWySMhnAYjo4b6xrNBCMfEXn4ikQk=";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY);
+
+    private Member member() {
+        return Member.builder().id(7L).email("jun@loop.in").nickname("jun").build();
+    }
+
+    @Test
+    @DisplayName("parseAccessToken: 현재 버전 Access Token은 회원 식별 클레임을 모두 담는다")
+    void parseAccessToken_PrincipalClaims() {
+        String token = jwtTokenProvider.generateAccessToken(member(), Duration.ofMinutes(30));
+
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.hasPrincipalClaims()).isTrue();
+        assertThat(claims.memberId()).isEqualTo(7L);
+        assertThat(claims.email()).isEqualTo("jun@loop.in");
+        assertThat(claims.nickname()).isEqualTo("jun");
+        assertThat(claims.role()).isEqualTo(Member.MemberRole.ROLE_USER);
+        assertThat(claims.jti()).isNotNull();
+        assertThat(claims.issuedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("parseAccessToken: cv 클레임이 없는 과거 토큰은 파싱되지만 클레임만으로 사용자를 구성할 수 없다")
+    void parseAccessToken_LegacyToken() {
+        String token = jwtTokenProvider.generateToken("jun@loop.in", "ACCESS", Duration.ofMinutes(30));
+
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.email()).isEqualTo("jun@loop.in");
+        assertThat(claims.memberId()).isNull();
+        assertThat(claims.claimsVersion()).isNull();
+        assertThat(claims.hasPrincipalClaims()).isFalse();
+    }
+
+    @Test
+    @DisplayName("parseAccessToken: REFRESH 타입 토큰은 null")
+    void parseAccessToken_WrongTokenType() {
+        String token = jwtTokenProvider.generateToken("jun@loop.in", "REFRESH", Duration.ofDays(30));
+
+        assertThat(jwtTokenProvider.parseAccessToken(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("parseAccessToken: 만료된 토큰은 null")
+    void parseAccessToken_Expired() {
+        String token = jwtTokenProvider.generateAccessToken(member(), Duration.ofSeconds(-5));
+
+        assertThat(jwtTokenProvider.parseAccessToken(token)).isNull();
+    }
+}
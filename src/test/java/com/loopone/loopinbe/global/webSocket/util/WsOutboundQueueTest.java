@@ -0,0 +1,148 @@
+package com.loopone.loopinbe.global.webSocket.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class WsOutboundQueueTest {
+    private static final long SEND_TIME_LIMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final List<WebSocketMessage<?>> sent = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private final Queue<Runnable> pendingDrains = new ArrayDeque<>();
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = mock(WebSocketSession.class);
+        given(session.getId()).willReturn("s1");
+        given(session.isOpen()).willAnswer(inv -> open.get());
+        willAnswer(inv -> {
+            open.set(false);
+            return null;
+        }).given(session).close(any(CloseStatus.class));
+    }
+
+    // 드레이너를 바로 돌리지 않고 모아 두는 executor
+    private void runPendingDrains() {
+        Runnable task;
+        while ((task = pendingDrains.poll()) != null) task.run();
+    }
+
+    @Test
+    @DisplayName("적재한 순서대로 한 드레이너가 전송")
+    void drainsInFifoOrder() throws Exception {
+        willAnswer(inv -> sent.add(inv.getArgument(0))).given(session).sendMessage(any());
+        WsOutboundQueue queue = new WsOutboundQueue(session, 10, SEND_TIME_LIMIT_NANOS, pendingDrains::add);
+        List<TextMessage> messages = List.of(new TextMessage("1"), new TextMessage("2"), new TextMessage("3"));
+
+        messages.forEach(queue::offer);
+        assertThat(pendingDrains).hasSize(1);
+        runPendingDrains();
+
+        assertThat(sent).containsExactlyElementsOf(messages);
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 SESSION_NOT_RELIABLE 로 연결 종료")
+    void queueFull_ClosesSession() throws Exception {
+        WsOutboundQueue queue = new WsOutboundQueue(session, 2, SEND_TIME_LIMIT_NANOS, pendingDrains::add);
+
+        assertThat(queue.offer(new TextMessage("1"))).isTrue();
+        assertThat(queue.offer(new TextMessage("2"))).isTrue();
+        assertThat(queue.offer(new TextMessage("3"))).isFalse();
+        assertThat(queue.offer(new TextMessage("4"))).isFalse();
+
+        runPendingDrains();
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(session, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("전송이 sendTimeLimit 이상 멈춰 있으면 다음 적재 시 연결 종료")
+    void stalledSend_ClosesSession() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(inv -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(session).sendMessage(any());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            WsOutboundQueue queue = new WsOutboundQueue(session, 10, SEND_TIME_LIMIT_NANOS, executor);
+
+            assertThat(queue.offer(new TextMessage("1"))).isTrue();
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(SEND_TIME_LIMIT_NANOS) * 2);
+
+            assertThat(queue.offer(new TextMessage("2"))).isFalse();
+            release.countDown();
+            verify(session, timeout(5000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("close 가 블로킹되어도 적재 스레드는 즉시 반환")
+    void blockingClose_DoesNotBlockOffer() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch closing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(inv -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(session).sendMessage(any());
+        willAnswer(inv -> {
+            closing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            open.set(false);
+            return null;
+        }).given(session).close(any(CloseStatus.class));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            WsOutboundQueue queue = new WsOutboundQueue(session, 1, SEND_TIME_LIMIT_NANOS * 100, executor);
+
+            assertThat(queue.offer(new TextMessage("1"))).isTrue();
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queue.offer(new TextMessage("2"))).isTrue();
+
+            boolean accepted = assertTimeout(Duration.ofMillis(500), () -> queue.offer(new TextMessage("3")));
+            assertThat(accepted).isFalse();
+            assertThat(closing.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queue.offer(new TextMessage("4"))).isFalse();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}